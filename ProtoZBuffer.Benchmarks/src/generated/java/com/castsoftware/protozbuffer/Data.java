@@ -0,0 +1,29 @@
+package com.castsoftware.protozbuffer;
+
+import com.castsoftware.protozbuffer.generated.AbstractData;
+import com.castsoftware.protozbuffer.generated.FileStructure.DataHeader;
+
+/**
+*
+*/
+public class Data extends AbstractData
+{
+    /**
+     * 
+     */
+    public Data() 
+    {
+        // NOP
+    }
+
+    /**
+     * @param header
+     *            header
+     * @param posInContent
+     *            position in content
+     */
+    public Data(DataHeader header, long posInContent) 
+    { 
+        super(header, posInContent); 
+    }
+}
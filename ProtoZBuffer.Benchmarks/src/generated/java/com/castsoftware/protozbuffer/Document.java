@@ -0,0 +1,29 @@
+package com.castsoftware.protozbuffer;
+
+import com.castsoftware.protozbuffer.generated.AbstractDocument;
+import com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader;
+
+/**
+*
+*/
+public class Document extends AbstractDocument
+{
+    /**
+     * 
+     */
+    public Document() 
+    {
+        // NOP
+    }
+
+    /**
+     * @param header
+     *            header
+     * @param posInContent
+     *            position in content
+     */
+    public Document(DocumentHeader header, long posInContent) 
+    { 
+        super(header, posInContent); 
+    }
+}
@@ -0,0 +1,29 @@
+package com.castsoftware.protozbuffer;
+
+import com.castsoftware.protozbuffer.generated.AbstractIdentity;
+import com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader;
+
+/**
+*
+*/
+public class Identity extends AbstractIdentity
+{
+    /**
+     * 
+     */
+    public Identity() 
+    {
+        // NOP
+    }
+
+    /**
+     * @param header
+     *            header
+     * @param posInContent
+     *            position in content
+     */
+    public Identity(IdentityHeader header, long posInContent) 
+    { 
+        super(header, posInContent); 
+    }
+}
@@ -0,0 +1,833 @@
+//------------------------------------------------------------------------------
+// <auto-generated>
+//     This code was generated by a tool.
+//
+//     Changes to this file may cause incorrect behavior and will be lost if
+//     the code is regenerated.
+// </auto-generated>
+//------------------------------------------------------------------------------
+package com.castsoftware.protozbuffer.generated;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.castsoftware.protozbuffer.common.IMapper;
+import com.castsoftware.protozbuffer.common.IndexSpliterator;
+import com.castsoftware.protozbuffer.common.IStretchableArray;
+import com.castsoftware.protozbuffer.common.ReadWindow;
+import com.castsoftware.protozbuffer.common.StretchableArray;
+import java.util.Set;
+import com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor;
+import com.castsoftware.protozbuffer.generated.FileStructure.DataHeader;
+import com.castsoftware.protozbuffer.generated.FileStructure.DataHeaderOrBuilder;
+import com.castsoftware.protozbuffer.Data;
+import com.castsoftware.protozbuffer.common.BoundedLazyArray;
+import com.castsoftware.protozbuffer.common.DirectParser;
+import com.castsoftware.protozbuffer.common.ForkJoinTasks;
+import com.castsoftware.protozbuffer.common.HeaderCache;
+import com.castsoftware.protozbuffer.common.IFormat;
+import com.castsoftware.protozbuffer.common.IIOStream;
+import com.castsoftware.protozbuffer.common.LazyArray;
+import com.castsoftware.protozbuffer.common.LongArray;
+import com.castsoftware.protozbuffer.common.Metrics;
+import com.castsoftware.protozbuffer.common.Verification;
+
+import com.castsoftware.protozbuffer.Identity;
+
+@SuppressWarnings("all")
+public abstract class AbstractData implements ProtoOrBuilder
+{
+    private ProtoOrBuilder _root;
+    private ProtoOrBuilder _parent;
+    private int _fieldId = -1; // field's ID as defined in the protozbuf.xml file (=> the .proto file)
+    private int _index = -1; // instance's _index in the _parent's list
+
+    public ProtoOrBuilder getParent() { return _parent; }
+    public void setParent(ProtoOrBuilder parent)
+    {
+        _parent = parent;
+        _root = _parent.getRoot();
+    }
+
+    public int getFieldId() { return _fieldId; }
+    public void setFieldId(int fieldId) { _fieldId = fieldId; }
+    public int getIndex() { return _index; }
+    public void setIndex(int index) { _index = index; }
+    
+
+    private List<Integer> _coordinates; // set when decoded through a direct reference, without its parents
+
+    protected DataHeaderOrBuilder _header;
+    protected long _positionInContent = -1;
+
+    public long getPositionInContent() { return _positionInContent; }
+    public void setPositionInContent(long positionInContent) { _positionInContent = positionInContent; }
+
+    private volatile Identity _identification;
+    private volatile Identity _secretIdentity;
+    
+    /**
+    * Data stored in the document
+    **/
+    protected AbstractData()
+    {
+        _header = DataHeader.newBuilder();
+        _positionInContent = -1;
+        flush();
+    }
+
+    /**
+    * Data stored in the document
+    **/
+    protected AbstractData(DataHeader header, long positionInContent)
+    {
+        _header = header;
+        _positionInContent = positionInContent;
+        flush();
+    }
+
+    
+    @Override
+    public ProtoOrBuilder getRoot() { return _root; }
+
+    @Override
+    public ProtoOrBuilder decode(LocalMessageDescriptor field)
+    {
+        return decode(field.getCoordinateList(), 0);
+    }
+
+    @Override
+    public ProtoOrBuilder decode(List<Integer> coordinates, int index)
+    {
+        if (coordinates.isEmpty())
+            return null;
+
+        int fieldIdIdx = index;
+        int fieldIndexIdx = index + 1;
+        int remainderIdx = index + 2;
+        switch(coordinates.get(fieldIdIdx))
+        {
+            case 1:
+                return coordinates.size() == remainderIdx ? getIdentification() : getIdentification().decode(coordinates, remainderIdx);
+            case 2:
+                  return coordinates.size() == remainderIdx ? addSecretIdentity() : getSecretIdentity().decode(coordinates, remainderIdx);
+            case 3:
+                return getReviewers(coordinates.get(fieldIndexIdx));
+            case 4:
+                  return getApprover();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public ProtoOrBuilder resolve(LocalMessageDescriptor field)
+    {
+        return getRoot().resolve(field);
+    }
+
+    @Override
+    public List<ProtoOrBuilder> resolve(List<LocalMessageDescriptor> fields)
+    {
+        return getRoot().resolve(fields);
+    }
+
+    static ProtoOrBuilder decodeAt(ProtoOrBuilder root, List<Integer> coordinates, int index, long pos)
+    {
+        int remainderIdx = index + 2;
+        if (coordinates.size() < remainderIdx)
+            return null;
+
+        switch(coordinates.get(index))
+        {
+            case 1:
+                return coordinates.size() == remainderIdx ? AbstractIdentity.parseAt(root, coordinates, pos) : AbstractIdentity.decodeAt(root, coordinates, remainderIdx, pos);
+            case 2:
+                return coordinates.size() == remainderIdx ? AbstractIdentity.parseAt(root, coordinates, pos) : AbstractIdentity.decodeAt(root, coordinates, remainderIdx, pos);
+            default:
+                return null;
+        }
+    }
+
+    static Data parseAt(ProtoOrBuilder root, List<Integer> coordinates, long pos)
+    {
+        Data parsed = parseFrom(root.getContentStream(), pos);
+        if (parsed == null)
+            return null;
+
+        // the parents aren't decoded: the object keeps its coordinates instead
+        AbstractData attached = parsed;
+        attached._root = root;
+        attached._fieldId = coordinates.get(coordinates.size() - 2);
+        attached._index = coordinates.get(coordinates.size() - 1);
+        attached._coordinates = new ArrayList<Integer>(coordinates);
+        return parsed;
+    }
+
+    @Override
+    public void setRelocation(long positionInContent, long positionInOutput)
+    {
+        getRoot().setRelocation(positionInContent, positionInOutput);
+    }
+
+    @Override
+    public long getRelocation(long positionInContent)
+    {
+        return getRoot().getRelocation(positionInContent);
+    }
+
+    @Override
+    public void keepReplaced(long positionInContent)
+    {
+        getRoot().keepReplaced(positionInContent);
+    }
+
+    @Override
+    public void addCoordinates(List<Integer> coordinates)
+    {
+        if (_coordinates != null)
+        {
+            coordinates.addAll(0, _coordinates);
+            return;
+        }
+
+        coordinates.add(0, getFieldId());
+        coordinates.add(1, getIndex());
+
+        if (getParent() == null)
+            return;
+
+        getParent().addCoordinates(coordinates);
+    }
+
+    @Override
+    public LocalMessageDescriptor getLocalMessageDescriptor()
+    {
+        List<Integer> coordinates = new ArrayList<Integer>();
+        addCoordinates(coordinates);
+
+        LocalMessageDescriptor.Builder b = LocalMessageDescriptor.newBuilder();
+        b.addAllCoordinate(coordinates);
+        return b.build();
+    }
+
+    protected DataHeader.Builder getBuilder() { return (DataHeader.Builder)_header; }
+
+    // ESCA-JAVA0029:
+    public boolean isBuilt() { return !(_header instanceof DataHeader.Builder); }
+
+
+    public void preBuild()
+    {
+        // use this method to customize the build process
+    }
+
+    @Override
+    public IIOStream getContentStream() 
+    {
+        return getRoot().getContentStream();
+    }
+
+    /**
+    * Reopens this built object for modification, with its ancestors: the setters can be used again.
+    * The next build of the root appends the new headers of the edited objects and of their ancestors
+    * to the content stream, then a new root header: the untouched data is left in place.
+    * The holders of offset-encoded references to the edited objects are written again too: to find them,
+    * the build reads the headers of all the objects that may hold such references.
+    **/
+    @Override
+    public void edit()
+    {
+        if (!isBuilt())
+            return;
+
+        if (_parent == null)
+            throw new IllegalStateException("Only an object decoded through its parent can be edited");
+
+        // the parent's header holds the position of this one: it is written again too
+        _parent.edit();
+        _parent.keepEdited(_fieldId, _index, this);
+
+        // decoded now: the build clears its position from the builder
+        if (_header.hasIdentification())
+            getIdentification();
+
+        // decoded now: the build clears its position from the builder
+        if (_header.hasSecretIdentity())
+            getSecretIdentity();
+
+        _header = ((DataHeader)_header).toBuilder();
+    }
+
+    @Override
+    public void keepEdited(int fieldId, int index, ProtoOrBuilder child)
+    {
+        switch (fieldId)
+        {
+            case 1:
+                _identification = (Identity)child;
+                break;
+            case 2:
+                _secretIdentity = (Identity)child;
+                break;
+        }
+    }
+
+    // after edit(): the built objects holding an offset to a replaced header are edited too, to locate their targets again
+    protected void repointOffsets(Set<Long> replaced)
+    {
+        if (isBuilt())
+        {
+            DataHeader header = (DataHeader)_header;
+            boolean stale = false;
+            for (int i = 0; i < header.getReviewersCount(); i++)
+                stale |= header.getReviewers(i).hasOffset() && replaced.contains(header.getReviewers(i).getOffset());
+            stale |= header.hasApprover() && header.getApprover().hasOffset() && replaced.contains(header.getApprover().getOffset());
+            if (stale)
+                edit();
+        }
+    }
+
+    /**
+    * Decodes the header at pos, and the ones of its subtree, without keeping them
+    * @param limit position of the parent's header: the children are written before it
+    **/
+    static void verifyAt(IIOStream content, long pos, long limit, Verification verification, boolean parallel) throws IOException
+    {
+        DataHeader header = null;
+        if (pos >= 0 && pos < limit)
+        {
+            try
+            {
+                header = DirectParser.parseDelimited(content, pos, DataHeader.PARSER);
+                if (header == null)
+                    header = DataHeader.parseDelimitedFrom(content.getInputStreamAt(pos));
+            }
+            catch (IOException ex)
+            {
+                // reported below
+            }
+        }
+
+        if (header == null)
+        {
+            verification.reportBad(pos);
+            return;
+        }
+
+        verification.countHeader();
+        verifyChildren(content, pos, header, verification, parallel);
+    }
+
+    static void verifyChildren(final IIOStream content, final long pos, DataHeader header, final Verification verification, final boolean parallel) throws IOException
+    {
+        List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();
+        if (header.hasIdentification())
+        {
+            final long child = header.getIdentification();
+            tasks.add(new ForkJoinTasks.ITask() {
+                @Override
+                public void run() throws IOException
+                {
+                    AbstractIdentity.verifyAt(content, child, pos, verification, parallel);
+                }
+            });
+        }
+        if (header.hasSecretIdentity())
+        {
+            final long child = header.getSecretIdentity();
+            tasks.add(new ForkJoinTasks.ITask() {
+                @Override
+                public void run() throws IOException
+                {
+                    AbstractIdentity.verifyAt(content, child, pos, verification, parallel);
+                }
+            });
+        }
+
+        if (parallel)
+        {
+            ForkJoinTasks.invokeAll(tasks);
+            return;
+        }
+
+        for (ForkJoinTasks.ITask task : tasks)
+            task.run();
+    }
+
+    public void build() throws IOException
+    {
+        build(getContentStream(), false);
+    }
+
+    /**
+    * @param parallel build the sibling subtrees concurrently, with fork-join.
+    * The headers are then written in the order their subtrees complete: the content is equivalent
+    * to the one of a sequential build, but not byte-identical.
+    **/
+    public void build(boolean parallel) throws IOException
+    {
+        build(getContentStream(), false, parallel);
+    }
+
+    public void build(IIOStream content, boolean saveToOutput) throws IOException
+    {
+        build(content, saveToOutput, false);
+    }
+
+    @Override
+    public void build(IIOStream content, boolean saveToOutput, boolean parallel) throws IOException
+    {
+        boolean alreadyBuilt = isBuilt();
+        if (alreadyBuilt && !saveToOutput)
+            return;
+
+        // prebuild hook
+        preBuild();
+
+        DataHeader.Builder builder = null;
+        if (alreadyBuilt)
+        {
+            builder = DataHeader.newBuilder((DataHeader) _header);
+        }
+        else
+        {
+            builder = getBuilder();
+        }
+
+        // parallel build of the children still in memory: the completed ones are already in the content stream
+        if (parallel && !alreadyBuilt && !saveToOutput)
+        {
+            List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();
+            addBuildTask(tasks, getIdentification(), content);
+            addBuildTask(tasks, getSecretIdentity(), content);
+            ForkJoinTasks.invokeAll(tasks);
+        }
+        builder.clearIdentification();
+        builder.clearSecretIdentity();
+
+        Identity tmp_identification = getIdentification();
+        if (tmp_identification != null) 
+        { 
+            long oldPos = tmp_identification.getPositionInContent();
+            tmp_identification.build(content, saveToOutput); 
+            builder.setIdentification(tmp_identification.getPositionInContent());
+            if (alreadyBuilt)
+                tmp_identification.setPositionInContent(oldPos);
+        }
+
+        Identity tmp_secretIdentity = getSecretIdentity();
+        if (tmp_secretIdentity != null) 
+        { 
+            long oldPos = tmp_secretIdentity.getPositionInContent();
+            tmp_secretIdentity.build(content, saveToOutput); 
+            builder.setSecretIdentity(tmp_secretIdentity.getPositionInContent());
+            if (alreadyBuilt)
+                tmp_secretIdentity.setPositionInContent(oldPos);
+        }
+
+        for (int i = 0; i < builder.getReviewersCount(); i++)
+            builder.setReviewers(i, locate(builder.getReviewers(i), saveToOutput, parallel));
+
+        if (builder.hasApprover())
+            builder.setApprover(locate(builder.getApprover(), saveToOutput, parallel));
+
+        DataHeader builtHeader = builder.build();
+
+        // write the header
+        // Note: sibling subtrees may be built in parallel: the position and the write go together
+        synchronized (content)
+        {
+            OutputStream output = content.getOutputStream();
+
+            // if we write to output, the position in the content stream
+            // will be restored when writing the parent header
+            // => this is not possible (and not needed) for root message
+            boolean isRoot = false;
+            boolean dontSavePos = saveToOutput && isRoot;
+            if (!dontSavePos)
+                setPositionInContent(content.getPosition());
+
+            builtHeader.writeDelimitedTo(output);
+        }
+
+        if (!alreadyBuilt && !saveToOutput)
+        {
+            _header = builtHeader;
+            flush();
+        }
+
+        if (alreadyBuilt && saveToOutput)
+        {
+            flush();
+        }
+    }
+
+    private static void addBuildTask(List<ForkJoinTasks.ITask> tasks, final ProtoOrBuilder item, final IIOStream content)
+    {
+        if (item == null)
+            return;
+
+        tasks.add(new ForkJoinTasks.ITask() {
+            @Override
+            public void run() throws IOException
+            {
+                item.build(content, false, true);
+            }
+        });
+    }
+
+    private LocalMessageDescriptor locate(LocalMessageDescriptor field, boolean saveToOutput, boolean parallel)
+    {
+        // the targets are copied in the order of the first build: only the ones that had an offset are already copied
+        if (saveToOutput)
+            return relocate(field, field.hasOffset() ? field.getOffset() : -1);
+
+        // Note: during a parallel build, the target may be being built by another thread
+        return locate(field, parallel ? null : getRoot().decode(field));
+    }
+
+    // writeDelimitedTo(): the offset is the position of the copy of the target, once it is written to the output
+    private LocalMessageDescriptor relocate(LocalMessageDescriptor field, long positionInContent)
+    {
+        LocalMessageDescriptor.Builder located = field.toBuilder().clearOffset();
+        long positionInOutput = positionInContent >= 0 ? getRelocation(positionInContent) : -1;
+        if (positionInOutput >= 0)
+            located.setOffset(positionInOutput);
+        return located.build();
+    }
+
+    private static LocalMessageDescriptor locate(LocalMessageDescriptor field, ProtoOrBuilder target)
+    {
+        // the offset is known once the target is built in the content stream,
+        // otherwise the reference keeps its coordinates only
+        LocalMessageDescriptor.Builder located = field.toBuilder().clearOffset();
+        if (target != null && target.getPositionInContent() >= 0)
+            located.setOffset(target.getPositionInContent());
+        return located.build();
+    }
+
+    public void flush()
+    {
+        _identification = null;
+        _secretIdentity = null;
+    }
+
+    public static Data parseFrom(IIOStream strm, long pos)
+    {
+        try
+        {
+            // a position of a stream always holds the same header: it may already have been decoded
+            HeaderCache cache = HeaderCache.getShared();
+            DataHeader header = cache != null ? (DataHeader)cache.get(strm, pos) : null;
+            if (Metrics.ENABLED && cache != null)
+            {
+                if (header != null)
+                    Metrics.getShared().countHit(Metrics.E_Cache.Header);
+                else
+                    Metrics.getShared().countMiss(Metrics.E_Cache.Header);
+            }
+            if (header == null)
+            {
+                // in place from the buffers of the stream when it holds them in memory
+                header = DirectParser.parseDelimited(strm, pos, DataHeader.PARSER);
+                if (header == null)
+                {
+                    InputStream input = strm.getInputStreamAt(pos);
+                    header = DataHeader.parseDelimitedFrom(input);
+                }
+                assert header != null : "Can't decode header!";
+                if (Metrics.ENABLED)
+                    Metrics.getShared().countHeader("Data");
+
+                if (cache != null && header != null)
+                    cache.put(strm, pos, header, header.getSerializedSize());
+            }
+
+            Data parsed = new Data(header, pos);
+            return parsed;
+        } 
+        catch (IOException ex)
+        {
+            assert false : "Can't decode header!";
+            return null;
+        }
+    }
+
+    /**
+    * Decodes the header at pos from input, already positioned at pos
+    **/
+    public static Data parseFrom(InputStream input, long pos) throws IOException
+    {
+        DataHeader header = DataHeader.parseDelimitedFrom(input);
+        if (header == null)
+            throw new EOFException("No header at position " + pos);
+        if (Metrics.ENABLED)
+            Metrics.getShared().countHeader("Data");
+        return new Data(header, pos);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == null)
+            return false;
+
+        if (!other.getClass().equals(getClass()))
+            return false;
+
+        AbstractData that = (AbstractData)other;
+
+        boolean result = (_fieldId == that._fieldId) && (_index == that._index);
+
+        if(!result)
+            return false;
+
+        if (_coordinates != null || that._coordinates != null)
+            return _coordinates != null && _coordinates.equals(that._coordinates);
+
+        if (_parent == null)
+            return that._parent == null;
+
+        return _parent.equals(that._parent);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 17;
+        if (_parent != null)
+            hashCode = 31 * hashCode + _parent.hashCode();
+        if (_coordinates != null)
+            hashCode = 31 * hashCode + _coordinates.hashCode();
+        hashCode = 31 * hashCode + _fieldId;
+        hashCode = 31 * hashCode + _index;
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        String ret = System.getProperty("line.separator");
+        return toString(new BaseFormat(0,ret));
+    }
+
+    @Override
+    public String toString(IFormat format)
+    {
+        StringBuilder bd = new StringBuilder();
+        format.formatHeader(bd,"Data");
+
+        format.formatField(bd,"Identification", getIdentification());
+        format.formatField(bd,"SecretIdentity", hasSecretIdentity() ? getSecretIdentity() : null);
+
+        format.formatField(bd,"reviewers", getReviewersList());
+
+        format.formatField(bd,"Approver", hasApprover() ? getApprover() : null);
+
+        format.formatFooter(bd);
+        return bd.toString();
+    }
+
+        /**
+        * 
+        **/
+        public Identity getIdentification()
+        {
+            Identity lIdentification = _identification;
+            if (lIdentification == null)
+            {
+                synchronized (this)
+                {
+                    lIdentification = _identification;
+                    if (lIdentification == null)
+                    {
+                        if (isBuilt())
+                        {
+                            lIdentification = Identity.parseFrom(getContentStream(), _header.getIdentification());
+                            if (lIdentification==null)
+                                return null;
+                        }
+                        else
+                        {
+                            lIdentification = new Identity();
+                        }
+                        lIdentification.setFieldId(1);
+                        lIdentification.setParent(this);
+                        _identification = lIdentification;
+                    }
+                }
+            }
+            return lIdentification;
+        }
+
+        /**
+        * 
+        **/
+        public Identity addSecretIdentity()
+        {
+            if (_secretIdentity == null)
+            {
+                if (isBuilt() && hasSecretIdentity())
+                {
+                    getSecretIdentity(); // decode from body
+                }
+                else
+                {
+                    assert !isBuilt() : "Can't modify an already built object!";
+                    _secretIdentity = new Identity();
+                    _secretIdentity.setFieldId(2);
+                    _secretIdentity.setParent(this);
+                }
+            }
+            return _secretIdentity;
+        }
+
+        /**
+        * 
+        **/
+        public Identity getSecretIdentity()
+        {
+            Identity lSecretIdentity = _secretIdentity;
+            if (lSecretIdentity == null && isBuilt() && hasSecretIdentity())
+            {
+                synchronized (this)
+                {
+                    lSecretIdentity = _secretIdentity;
+                    if (lSecretIdentity == null)
+                    {
+                        lSecretIdentity = Identity.parseFrom(getContentStream(), _header.getSecretIdentity());
+                        if (lSecretIdentity==null)
+                            return null;
+                        lSecretIdentity.setFieldId(2);
+                        lSecretIdentity.setParent(this);
+                        _secretIdentity = lSecretIdentity;
+                    }
+                }
+            }
+            return lSecretIdentity;
+        }
+
+        /**
+        * 
+        **/
+        public boolean hasSecretIdentity()
+        {
+            return (isBuilt() && _header.hasSecretIdentity()) || (!isBuilt() && _secretIdentity != null);
+        }
+
+        /**
+        * 
+        **/
+        public void clearSecretIdentity()
+        {
+            assert !isBuilt() : "Can't modify an already built object!";
+            _secretIdentity = null;
+        }
+
+    /**
+    * 
+    **/
+    public void addReviewers(Identity item)
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+        if (getRoot() != item.getRoot())
+            throw new IllegalArgumentException("All objects have to share the same root");
+        getBuilder().addReviewers(item.getLocalMessageDescriptor());
+    }
+
+    /**
+    * 
+    **/
+    public void removeReviewers(Identity item)
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+        getBuilder().getReviewersBuilderList().remove(item.getLocalMessageDescriptor());
+    }
+
+    /**
+    * 
+    **/
+    public Identity getReviewers(int index)
+    {
+        return (Identity)getRoot().resolve(_header.getReviewers(index));
+    }
+
+    /**
+    * 
+    **/
+    public List<Identity> getReviewersList()
+    {
+        return getReviewersList(0, getReviewersCount());
+    }
+
+    /**
+    * 
+    * Resolves the references from index from (inclusive) to index to (exclusive) at once
+    **/
+    public List<Identity> getReviewersList(int from, int to)
+    {
+        List<Identity> l = new ArrayList<Identity>();
+        for (ProtoOrBuilder item : getRoot().resolve(_header.getReviewersList().subList(from, to)))
+            l.add((Identity)item);
+        return l;
+    }
+
+    /**
+    * 
+    **/
+    public int getReviewersCount()
+    {
+        return _header.getReviewersCount();
+    }
+
+    /**
+    * 
+    **/
+    public boolean hasApprover()
+    {
+        return _header.hasApprover();
+    }      
+
+    /**
+    * 
+    **/
+    public void clearApprover()
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+        getBuilder().clearApprover();
+    }
+
+    /**
+    * 
+    **/
+    public Identity getApprover()
+    {
+        return (Identity)getRoot().resolve(_header.getApprover());
+    }
+
+    /**
+    * 
+    **/
+    public void setApprover(Identity value)
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+        if (getRoot() != value.getRoot())
+            throw new IllegalArgumentException("All objects have to share the same root");
+        getBuilder().setApprover(value.getLocalMessageDescriptor());
+    }
+
+}
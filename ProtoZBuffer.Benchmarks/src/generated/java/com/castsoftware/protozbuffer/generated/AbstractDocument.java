@@ -0,0 +1,1678 @@
+//------------------------------------------------------------------------------
+// <auto-generated>
+//     This code was generated by a tool.
+//
+//     Changes to this file may cause incorrect behavior and will be lost if
+//     the code is regenerated.
+// </auto-generated>
+//------------------------------------------------------------------------------
+package com.castsoftware.protozbuffer.generated;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.castsoftware.protozbuffer.common.IMapper;
+import com.castsoftware.protozbuffer.common.IndexSpliterator;
+import com.castsoftware.protozbuffer.common.IStretchableArray;
+import com.castsoftware.protozbuffer.common.ReadWindow;
+import com.castsoftware.protozbuffer.common.StretchableArray;
+import java.util.Arrays;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.castsoftware.protozbuffer.common.ByteArrayIOStream;
+import com.castsoftware.protozbuffer.common.ReferenceCache;
+import java.util.HashSet;
+import com.castsoftware.protozbuffer.common.RelocationTable;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Comparator;
+import com.castsoftware.protozbuffer.common.HashIndex;
+import com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor;
+import com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader;
+import com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeaderOrBuilder;
+import com.castsoftware.protozbuffer.Document;
+import com.castsoftware.protozbuffer.common.BoundedLazyArray;
+import com.castsoftware.protozbuffer.common.DirectParser;
+import com.castsoftware.protozbuffer.common.ForkJoinTasks;
+import com.castsoftware.protozbuffer.common.HeaderCache;
+import com.castsoftware.protozbuffer.common.IFormat;
+import com.castsoftware.protozbuffer.common.IIOStream;
+import com.castsoftware.protozbuffer.common.LazyArray;
+import com.castsoftware.protozbuffer.common.LongArray;
+import com.castsoftware.protozbuffer.common.Metrics;
+import com.castsoftware.protozbuffer.common.Verification;
+
+import com.castsoftware.protozbuffer.Data;
+import com.castsoftware.protozbuffer.Identity;
+
+@SuppressWarnings("all")
+public abstract class AbstractDocument implements ProtoOrBuilder
+{
+    protected IIOStream _contentStream;
+    protected ReferenceCache _references = new ReferenceCache(); // resolved references, emptied by flush()
+    private RelocationTable _relocations; // while writeDelimitedTo() runs: positions of the copied reference targets
+    private Set<Long> _replaced; // after edit(): previous positions of the edited reference targets, until the build
+    protected DocumentHeaderOrBuilder _header;
+    protected long _positionInContent = -1;
+
+    public long getPositionInContent() { return _positionInContent; }
+    public void setPositionInContent(long positionInContent) { _positionInContent = positionInContent; }
+
+    private IStretchableArray<Data> _dataList;
+    private LongArray _dataStreamed; // positions of the first data, written by completeData() or kept by edit() before the build
+    private IStretchableArray<Data> _dataEdited; // those of the first data modified through edit(), until the build
+    private IStretchableArray<Identity> _peopleList;
+    private LongArray _peopleStreamed; // positions of the first people, written by completePeople() or kept by edit() before the build
+    private IStretchableArray<Identity> _peopleEdited; // those of the first people modified through edit(), until the build
+    private volatile HashIndex _peopleByNameTable; // opened by the first findPeopleByName()
+    
+    /**
+    * Root node of the benchmarked documents
+    **/
+    protected AbstractDocument()
+    {
+        _header = DocumentHeader.newBuilder();
+        _positionInContent = -1;
+        flush();
+    }
+
+    /**
+    * Root node of the benchmarked documents
+    **/
+    protected AbstractDocument(DocumentHeader header, long positionInContent)
+    {
+        _header = header;
+        _positionInContent = positionInContent;
+        flush();
+    }
+
+    
+    @Override
+    public ProtoOrBuilder getRoot() { return this; }
+
+    @Override
+    public ProtoOrBuilder decode(LocalMessageDescriptor field)
+    {
+        return decode(field.getCoordinateList(), 0);
+    }
+
+    @Override
+    public ProtoOrBuilder decode(List<Integer> coordinates, int index)
+    {
+        if (coordinates.isEmpty())
+            return null;
+
+        int fieldIdIdx = index;
+        int fieldIndexIdx = index + 1;
+        int remainderIdx = index + 2;
+        switch(coordinates.get(fieldIdIdx))
+        {
+            case 1:
+                return coordinates.size() == remainderIdx ? getData(coordinates.get(fieldIndexIdx)) : getData(coordinates.get(fieldIndexIdx)).decode(coordinates, remainderIdx);
+            case 2:
+                return coordinates.size() == remainderIdx ? getPeople(coordinates.get(fieldIndexIdx)) : getPeople(coordinates.get(fieldIndexIdx)).decode(coordinates, remainderIdx);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public ProtoOrBuilder resolve(LocalMessageDescriptor field)
+    {
+        // before the build, the objects are in memory and may still move
+        if (!isBuilt())
+            return decode(field);
+
+        List<Integer> coordinates = field.getCoordinateList();
+        ProtoOrBuilder resolved = (ProtoOrBuilder)_references.get(coordinates);
+        if (Metrics.ENABLED)
+        {
+            Metrics metrics = Metrics.getShared();
+            metrics.countReference(coordinates.size());
+            if (resolved != null)
+                metrics.countHit(Metrics.E_Cache.Reference);
+            else
+                metrics.countMiss(Metrics.E_Cache.Reference);
+        }
+        if (resolved == null)
+        {
+            resolved = field.hasOffset() ? decodeAt(this, coordinates, 0, field.getOffset()) : decode(coordinates, 0);
+            if (resolved != null)
+                _references.put(coordinates, resolved);
+        }
+        return resolved;
+    }
+
+    @Override
+    public List<ProtoOrBuilder> resolve(List<LocalMessageDescriptor> fields)
+    {
+        List<List<Integer>> coordinates = new ArrayList<List<Integer>>(fields.size());
+        for (LocalMessageDescriptor field : fields)
+            coordinates.add(field.getCoordinateList());
+
+        // resolve the references sharing a path one after the other
+        ProtoOrBuilder[] resolved = new ProtoOrBuilder[fields.size()];
+        for (int i : ReferenceCache.resolutionOrder(coordinates))
+            resolved[i] = resolve(fields.get(i));
+        return Arrays.asList(resolved);
+    }
+
+    static ProtoOrBuilder decodeAt(ProtoOrBuilder root, List<Integer> coordinates, int index, long pos)
+    {
+        int remainderIdx = index + 2;
+        if (coordinates.size() < remainderIdx)
+            return null;
+
+        switch(coordinates.get(index))
+        {
+            case 1:
+                return coordinates.size() == remainderIdx ? AbstractData.parseAt(root, coordinates, pos) : AbstractData.decodeAt(root, coordinates, remainderIdx, pos);
+            case 2:
+                return coordinates.size() == remainderIdx ? AbstractIdentity.parseAt(root, coordinates, pos) : AbstractIdentity.decodeAt(root, coordinates, remainderIdx, pos);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setRelocation(long positionInContent, long positionInOutput)
+    {
+        if (_relocations != null)
+            _relocations.put(positionInContent, positionInOutput);
+    }
+
+    @Override
+    public long getRelocation(long positionInContent)
+    {
+        return _relocations != null ? _relocations.get(positionInContent) : -1;
+    }
+
+    @Override
+    public void keepReplaced(long positionInContent)
+    {
+        if (_replaced == null)
+            _replaced = new HashSet<Long>();
+        _replaced.add(positionInContent);
+    }
+
+    @Override
+    public void addCoordinates(List<Integer> coordinates)
+    {
+    }
+
+    @Override
+    public LocalMessageDescriptor getLocalMessageDescriptor()
+    {
+        List<Integer> coordinates = new ArrayList<Integer>();
+        addCoordinates(coordinates);
+
+        LocalMessageDescriptor.Builder b = LocalMessageDescriptor.newBuilder();
+        b.addAllCoordinate(coordinates);
+        return b.build();
+    }
+
+    protected DocumentHeader.Builder getBuilder() { return (DocumentHeader.Builder)_header; }
+
+    // ESCA-JAVA0029:
+    public boolean isBuilt() { return !(_header instanceof DocumentHeader.Builder); }
+
+
+    public void preBuild()
+    {
+        // use this method to customize the build process
+    }
+
+    @Override
+    public IIOStream getContentStream() 
+    {
+        if (_contentStream == null)
+            _contentStream = new ByteArrayIOStream();
+        return _contentStream;
+    }
+
+    public void setContentStream(IIOStream contentStream)
+    {
+        assert _contentStream == null;
+        _contentStream = contentStream;
+    }
+
+    /**
+    * Reopens this built object for modification, with its ancestors: the setters can be used again.
+    * The next build of the root appends the new headers of the edited objects and of their ancestors
+    * to the content stream, then a new root header: the untouched data is left in place.
+    * The holders of offset-encoded references to the edited objects are written again too: to find them,
+    * the build reads the headers of all the objects that may hold such references.
+    **/
+    @Override
+    public void edit()
+    {
+        if (!isBuilt())
+            return;
+
+        _references.clear();
+
+        // the Data stay in the content stream, unless they are edited
+        int n_data = _header.getDataCount();
+        _dataStreamed = new LongArray(n_data);
+        for (int i = 0; i < n_data; i++)
+            _dataStreamed.add(_header.getData(i));
+        _dataList = new StretchableArray<Data>();
+
+        // the People stay in the content stream, unless they are edited
+        int n_people = _header.getPeopleCount();
+        _peopleStreamed = new LongArray(n_people);
+        for (int i = 0; i < n_people; i++)
+            _peopleStreamed.add(_header.getPeople(i));
+        _peopleList = new StretchableArray<Identity>();
+
+        _header = ((DocumentHeader)_header).toBuilder();
+    }
+
+    @Override
+    public void keepEdited(int fieldId, int index, ProtoOrBuilder child)
+    {
+        switch (fieldId)
+        {
+            case 1:
+                if (_dataEdited == null)
+                    _dataEdited = new StretchableArray<Data>();
+                if (index < _dataStreamed.size())
+                    _dataEdited.set(index, (Data)child);
+                break;
+            case 2:
+                if (_peopleEdited == null)
+                    _peopleEdited = new StretchableArray<Identity>();
+                if (index < _peopleStreamed.size())
+                    _peopleEdited.set(index, (Identity)child);
+                break;
+        }
+    }
+
+    // after edit(): the built objects holding an offset to a replaced header are edited too, to locate their targets again
+    protected void repointOffsets(Set<Long> replaced)
+    {
+
+        for (int i = 0; i < getDataCount(); i++)
+            getData(i).repointOffsets(replaced);
+    }
+
+    /**
+    * Decodes every header reachable from the root, without keeping them, with fork-join when parallel.
+    * With a BlockCompressedIOStream with checksums, the blocks holding the headers are verified on the way.
+    * A stream whose input streams share a cursor (see IIOStream.supportsConcurrentReads()) is verified by a single thread.
+    * @return the number of headers decoded, and the lowest position of a header that can't be decoded
+    * or isn't written before its parent's
+    **/
+    public Verification verify(boolean parallel) throws IOException
+    {
+        assert isBuilt() : "Only a built document can be verified!";
+
+        IIOStream content = getContentStream();
+        if (!content.supportsConcurrentReads())
+            parallel = false;
+
+        Verification verification = new Verification();
+        verification.countHeader();
+        verifyChildren(content, getPositionInContent(), (DocumentHeader)_header, verification, parallel);
+        return verification;
+    }
+
+    /**
+    * Verifies the document stored in strm: see verify(boolean).
+    * When the root header can't be decoded, its position is reported, or the one of the trailer
+    * if the trailer doesn't locate it.
+    **/
+    public static Verification verify(IIOStream strm, boolean parallel) throws IOException
+    {
+        Document root = null;
+        try
+        {
+            root = parseFrom(strm);
+        }
+        catch (IOException ex)
+        {
+            // reported below
+        }
+        catch (RuntimeException ex)
+        {
+            // e.g. a trailer giving a position out of the stream: reported below
+        }
+
+        if (root != null && root._header != null)
+            return root.verify(parallel);
+
+        Verification verification = new Verification();
+        verification.reportBad(rootPositionOf(strm));
+        return verification;
+    }
+
+    /**
+    * @return the position of the root header given by the trailer of strm, or the one of the trailer
+    * if it can't be read or locates no position of the stream
+    **/
+    private static long rootPositionOf(IIOStream strm)
+    {
+        int size = Integer.SIZE/Byte.SIZE;
+        long trailer = 0;
+        try
+        {
+            // the position of the end of the stream, whether getPosition() is the read or the write one
+            strm.getInputStreamAt(0, IIOStream.E_SeekOrigin.End);
+            trailer = Math.max(strm.getPosition() - size, 0);
+
+            InputStream input = strm.getInputStreamAt(-size, IIOStream.E_SeekOrigin.End);
+            int msgSize = CodedInputStream.newInstance(input).readFixed32();
+            long pos = trailer - msgSize - CodedOutputStream.computeInt32SizeNoTag(msgSize);
+            return pos >= 0 && pos < trailer ? pos : trailer;
+        }
+        catch (IOException ex)
+        {
+            return trailer;
+        }
+        catch (RuntimeException ex)
+        {
+            return trailer;
+        }
+    }
+
+    static void verifyChildren(final IIOStream content, final long pos, DocumentHeader header, final Verification verification, final boolean parallel) throws IOException
+    {
+        List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();
+        for (int i = 0; i < header.getDataCount(); i++)
+        {
+            final long child = header.getData(i);
+            tasks.add(new ForkJoinTasks.ITask() {
+                @Override
+                public void run() throws IOException
+                {
+                    AbstractData.verifyAt(content, child, pos, verification, parallel);
+                }
+            });
+        }
+        for (int i = 0; i < header.getPeopleCount(); i++)
+        {
+            final long child = header.getPeople(i);
+            tasks.add(new ForkJoinTasks.ITask() {
+                @Override
+                public void run() throws IOException
+                {
+                    AbstractIdentity.verifyAt(content, child, pos, verification, parallel);
+                }
+            });
+        }
+
+        if (parallel)
+        {
+            ForkJoinTasks.invokeAll(tasks);
+            return;
+        }
+
+        for (ForkJoinTasks.ITask task : tasks)
+            task.run();
+    }
+
+    public void build() throws IOException
+    {
+        build(getContentStream(), false);
+    }
+
+    /**
+    * @param parallel build the sibling subtrees concurrently, with fork-join.
+    * The headers are then written in the order their subtrees complete: the content is equivalent
+    * to the one of a sequential build, but not byte-identical.
+    **/
+    public void build(boolean parallel) throws IOException
+    {
+        build(getContentStream(), false, parallel);
+    }
+
+    public void build(IIOStream content, boolean saveToOutput) throws IOException
+    {
+        build(content, saveToOutput, false);
+    }
+
+    @Override
+    public void build(IIOStream content, boolean saveToOutput, boolean parallel) throws IOException
+    {
+        boolean alreadyBuilt = isBuilt();
+        if (alreadyBuilt && !saveToOutput)
+            return;
+
+        // prebuild hook
+        preBuild();
+
+        if (_replaced != null && !saveToOutput)
+        {
+            int replaced;
+            do
+            {
+                replaced = _replaced.size();
+                repointOffsets(_replaced);
+            }
+            while (_replaced.size() != replaced);
+            _replaced = null;
+        }
+
+        DocumentHeader.Builder builder = null;
+        if (alreadyBuilt)
+        {
+            builder = DocumentHeader.newBuilder((DocumentHeader) _header);
+        }
+        else
+        {
+            builder = getBuilder();
+        }
+
+        // parallel build of the children still in memory: the completed ones are already in the content stream
+        if (parallel && !alreadyBuilt && !saveToOutput)
+        {
+            List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();
+            for (int i = _dataStreamed.size(); i < getDataCount(); i++)
+                addBuildTask(tasks, getData(i), content);
+            for (int i = _peopleStreamed.size(); i < getPeopleCount(); i++)
+                addBuildTask(tasks, getPeople(i), content);
+            ForkJoinTasks.invokeAll(tasks);
+        }
+        builder.clearData();
+        builder.clearPeople();
+        
+        int n_data = getDataCount();
+        for (int i = 0; i < n_data; i++)
+        {
+            if (!alreadyBuilt && !saveToOutput && i < _dataStreamed.size() && (_dataEdited == null || _dataEdited.get(i) == null))
+            {
+                // completed beforehand, or untouched since edit(): already in the content stream
+                builder.addData(_dataStreamed.get(i));
+                continue;
+            }
+
+            Data ldata = getData(i);
+            long oldPos = ldata.getPositionInContent();
+            ldata.build(content, saveToOutput);
+            builder.addData(ldata.getPositionInContent());
+            if (alreadyBuilt || saveToOutput)
+                ldata.setPositionInContent(oldPos);
+        }
+        
+        int n_people = getPeopleCount();
+        for (int i = 0; i < n_people; i++)
+        {
+            if (!alreadyBuilt && !saveToOutput && i < _peopleStreamed.size() && (_peopleEdited == null || _peopleEdited.get(i) == null))
+            {
+                // completed beforehand, or untouched since edit(): already in the content stream
+                builder.addPeople(_peopleStreamed.get(i));
+                continue;
+            }
+
+            Identity lpeople = getPeople(i);
+            long oldPos = lpeople.getPositionInContent();
+            lpeople.build(content, saveToOutput);
+            builder.addPeople(lpeople.getPositionInContent());
+            if (alreadyBuilt || saveToOutput)
+                lpeople.setPositionInContent(oldPos);
+        }
+
+        // the indexed items are read from the content stream with its lock held:
+        // in a parallel build, sibling subtrees are appending to it
+        synchronized (getContentStream())
+        {
+            buildIndexes(builder, content, alreadyBuilt, saveToOutput);
+        }
+
+        DocumentHeader builtHeader = builder.build();
+
+        // write the header
+        // Note: sibling subtrees may be built in parallel: the position and the write go together
+        synchronized (content)
+        {
+            OutputStream output = content.getOutputStream();
+
+            // if we write to output, the position in the content stream
+            // will be restored when writing the parent header
+            // => this is not possible (and not needed) for root message
+            boolean isRoot = true;
+            boolean dontSavePos = saveToOutput && isRoot;
+            if (!dontSavePos)
+                setPositionInContent(content.getPosition());
+
+            builtHeader.writeDelimitedTo(output);
+
+            CodedOutputStream codedStream = CodedOutputStream.newInstance(output, Integer.SIZE/Byte.SIZE);
+            codedStream.writeFixed32NoTag(builtHeader.getSerializedSize());
+            codedStream.flush();
+        }
+
+        if (!alreadyBuilt && !saveToOutput)
+        {
+            _header = builtHeader;
+            flush();
+        }
+
+        if (alreadyBuilt && saveToOutput)
+        {
+            flush();
+        }
+    }
+
+    private void buildIndexes(DocumentHeader.Builder builder, IIOStream content, boolean alreadyBuilt, boolean saveToOutput) throws IOException
+    {
+
+        if (alreadyBuilt)
+        {
+            // the table holds no position: its bytes are copied as is
+            if (builder.hasPeopleByName())
+                builder.setPeopleByName(HashIndex.copy(getContentStream(), builder.getPeopleByName(), content));
+        }
+        else
+        {
+            // the hashes of the people untouched since edit() are read from the previous table
+            int[] tmp_PeopleByNameHashes = new int[getPeopleCount()];
+            int kept_PeopleByName = 0;
+            if (builder.hasPeopleByName() && _peopleStreamed.size() > 0)
+            {
+                kept_PeopleByName = _peopleStreamed.size();
+                System.arraycopy(HashIndex.open(getContentStream(), builder.getPeopleByName()).hashes(kept_PeopleByName), 0, tmp_PeopleByNameHashes, 0, kept_PeopleByName);
+            }
+            for (int i = 0; i < tmp_PeopleByNameHashes.length; i++)
+            {
+                if (i >= kept_PeopleByName || (_peopleEdited != null && _peopleEdited.get(i) != null))
+                    tmp_PeopleByNameHashes[i] = hashPeopleByName(getPeople(i).getFirstName());
+            }
+            builder.setPeopleByName(HashIndex.write(content, tmp_PeopleByNameHashes));
+        }
+
+        if (!alreadyBuilt)
+        {
+            // the entries of the people untouched since edit() are kept, already sorted
+            int n_PeopleByFirstName = getPeopleCount();
+            boolean[] kept_PeopleByFirstName = new boolean[n_PeopleByFirstName];
+            List<LocalMessageDescriptor> entries_PeopleByFirstName = new ArrayList<LocalMessageDescriptor>();
+            List<String> keys_PeopleByFirstName = new ArrayList<String>();
+            for (int i = 0; i < builder.getPeopleByFirstNameCount(); i++)
+            {
+                int index = itemIndexOf(builder.getPeopleByFirstName(i));
+                if (index < _peopleStreamed.size() && (_peopleEdited == null || _peopleEdited.get(index) == null))
+                {
+                    kept_PeopleByFirstName[index] = true;
+                    entries_PeopleByFirstName.add(builder.getPeopleByFirstName(i));
+                    keys_PeopleByFirstName.add(builder.getPeopleByFirstNameKeys(i));
+                }
+            }
+
+            List<Identity> tmp_PeopleByFirstNameList = new ArrayList<Identity>();
+            for (int i = 0; i < n_PeopleByFirstName; i++)
+            {
+                if (!kept_PeopleByFirstName[i])
+                    tmp_PeopleByFirstNameList.add(getPeople(i));
+            }
+            Collections.sort(tmp_PeopleByFirstNameList, new Comparator<Identity>() {
+                @Override
+                public int compare(Identity o1, Identity o2) {
+                    return comparePeopleByFirstNameKeys(o1.getFirstName(), o2.getFirstName());
+                }
+            });
+
+            // the others are merged in: each one goes after the kept entries whose key isn't greater
+            builder.clearPeopleByFirstName();
+            builder.clearPeopleByFirstNameKeys();
+            int next_PeopleByFirstName = 0;
+            for(Identity lpeople : tmp_PeopleByFirstNameList)
+            {
+                int lo = next_PeopleByFirstName;
+                int hi = entries_PeopleByFirstName.size();
+                while (lo < hi)
+                {
+                    int mid = (lo + hi) >>> 1;
+                    if (comparePeopleByFirstNameKeys(keys_PeopleByFirstName.get(mid), lpeople.getFirstName()) <= 0)
+                        lo = mid + 1;
+                    else
+                        hi = mid;
+                }
+                for (; next_PeopleByFirstName < lo; next_PeopleByFirstName++)
+                {
+                    builder.addPeopleByFirstName(saveToOutput ? locate(entries_PeopleByFirstName.get(next_PeopleByFirstName), true, false) : entries_PeopleByFirstName.get(next_PeopleByFirstName));
+                    builder.addPeopleByFirstNameKeys(keys_PeopleByFirstName.get(next_PeopleByFirstName));
+                }
+                builder.addPeopleByFirstName(saveToOutput ? relocate(lpeople.getLocalMessageDescriptor(), lpeople.getPositionInContent()) : locate(lpeople.getLocalMessageDescriptor(), lpeople));
+                builder.addPeopleByFirstNameKeys(lpeople.getFirstName());
+            }
+            for (; next_PeopleByFirstName < entries_PeopleByFirstName.size(); next_PeopleByFirstName++)
+            {
+                builder.addPeopleByFirstName(saveToOutput ? locate(entries_PeopleByFirstName.get(next_PeopleByFirstName), true, false) : entries_PeopleByFirstName.get(next_PeopleByFirstName));
+                builder.addPeopleByFirstNameKeys(keys_PeopleByFirstName.get(next_PeopleByFirstName));
+            }
+        }
+        else
+        {
+            // the items are copied before this object: the entries take the positions of their copies
+            for (int i = 0; i < builder.getPeopleByFirstNameCount(); i++)
+                builder.setPeopleByFirstName(i, locate(builder.getPeopleByFirstName(i), saveToOutput, false));
+        }
+    }
+
+    private static void addBuildTask(List<ForkJoinTasks.ITask> tasks, final ProtoOrBuilder item, final IIOStream content)
+    {
+        if (item == null)
+            return;
+
+        tasks.add(new ForkJoinTasks.ITask() {
+            @Override
+            public void run() throws IOException
+            {
+                item.build(content, false, true);
+            }
+        });
+    }
+
+    // position in its list of the item targeted by an index entry
+    private static int itemIndexOf(LocalMessageDescriptor entry)
+    {
+        return entry.getCoordinate(entry.getCoordinateCount() - 1);
+    }
+
+    private LocalMessageDescriptor locate(LocalMessageDescriptor field, boolean saveToOutput, boolean parallel)
+    {
+        // the targets are copied in the order of the first build: only the ones that had an offset are already copied
+        if (saveToOutput)
+            return relocate(field, field.hasOffset() ? field.getOffset() : -1);
+
+        // Note: during a parallel build, the target may be being built by another thread
+        return locate(field, parallel ? null : getRoot().decode(field));
+    }
+
+    // writeDelimitedTo(): the offset is the position of the copy of the target, once it is written to the output
+    private LocalMessageDescriptor relocate(LocalMessageDescriptor field, long positionInContent)
+    {
+        LocalMessageDescriptor.Builder located = field.toBuilder().clearOffset();
+        long positionInOutput = positionInContent >= 0 ? getRelocation(positionInContent) : -1;
+        if (positionInOutput >= 0)
+            located.setOffset(positionInOutput);
+        return located.build();
+    }
+
+    private static LocalMessageDescriptor locate(LocalMessageDescriptor field, ProtoOrBuilder target)
+    {
+        // the offset is known once the target is built in the content stream,
+        // otherwise the reference keeps its coordinates only
+        LocalMessageDescriptor.Builder located = field.toBuilder().clearOffset();
+        if (target != null && target.getPositionInContent() >= 0)
+            located.setOffset(target.getPositionInContent());
+        return located.build();
+    }
+
+    public void writeDelimitedTo(IIOStream output) throws IOException
+    {
+        _relocations = new RelocationTable();
+        try
+        {
+            build(output, true);
+        }
+        finally
+        {
+            _relocations = null;
+        }
+    }
+
+    /**
+    * Copies the live tree of this built document to output: the headers left unreachable by edit()
+    * or by previous writeDelimitedTo() aren't copied. Each header is decoded and encoded again, subtree
+    * by subtree, and the loaded objects are flushed once copied; the hash tables are copied as byte ranges.
+    * Note: the offset-encoded references take the positions of the copies of their targets, as recorded
+    * in a RelocationTable of at most RelocationTable.getDefaultMaxEntries() entries; the references to
+    * the targets not recorded (past that bound, or coming after them) keep their coordinates only.
+    * @return the number of bytes reclaimed
+    **/
+    public long compactTo(IIOStream output) throws IOException
+    {
+        assert isBuilt() : "Only a built document can be compacted!";
+
+        long before = sizeOf(getContentStream());
+        long start = sizeOf(output);
+        writeDelimitedTo(output);
+        return before - (sizeOf(output) - start);
+    }
+
+    private static long sizeOf(IIOStream stream)
+    {
+        synchronized (stream)
+        {
+            stream.getOutputStream();
+            return stream.getPosition();
+        }
+    }
+
+    public byte[] writeDelimitedToBytes()
+    {
+        try
+        {
+            ByteArrayIOStream stream = new ByteArrayIOStream();
+            writeDelimitedTo(stream);
+            return stream.toByteArray();
+        } 
+        catch (IOException e)
+        {
+            return new byte[0];
+        }
+    }
+
+    public void flush()
+    {
+        _references.clear();
+        _dataList = !isBuilt() ? new StretchableArray<Data>() : createDataCache();
+        _dataStreamed = !isBuilt() ? new LongArray() : null;
+        _dataEdited = null;
+        _peopleList = !isBuilt() ? new StretchableArray<Identity>() : createPeopleCache();
+        _peopleStreamed = !isBuilt() ? new LongArray() : null;
+        _peopleEdited = null;
+        _peopleByNameTable = null;
+    }
+
+    /**
+    * Creates the cache of the decoded Data of a built object: a LazyArray, unless BoundedLazyArray.setDefaultCapacity()
+    * bounds the caches. Override it to tune the cache of this field
+    **/
+    protected IStretchableArray<Data> createDataCache()
+    {
+        return BoundedLazyArray.create();
+    }
+
+    /**
+    * Creates the cache of the decoded People of a built object: a LazyArray, unless BoundedLazyArray.setDefaultCapacity()
+    * bounds the caches. Override it to tune the cache of this field
+    **/
+    protected IStretchableArray<Identity> createPeopleCache()
+    {
+        return BoundedLazyArray.create();
+    }
+
+    public static Document parseFrom(IIOStream strm) throws IOException
+    {
+        // the root is always at the end of the stream
+        // Note: the trailer holds the size of the root header, so it stays a fixed32
+        int size = Integer.SIZE/Byte.SIZE;
+        long offset = -size;
+
+        InputStream input = strm.getInputStreamAt(offset, IIOStream.E_SeekOrigin.End);
+
+        int msgSize = CodedInputStream.newInstance(input).readFixed32();
+        offset -= msgSize + CodedOutputStream.computeInt32SizeNoTag(msgSize);
+            
+        input = strm.getInputStreamAt(offset, IIOStream.E_SeekOrigin.End);
+        long pos = strm.getPosition();
+
+        Document newDocument = new Document();
+        newDocument.setContentStream(strm);
+        newDocument.setPositionInContent(pos);
+        newDocument._header = DocumentHeader.parseDelimitedFrom(input);
+        if (Metrics.ENABLED)
+            Metrics.getShared().countHeader("Document");
+        return newDocument;
+    }
+
+    public static Document parseFrom(byte[] bytes)
+    {
+        try
+        {
+            return parseFrom(new ByteArrayIOStream(bytes));
+        }
+        catch(IOException e)
+        {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == null)
+            return false;
+
+        if (!other.getClass().equals(getClass()))
+            return false;
+
+        AbstractDocument that = (AbstractDocument)other;
+
+        return true;
+
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 17;
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        String ret = System.getProperty("line.separator");
+        return toString(new BaseFormat(0,ret));
+    }
+
+    @Override
+    public String toString(IFormat format)
+    {
+        StringBuilder bd = new StringBuilder();
+        format.formatHeader(bd,"Document");
+
+        format.formatField(bd,"data", iterateData());
+
+        format.formatField(bd,"people", iteratePeople());
+
+        format.formatFooter(bd);
+        return bd.toString();
+    }
+
+    /**
+    * The data itself
+    **/
+    public Data addData()
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+
+        Data item = new Data();
+        item.setFieldId(1);
+        item.setIndex(getDataCount());
+        item.setParent(this);
+        _dataList.add(item);
+        return item;
+    }
+
+    /**
+    * The data itself
+    * Builds the Data added so far into the content stream, and drops them from memory:
+    * only their positions are kept until this object is built. They can't be modified anymore.
+    **/
+    public void completeData() throws IOException
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+
+        IIOStream content = getContentStream();
+        for (int i = 0; i < _dataList.size(); i++)
+        {
+            Data item = _dataList.get(i);
+            item.build(content, false);
+            _dataStreamed.add(item.getPositionInContent());
+        }
+        _dataList = new StretchableArray<Data>();
+    }
+
+    /**
+    * The data itself
+    **/
+    public List<Data> getDataList()
+    {
+        List<Data> l = new ArrayList<Data>();
+        int n = getDataCount();
+        for(int i = 0; i < n; i++)
+            l.add(getData(i));
+        return l;
+    }
+
+    /**
+    * The data itself
+    **/
+    public Data getData(int index)
+    {
+        if (index >= getDataCount()) return null;
+
+        if (!isBuilt() && index < _dataStreamed.size())
+        {
+            // edited: kept in memory until the build
+            Data edited = _dataEdited != null ? _dataEdited.get(index) : null;
+            if (edited != null)
+                return edited;
+
+            // completed: decoded from the content stream each time
+            Data lData = Data.parseFrom(getContentStream(), _dataStreamed.get(index));
+            if (lData != null)
+            {
+                lData.setFieldId(1);
+                lData.setIndex(index);
+                lData.setParent(this);
+            }
+            return lData;
+        }
+
+        Data lData = _dataList.get(!isBuilt() ? index - _dataStreamed.size() : index);
+        if (Metrics.ENABLED && isBuilt())
+        {
+            if (lData != null)
+                Metrics.getShared().countHit(Metrics.E_Cache.Lazy);
+            else
+                Metrics.getShared().countMiss(Metrics.E_Cache.Lazy);
+        }
+        if (lData == null)
+        {
+            lData = Data.parseFrom(getContentStream(), _header.getData(index));
+            if (lData==null) 
+                return null;
+            lData.setFieldId(1);
+            lData.setIndex(index);
+            lData.setParent(this);
+            // another thread may have decoded it meanwhile: keep the first one
+            lData = _dataList.setIfAbsent(index, lData);
+        }
+        return lData;
+    }
+
+    /**
+    * The data itself
+    **/
+    public int getDataCount()
+    {
+        return !isBuilt()? _dataStreamed.size() + _dataList.size() : _header.getDataCount();
+    }
+
+    /**
+    * The data itself
+    * Decodes the Data from index from (inclusive) to index to (exclusive) into the cache of decoded Data:
+    * their headers are read by increasing position, with one read of the content stream per run of close positions.
+    **/
+    public void prefetchData(int from, int to) throws IOException
+    {
+        if (!isBuilt())
+            return;
+
+        // the Data not decoded yet, by position
+        List<Integer> indexes = new ArrayList<Integer>();
+        for (int i = Math.max(from, 0); i < Math.min(to, getDataCount()); i++)
+        {
+            if (_dataList.get(i) == null)
+                indexes.add(i);
+        }
+        Collections.sort(indexes, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2)
+            {
+                long p1 = _header.getData(o1);
+                long p2 = _header.getData(o2);
+                return p1 < p2 ? -1 : (p1 == p2 ? 0 : 1);
+            }
+        });
+
+        long[] positions = new long[indexes.size()];
+        for (int i = 0; i < positions.length; i++)
+            positions[i] = _header.getData(indexes.get(i));
+
+        ReadWindow window = new ReadWindow(getContentStream(), positions);
+        for (int i = 0; i < positions.length; i++)
+        {
+            int index = indexes.get(i);
+            long pos = positions[i];
+            Data lData = Data.parseFrom(window.getDelimitedInputStreamAt(pos), pos);
+            lData.setFieldId(1);
+            lData.setIndex(index);
+            lData.setParent(this);
+            _dataList.setIfAbsent(index, lData);
+        }
+    }
+
+    /**
+    * The data itself
+    * Same as getData(index), but a Data that isn't decoded yet isn't kept in the cache of decoded Data
+    **/
+    public Data peekData(int index)
+    {
+        if (!isBuilt() || index >= getDataCount())
+            return getData(index);
+
+        Data lData = _dataList.get(index);
+        if (lData == null)
+        {
+            lData = Data.parseFrom(getContentStream(), _header.getData(index));
+            if (lData == null)
+                return null;
+            lData.setFieldId(1);
+            lData.setIndex(index);
+            lData.setParent(this);
+        }
+        return lData;
+    }
+
+    /**
+    * The data itself
+    * Iterates over the Data without building a list: they are decoded on demand with peekData(index),
+    * so that a full scan uses constant memory.
+    **/
+    public Iterable<Data> iterateData()
+    {
+        return iterateData(0, getDataCount());
+    }
+
+    /**
+    * The data itself
+    * Iterates over the Data from index from (inclusive) to index to (exclusive), see iterateData()
+    **/
+    public Iterable<Data> iterateData(final int from, final int to)
+    {
+        return new Iterable<Data>() {
+            @Override
+            public Iterator<Data> iterator()
+            {
+                return new Iterator<Data>() {
+                    private int _next = from;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return _next < to;
+                    }
+
+                    @Override
+                    public Data next()
+                    {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        return peekData(_next++);
+                    }
+
+                    @Override
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+    * The data itself
+    * Splits the Data on ranges of consecutive indexes, each Data being decoded on demand with peekData(index)
+    **/
+    public Spliterator<Data> spliteratorData()
+    {
+        return new IndexSpliterator<Data>(new IntFunction<Data>() {
+            @Override
+            public Data apply(int index)
+            {
+                return peekData(index);
+            }
+        }, 0, getDataCount());
+    }
+
+    /**
+    * The data itself
+    * Streams the Data from spliteratorData(): they are decoded on demand, and not kept in the cache of decoded Data.
+    * getDataStream().parallel() decodes them from several threads: the content stream must then support concurrent reads.
+    **/
+    public Stream<Data> getDataStream()
+    {
+        return StreamSupport.stream(spliteratorData(), false);
+    }
+
+    /**
+    * The data itself
+    * Splits the Data into count ranges of consecutive indexes, see iterateData(from, to).
+    * Each range can be scanned by its own thread if the content stream supports concurrent reads:
+    * every Data is then decoded from its own view of the stream.
+    **/
+    public List<Iterable<Data>> partitionData(int count)
+    {
+        int n = getDataCount();
+        count = Math.max(1, Math.min(count, n));
+
+        List<Iterable<Data>> parts = new ArrayList<Iterable<Data>>(count);
+        for (int i = 0; i < count; i++)
+            parts.add(iterateData((int)((long)n * i / count), (int)((long)n * (i + 1) / count)));
+        return parts;
+    }
+
+    /**
+    * The data itself
+    * Maps the Data in parallel, with fork-join: each task scans one range of partitionData(count).
+    * The content stream must support concurrent reads. The values are returned in the order of the Data.
+    **/
+    public <U> List<U> mapData(final IMapper<Data, U> mapper) throws IOException
+    {
+        List<List<U>> results = new ArrayList<List<U>>();
+        List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();
+        for (final Iterable<Data> part : partitionData(Runtime.getRuntime().availableProcessors() * 4))
+        {
+            final List<U> result = new ArrayList<U>();
+            results.add(result);
+            tasks.add(new ForkJoinTasks.ITask() {
+                @Override
+                public void run()
+                {
+                    for (Data item : part)
+                    {
+                        for (U value : mapper.map(item))
+                            result.add(value);
+                    }
+                }
+            });
+        }
+        ForkJoinTasks.invokeAll(tasks);
+
+        List<U> values = new ArrayList<U>();
+        for (List<U> result : results)
+            values.addAll(result);
+        return values;
+    }
+
+    /**
+    * Identities referenced by the data
+    **/
+    public Identity addPeople()
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+
+        Identity item = new Identity();
+        item.setFieldId(2);
+        item.setIndex(getPeopleCount());
+        item.setParent(this);
+        _peopleList.add(item);
+        return item;
+    }
+
+    /**
+    * Identities referenced by the data
+    * Builds the People added so far into the content stream, and drops them from memory:
+    * only their positions are kept until this object is built. They can't be modified anymore.
+    **/
+    public void completePeople() throws IOException
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+
+        IIOStream content = getContentStream();
+        for (int i = 0; i < _peopleList.size(); i++)
+        {
+            Identity item = _peopleList.get(i);
+            item.build(content, false);
+            _peopleStreamed.add(item.getPositionInContent());
+        }
+        _peopleList = new StretchableArray<Identity>();
+    }
+
+    /**
+    * Identities referenced by the data
+    **/
+    public List<Identity> getPeopleList()
+    {
+        List<Identity> l = new ArrayList<Identity>();
+        int n = getPeopleCount();
+        for(int i = 0; i < n; i++)
+            l.add(getPeople(i));
+        return l;
+    }
+
+    /**
+    * Identities referenced by the data
+    **/
+    public Identity getPeople(int index)
+    {
+        if (index >= getPeopleCount()) return null;
+
+        if (!isBuilt() && index < _peopleStreamed.size())
+        {
+            // edited: kept in memory until the build
+            Identity edited = _peopleEdited != null ? _peopleEdited.get(index) : null;
+            if (edited != null)
+                return edited;
+
+            // completed: decoded from the content stream each time
+            Identity lPeople = Identity.parseFrom(getContentStream(), _peopleStreamed.get(index));
+            if (lPeople != null)
+            {
+                lPeople.setFieldId(2);
+                lPeople.setIndex(index);
+                lPeople.setParent(this);
+            }
+            return lPeople;
+        }
+
+        Identity lPeople = _peopleList.get(!isBuilt() ? index - _peopleStreamed.size() : index);
+        if (Metrics.ENABLED && isBuilt())
+        {
+            if (lPeople != null)
+                Metrics.getShared().countHit(Metrics.E_Cache.Lazy);
+            else
+                Metrics.getShared().countMiss(Metrics.E_Cache.Lazy);
+        }
+        if (lPeople == null)
+        {
+            lPeople = Identity.parseFrom(getContentStream(), _header.getPeople(index));
+            if (lPeople==null) 
+                return null;
+            lPeople.setFieldId(2);
+            lPeople.setIndex(index);
+            lPeople.setParent(this);
+            // another thread may have decoded it meanwhile: keep the first one
+            lPeople = _peopleList.setIfAbsent(index, lPeople);
+        }
+        return lPeople;
+    }
+
+    /**
+    * Identities referenced by the data
+    **/
+    public int getPeopleCount()
+    {
+        return !isBuilt()? _peopleStreamed.size() + _peopleList.size() : _header.getPeopleCount();
+    }
+
+    /**
+    * Identities referenced by the data
+    * Decodes the People from index from (inclusive) to index to (exclusive) into the cache of decoded People:
+    * their headers are read by increasing position, with one read of the content stream per run of close positions.
+    **/
+    public void prefetchPeople(int from, int to) throws IOException
+    {
+        if (!isBuilt())
+            return;
+
+        // the People not decoded yet, by position
+        List<Integer> indexes = new ArrayList<Integer>();
+        for (int i = Math.max(from, 0); i < Math.min(to, getPeopleCount()); i++)
+        {
+            if (_peopleList.get(i) == null)
+                indexes.add(i);
+        }
+        Collections.sort(indexes, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2)
+            {
+                long p1 = _header.getPeople(o1);
+                long p2 = _header.getPeople(o2);
+                return p1 < p2 ? -1 : (p1 == p2 ? 0 : 1);
+            }
+        });
+
+        long[] positions = new long[indexes.size()];
+        for (int i = 0; i < positions.length; i++)
+            positions[i] = _header.getPeople(indexes.get(i));
+
+        ReadWindow window = new ReadWindow(getContentStream(), positions);
+        for (int i = 0; i < positions.length; i++)
+        {
+            int index = indexes.get(i);
+            long pos = positions[i];
+            Identity lPeople = Identity.parseFrom(window.getDelimitedInputStreamAt(pos), pos);
+            lPeople.setFieldId(2);
+            lPeople.setIndex(index);
+            lPeople.setParent(this);
+            _peopleList.setIfAbsent(index, lPeople);
+        }
+    }
+
+    /**
+    * Identities referenced by the data
+    * Same as getPeople(index), but a People that isn't decoded yet isn't kept in the cache of decoded People
+    **/
+    public Identity peekPeople(int index)
+    {
+        if (!isBuilt() || index >= getPeopleCount())
+            return getPeople(index);
+
+        Identity lPeople = _peopleList.get(index);
+        if (lPeople == null)
+        {
+            lPeople = Identity.parseFrom(getContentStream(), _header.getPeople(index));
+            if (lPeople == null)
+                return null;
+            lPeople.setFieldId(2);
+            lPeople.setIndex(index);
+            lPeople.setParent(this);
+        }
+        return lPeople;
+    }
+
+    /**
+    * Identities referenced by the data
+    * Iterates over the People without building a list: they are decoded on demand with peekPeople(index),
+    * so that a full scan uses constant memory.
+    **/
+    public Iterable<Identity> iteratePeople()
+    {
+        return iteratePeople(0, getPeopleCount());
+    }
+
+    /**
+    * Identities referenced by the data
+    * Iterates over the People from index from (inclusive) to index to (exclusive), see iteratePeople()
+    **/
+    public Iterable<Identity> iteratePeople(final int from, final int to)
+    {
+        return new Iterable<Identity>() {
+            @Override
+            public Iterator<Identity> iterator()
+            {
+                return new Iterator<Identity>() {
+                    private int _next = from;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return _next < to;
+                    }
+
+                    @Override
+                    public Identity next()
+                    {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        return peekPeople(_next++);
+                    }
+
+                    @Override
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+    * Identities referenced by the data
+    * Splits the People on ranges of consecutive indexes, each People being decoded on demand with peekPeople(index)
+    **/
+    public Spliterator<Identity> spliteratorPeople()
+    {
+        return new IndexSpliterator<Identity>(new IntFunction<Identity>() {
+            @Override
+            public Identity apply(int index)
+            {
+                return peekPeople(index);
+            }
+        }, 0, getPeopleCount());
+    }
+
+    /**
+    * Identities referenced by the data
+    * Streams the People from spliteratorPeople(): they are decoded on demand, and not kept in the cache of decoded People.
+    * getPeopleStream().parallel() decodes them from several threads: the content stream must then support concurrent reads.
+    **/
+    public Stream<Identity> getPeopleStream()
+    {
+        return StreamSupport.stream(spliteratorPeople(), false);
+    }
+
+    /**
+    * Identities referenced by the data
+    * Splits the People into count ranges of consecutive indexes, see iteratePeople(from, to).
+    * Each range can be scanned by its own thread if the content stream supports concurrent reads:
+    * every People is then decoded from its own view of the stream.
+    **/
+    public List<Iterable<Identity>> partitionPeople(int count)
+    {
+        int n = getPeopleCount();
+        count = Math.max(1, Math.min(count, n));
+
+        List<Iterable<Identity>> parts = new ArrayList<Iterable<Identity>>(count);
+        for (int i = 0; i < count; i++)
+            parts.add(iteratePeople((int)((long)n * i / count), (int)((long)n * (i + 1) / count)));
+        return parts;
+    }
+
+    /**
+    * Identities referenced by the data
+    * Maps the People in parallel, with fork-join: each task scans one range of partitionPeople(count).
+    * The content stream must support concurrent reads. The values are returned in the order of the People.
+    **/
+    public <U> List<U> mapPeople(final IMapper<Identity, U> mapper) throws IOException
+    {
+        List<List<U>> results = new ArrayList<List<U>>();
+        List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();
+        for (final Iterable<Identity> part : partitionPeople(Runtime.getRuntime().availableProcessors() * 4))
+        {
+            final List<U> result = new ArrayList<U>();
+            results.add(result);
+            tasks.add(new ForkJoinTasks.ITask() {
+                @Override
+                public void run()
+                {
+                    for (Identity item : part)
+                    {
+                        for (U value : mapper.map(item))
+                            result.add(value);
+                    }
+                }
+            });
+        }
+        ForkJoinTasks.invokeAll(tasks);
+
+        List<U> values = new ArrayList<U>();
+        for (List<U> result : results)
+            values.addAll(result);
+        return values;
+    }
+
+        // Note: indexes are built during the build process, and aren't available before
+        /**
+        * People sorted by first name, keys stored next to the index
+        **/
+        public List<Identity> getPeopleByFirstNameList()
+        {
+            assert isBuilt() : "Index is not built yet!";
+
+            List<Identity> list = new ArrayList<Identity>();
+            for (ProtoOrBuilder item : getRoot().resolve(_header.getPeopleByFirstNameList()))
+            {
+                list.add((Identity)item);
+            }
+            return list;
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        **/
+        public Identity getPeopleByFirstName(int index)
+        {
+            assert isBuilt() : "Index is not built yet!";
+            return (Identity)getRoot().resolve(_header.getPeopleByFirstName(index));
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        **/
+        public int getPeopleByFirstNameCount()
+        {
+            assert isBuilt() : "Index is not built yet!";
+            return _header.getPeopleByFirstNameCount();
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        * Compares two keys of the index, with the sign of a Comparator
+        **/
+        public static int comparePeopleByFirstNameKeys(String left, String right)
+        {
+            return left.compareTo(right);
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        * @return the key of the item at position index in the index
+        **/
+        protected String getPeopleByFirstNameKey(int index)
+        {
+            return _header.getPeopleByFirstNameKeys(index);
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        * @return the position in the index of the first item whose key isn't lower than key, or getPeopleByFirstNameCount()
+        **/
+        public int lowerBoundPeopleByFirstName(String key)
+        {
+            assert isBuilt() : "Index is not built yet!";
+
+            int min = 0;
+            int max = getPeopleByFirstNameCount();
+            while (min < max)
+            {
+                int avg = (min + max) >>> 1;
+                if (comparePeopleByFirstNameKeys(getPeopleByFirstNameKey(avg), key) < 0)
+                    min = avg + 1;
+                else
+                    max = avg;
+            }
+            return min;
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        * @return the position in the index of the first item whose key is greater than key, or getPeopleByFirstNameCount()
+        **/
+        public int upperBoundPeopleByFirstName(String key)
+        {
+            assert isBuilt() : "Index is not built yet!";
+
+            int min = 0;
+            int max = getPeopleByFirstNameCount();
+            while (min < max)
+            {
+                int avg = (min + max) >>> 1;
+                if (comparePeopleByFirstNameKeys(getPeopleByFirstNameKey(avg), key) <= 0)
+                    min = avg + 1;
+                else
+                    max = avg;
+            }
+            return min;
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        * Iterates over the items whose key is in [fromKey, toKey), in the order of the index
+        **/
+        public Iterable<Identity> iteratePeopleByFirstName(String fromKey, String toKey)
+        {
+            final int from = lowerBoundPeopleByFirstName(fromKey);
+            final int to = Math.max(from, lowerBoundPeopleByFirstName(toKey));
+            return new Iterable<Identity>() {
+                @Override
+                public Iterator<Identity> iterator()
+                {
+                    return new Iterator<Identity>() {
+                        private int _next = from;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return _next < to;
+                        }
+
+                        @Override
+                        public Identity next()
+                        {
+                            if (!hasNext())
+                                throw new NoSuchElementException();
+                            return getPeopleByFirstName(_next++);
+                        }
+
+                        @Override
+                        public void remove()
+                        {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+            };
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        * @return an item whose key is item, or null
+        **/
+        public Identity searchPeopleByFirstName(String item)
+        {
+            assert isBuilt() : "Index is not built yet!";
+
+            // note: we don't go through the list of items so that 
+            // we decode a minimum number of items
+            return searchPeopleByFirstName(item, 0, getPeopleByFirstNameCount() - 1);
+        }
+
+        /**
+        * People sorted by first name, keys stored next to the index
+        * @return an item whose key is item, between the positions min and max (inclusive) of the index, or null
+        **/
+        protected Identity searchPeopleByFirstName(String item, int min, int max)
+        {
+            assert isBuilt() : "Index is not built yet!";
+
+            while (min <= max)
+            {
+                int avg = (min + max) >>> 1;
+                int comparison = comparePeopleByFirstNameKeys(getPeopleByFirstNameKey(avg), item);
+                if (comparison == 0)
+                    return getPeopleByFirstName(avg);
+
+                if (comparison < 0)
+                    min = avg + 1;
+                else
+                    max = avg - 1;
+            }
+            return null;
+        }
+
+        // Note: indexes are built during the build process, and aren't available before
+        /**
+        * People hashed by first name
+        * Compares two keys of the index, with the sign of a Comparator
+        **/
+        public static int comparePeopleByNameKeys(String left, String right)
+        {
+            return left.compareTo(right);
+        }
+
+        /**
+        * People hashed by first name
+        * @return the hash of key in the table of the index
+        **/
+        public static int hashPeopleByName(String key)
+        {
+            return HashIndex.mix(key.hashCode());
+        }
+
+        /**
+        * People hashed by first name
+        * @return an item whose key is key, or null
+        **/
+        public Identity findPeopleByName(String key)
+        {
+            assert isBuilt() : "Index is not built yet!";
+
+            if (!_header.hasPeopleByName())
+                return null;
+
+            try
+            {
+                if (_peopleByNameTable == null)
+                    _peopleByNameTable = HashIndex.open(getContentStream(), _header.getPeopleByName());
+
+                for (int candidate : _peopleByNameTable.find(hashPeopleByName(key)))
+                {
+                    Identity item = getPeople(candidate);
+                    if (comparePeopleByNameKeys(item.getFirstName(), key) == 0)
+                        return item;
+                }
+                return null;
+            }
+            catch (IOException ex)
+            {
+                assert false : "Can't read the hash index!";
+                return null;
+            }
+        }
+
+}
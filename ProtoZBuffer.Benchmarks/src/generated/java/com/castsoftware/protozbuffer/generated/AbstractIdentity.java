@@ -0,0 +1,523 @@
+//------------------------------------------------------------------------------
+// <auto-generated>
+//     This code was generated by a tool.
+//
+//     Changes to this file may cause incorrect behavior and will be lost if
+//     the code is regenerated.
+// </auto-generated>
+//------------------------------------------------------------------------------
+package com.castsoftware.protozbuffer.generated;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor;
+import com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader;
+import com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeaderOrBuilder;
+import com.castsoftware.protozbuffer.Identity;
+import com.castsoftware.protozbuffer.common.BoundedLazyArray;
+import com.castsoftware.protozbuffer.common.DirectParser;
+import com.castsoftware.protozbuffer.common.ForkJoinTasks;
+import com.castsoftware.protozbuffer.common.HeaderCache;
+import com.castsoftware.protozbuffer.common.IFormat;
+import com.castsoftware.protozbuffer.common.IIOStream;
+import com.castsoftware.protozbuffer.common.LazyArray;
+import com.castsoftware.protozbuffer.common.LongArray;
+import com.castsoftware.protozbuffer.common.Metrics;
+import com.castsoftware.protozbuffer.common.Verification;
+
+
+@SuppressWarnings("all")
+public abstract class AbstractIdentity implements ProtoOrBuilder
+{
+    private ProtoOrBuilder _root;
+    private ProtoOrBuilder _parent;
+    private int _fieldId = -1; // field's ID as defined in the protozbuf.xml file (=> the .proto file)
+    private int _index = -1; // instance's _index in the _parent's list
+
+    public ProtoOrBuilder getParent() { return _parent; }
+    public void setParent(ProtoOrBuilder parent)
+    {
+        _parent = parent;
+        _root = _parent.getRoot();
+    }
+
+    public int getFieldId() { return _fieldId; }
+    public void setFieldId(int fieldId) { _fieldId = fieldId; }
+    public int getIndex() { return _index; }
+    public void setIndex(int index) { _index = index; }
+    
+
+    private List<Integer> _coordinates; // set when decoded through a direct reference, without its parents
+
+    protected IdentityHeaderOrBuilder _header;
+    protected long _positionInContent = -1;
+
+    public long getPositionInContent() { return _positionInContent; }
+    public void setPositionInContent(long positionInContent) { _positionInContent = positionInContent; }
+
+    
+    /**
+    * 
+    **/
+    protected AbstractIdentity()
+    {
+        _header = IdentityHeader.newBuilder();
+        _positionInContent = -1;
+        flush();
+    }
+
+    /**
+    * 
+    **/
+    protected AbstractIdentity(IdentityHeader header, long positionInContent)
+    {
+        _header = header;
+        _positionInContent = positionInContent;
+        flush();
+    }
+
+    
+    @Override
+    public ProtoOrBuilder getRoot() { return _root; }
+
+    @Override
+    public ProtoOrBuilder decode(LocalMessageDescriptor field)
+    {
+        return decode(field.getCoordinateList(), 0);
+    }
+
+    @Override
+    public ProtoOrBuilder decode(List<Integer> coordinates, int index)
+    {
+        if (coordinates.isEmpty())
+            return null;
+
+        int fieldIdIdx = index;
+        int fieldIndexIdx = index + 1;
+        int remainderIdx = index + 2;
+        switch(coordinates.get(fieldIdIdx))
+        {
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public ProtoOrBuilder resolve(LocalMessageDescriptor field)
+    {
+        return getRoot().resolve(field);
+    }
+
+    @Override
+    public List<ProtoOrBuilder> resolve(List<LocalMessageDescriptor> fields)
+    {
+        return getRoot().resolve(fields);
+    }
+
+    static ProtoOrBuilder decodeAt(ProtoOrBuilder root, List<Integer> coordinates, int index, long pos)
+    {
+        int remainderIdx = index + 2;
+        if (coordinates.size() < remainderIdx)
+            return null;
+
+        switch(coordinates.get(index))
+        {
+            default:
+                return null;
+        }
+    }
+
+    static Identity parseAt(ProtoOrBuilder root, List<Integer> coordinates, long pos)
+    {
+        Identity parsed = parseFrom(root.getContentStream(), pos);
+        if (parsed == null)
+            return null;
+
+        // the parents aren't decoded: the object keeps its coordinates instead
+        AbstractIdentity attached = parsed;
+        attached._root = root;
+        attached._fieldId = coordinates.get(coordinates.size() - 2);
+        attached._index = coordinates.get(coordinates.size() - 1);
+        attached._coordinates = new ArrayList<Integer>(coordinates);
+        return parsed;
+    }
+
+    @Override
+    public void setRelocation(long positionInContent, long positionInOutput)
+    {
+        getRoot().setRelocation(positionInContent, positionInOutput);
+    }
+
+    @Override
+    public long getRelocation(long positionInContent)
+    {
+        return getRoot().getRelocation(positionInContent);
+    }
+
+    @Override
+    public void keepReplaced(long positionInContent)
+    {
+        getRoot().keepReplaced(positionInContent);
+    }
+
+    @Override
+    public void addCoordinates(List<Integer> coordinates)
+    {
+        if (_coordinates != null)
+        {
+            coordinates.addAll(0, _coordinates);
+            return;
+        }
+
+        coordinates.add(0, getFieldId());
+        coordinates.add(1, getIndex());
+
+        if (getParent() == null)
+            return;
+
+        getParent().addCoordinates(coordinates);
+    }
+
+    @Override
+    public LocalMessageDescriptor getLocalMessageDescriptor()
+    {
+        List<Integer> coordinates = new ArrayList<Integer>();
+        addCoordinates(coordinates);
+
+        LocalMessageDescriptor.Builder b = LocalMessageDescriptor.newBuilder();
+        b.addAllCoordinate(coordinates);
+        return b.build();
+    }
+
+    protected IdentityHeader.Builder getBuilder() { return (IdentityHeader.Builder)_header; }
+
+    // ESCA-JAVA0029:
+    public boolean isBuilt() { return !(_header instanceof IdentityHeader.Builder); }
+
+
+    public void preBuild()
+    {
+        // use this method to customize the build process
+    }
+
+    @Override
+    public IIOStream getContentStream() 
+    {
+        return getRoot().getContentStream();
+    }
+
+    /**
+    * Reopens this built object for modification, with its ancestors: the setters can be used again.
+    * The next build of the root appends the new headers of the edited objects and of their ancestors
+    * to the content stream, then a new root header: the untouched data is left in place.
+    * The holders of offset-encoded references to the edited objects are written again too: to find them,
+    * the build reads the headers of all the objects that may hold such references.
+    **/
+    @Override
+    public void edit()
+    {
+        if (!isBuilt())
+            return;
+
+        if (_parent == null)
+            throw new IllegalStateException("Only an object decoded through its parent can be edited");
+
+        // the parent's header holds the position of this one: it is written again too
+        _parent.edit();
+        _parent.keepEdited(_fieldId, _index, this);
+
+        // the offsets to the previous header are left out until the build locates this object again
+        keepReplaced(_positionInContent);
+        _positionInContent = -1;
+
+        _header = ((IdentityHeader)_header).toBuilder();
+    }
+
+    @Override
+    public void keepEdited(int fieldId, int index, ProtoOrBuilder child)
+    {
+        // NOP
+    }
+
+    /**
+    * Decodes the header at pos, and the ones of its subtree, without keeping them
+    * @param limit position of the parent's header: the children are written before it
+    **/
+    static void verifyAt(IIOStream content, long pos, long limit, Verification verification, boolean parallel) throws IOException
+    {
+        IdentityHeader header = null;
+        if (pos >= 0 && pos < limit)
+        {
+            try
+            {
+                header = DirectParser.parseDelimited(content, pos, IdentityHeader.PARSER);
+                if (header == null)
+                    header = IdentityHeader.parseDelimitedFrom(content.getInputStreamAt(pos));
+            }
+            catch (IOException ex)
+            {
+                // reported below
+            }
+        }
+
+        if (header == null)
+        {
+            verification.reportBad(pos);
+            return;
+        }
+
+        verification.countHeader();
+        verifyChildren(content, pos, header, verification, parallel);
+    }
+
+    static void verifyChildren(final IIOStream content, final long pos, IdentityHeader header, final Verification verification, final boolean parallel) throws IOException
+    {
+        // NOP: no nested field
+    }
+
+    public void build() throws IOException
+    {
+        build(getContentStream(), false);
+    }
+
+    /**
+    * @param parallel build the sibling subtrees concurrently, with fork-join.
+    * The headers are then written in the order their subtrees complete: the content is equivalent
+    * to the one of a sequential build, but not byte-identical.
+    **/
+    public void build(boolean parallel) throws IOException
+    {
+        build(getContentStream(), false, parallel);
+    }
+
+    public void build(IIOStream content, boolean saveToOutput) throws IOException
+    {
+        build(content, saveToOutput, false);
+    }
+
+    @Override
+    public void build(IIOStream content, boolean saveToOutput, boolean parallel) throws IOException
+    {
+        boolean alreadyBuilt = isBuilt();
+        if (alreadyBuilt && !saveToOutput)
+            return;
+
+        // prebuild hook
+        preBuild();
+
+        IdentityHeader.Builder builder = null;
+        if (alreadyBuilt)
+        {
+            builder = IdentityHeader.newBuilder((IdentityHeader) _header);
+        }
+        else
+        {
+            builder = getBuilder();
+        }
+
+        IdentityHeader builtHeader = builder.build();
+
+        // write the header
+        // Note: sibling subtrees may be built in parallel: the position and the write go together
+        synchronized (content)
+        {
+            OutputStream output = content.getOutputStream();
+            if (saveToOutput && getPositionInContent() >= 0)
+                setRelocation(getPositionInContent(), content.getPosition());
+
+            // if we write to output, the position in the content stream
+            // will be restored when writing the parent header
+            // => this is not possible (and not needed) for root message
+            boolean isRoot = false;
+            boolean dontSavePos = saveToOutput && isRoot;
+            if (!dontSavePos)
+                setPositionInContent(content.getPosition());
+
+            builtHeader.writeDelimitedTo(output);
+        }
+
+        if (!alreadyBuilt && !saveToOutput)
+        {
+            _header = builtHeader;
+            flush();
+        }
+
+        if (alreadyBuilt && saveToOutput)
+        {
+            flush();
+        }
+    }
+
+    public void flush()
+    {
+        // NOP
+    }
+
+    public static Identity parseFrom(IIOStream strm, long pos)
+    {
+        try
+        {
+            // a position of a stream always holds the same header: it may already have been decoded
+            HeaderCache cache = HeaderCache.getShared();
+            IdentityHeader header = cache != null ? (IdentityHeader)cache.get(strm, pos) : null;
+            if (Metrics.ENABLED && cache != null)
+            {
+                if (header != null)
+                    Metrics.getShared().countHit(Metrics.E_Cache.Header);
+                else
+                    Metrics.getShared().countMiss(Metrics.E_Cache.Header);
+            }
+            if (header == null)
+            {
+                // in place from the buffers of the stream when it holds them in memory
+                header = DirectParser.parseDelimited(strm, pos, IdentityHeader.PARSER);
+                if (header == null)
+                {
+                    InputStream input = strm.getInputStreamAt(pos);
+                    header = IdentityHeader.parseDelimitedFrom(input);
+                }
+                assert header != null : "Can't decode header!";
+                if (Metrics.ENABLED)
+                    Metrics.getShared().countHeader("Identity");
+
+                if (cache != null && header != null)
+                    cache.put(strm, pos, header, header.getSerializedSize());
+            }
+
+            Identity parsed = new Identity(header, pos);
+            return parsed;
+        } 
+        catch (IOException ex)
+        {
+            assert false : "Can't decode header!";
+            return null;
+        }
+    }
+
+    /**
+    * Decodes the header at pos from input, already positioned at pos
+    **/
+    public static Identity parseFrom(InputStream input, long pos) throws IOException
+    {
+        IdentityHeader header = IdentityHeader.parseDelimitedFrom(input);
+        if (header == null)
+            throw new EOFException("No header at position " + pos);
+        if (Metrics.ENABLED)
+            Metrics.getShared().countHeader("Identity");
+        return new Identity(header, pos);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == null)
+            return false;
+
+        if (!other.getClass().equals(getClass()))
+            return false;
+
+        AbstractIdentity that = (AbstractIdentity)other;
+
+        boolean result = (_fieldId == that._fieldId) && (_index == that._index);
+
+        if(!result)
+            return false;
+
+        if (_coordinates != null || that._coordinates != null)
+            return _coordinates != null && _coordinates.equals(that._coordinates);
+
+        if (_parent == null)
+            return that._parent == null;
+
+        return _parent.equals(that._parent);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 17;
+        if (_parent != null)
+            hashCode = 31 * hashCode + _parent.hashCode();
+        if (_coordinates != null)
+            hashCode = 31 * hashCode + _coordinates.hashCode();
+        hashCode = 31 * hashCode + _fieldId;
+        hashCode = 31 * hashCode + _index;
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        String ret = System.getProperty("line.separator");
+        return toString(new BaseFormat(0,ret));
+    }
+
+    @Override
+    public String toString(IFormat format)
+    {
+        StringBuilder bd = new StringBuilder();
+        format.formatHeader(bd,"Identity");
+
+        format.formatField(bd,"FirstName", getFirstName());
+        format.formatField(bd,"BirthYear", hasBirthYear() ? getBirthYear() : null);
+
+        format.formatFooter(bd);
+        return bd.toString();
+    }
+
+    /**
+    * 
+    **/
+    public String getFirstName()
+    {
+        return _header.getFirstName();
+    }
+
+    /**
+    * 
+    **/
+    public void setFirstName(String value)
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+        getBuilder().setFirstName(value);
+    }
+
+    /**
+    * 
+    **/
+    public boolean hasBirthYear()
+    {
+        return _header.hasBirthYear();
+    }
+
+    /**
+    * 
+    **/
+    public void clearBirthYear()
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+        getBuilder().clearBirthYear();
+    }
+
+    /**
+    * 
+    **/
+    public int getBirthYear()
+    {
+        return _header.getBirthYear();
+    }
+
+    /**
+    * 
+    **/
+    public void setBirthYear(int value)
+    {
+        assert !isBuilt() : "Can't modify an already built object!";
+        getBuilder().setBirthYear(value);
+    }
+
+}
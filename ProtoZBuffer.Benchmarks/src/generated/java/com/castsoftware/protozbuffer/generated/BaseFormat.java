@@ -0,0 +1,189 @@
+package com.castsoftware.protozbuffer.generated;
+
+//------------------------------------------------------------------------------
+// <auto-generated>
+//     This code was generated by a tool.
+//
+//     Changes to this file may cause incorrect behavior and will be lost if
+//     the code is regenerated.
+// </auto-generated>
+//------------------------------------------------------------------------------
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import com.castsoftware.protozbuffer.common.IFormat;
+
+@SuppressWarnings("all")
+public class BaseFormat implements IFormat
+{
+    private int _indentation;
+    private String _newLine;
+
+    public BaseFormat(int indentation, String newLine)
+    {
+        _indentation = indentation;
+        _newLine = newLine;
+    }
+
+    public static String join(String delimiter, Iterable<?> s) 
+    {
+        Iterator<?> iter = s.iterator();
+        if (!iter.hasNext()) return "";
+        StringBuilder buffer = new StringBuilder(iter.next().toString());
+        while (iter.hasNext()) buffer.append(delimiter).append(iter.next());
+        return buffer.toString();
+    }
+
+    @Override
+    public void setIndentation(int indentation) { _indentation = indentation; }
+
+    @Override
+    public int getIndentation() { return _indentation; }
+
+    @Override
+    public String getNewLine() { return _newLine; }
+
+    @Override
+    public String getTabulations()
+    {
+        char[] chars = new char[_indentation];
+        Arrays.fill(chars, '\t');
+        return new String(chars);
+    }
+
+    @Override
+    public void formatHeader(StringBuilder builder, String title)
+    {
+        builder.append(getTabulations());
+        builder.append(title);
+        builder.append(getNewLine());
+        builder.append(getTabulations());
+        builder.append("{");
+        builder.append(getNewLine());
+        _indentation++;
+    }
+
+    @Override
+    public void formatFooter(StringBuilder builder)
+    {
+        _indentation--;
+        builder.append(getTabulations());
+        builder.append("}");
+        builder.append(getNewLine());
+    }
+
+    @Override
+    public <T> void formatField(StringBuilder bd, String title, T field)
+    {
+        if (field instanceof ProtoOrBuilder)
+        {
+            formatComplexField(bd, title, (ProtoOrBuilder)field, field != null);
+            return;
+        }
+
+        formatSimpleField(bd, title, field, field != null);
+    }
+
+    private void formatSimpleField(StringBuilder builder, String name, Object field, boolean has)
+    {
+        if (!has) return;
+
+        builder.append(getTabulations());
+        builder.append(name);
+        builder.append(": ");
+        builder.append(has ? field : "not set");
+        builder.append(getNewLine());
+    }
+
+    private void formatComplexField(StringBuilder builder, String name, ProtoOrBuilder field, boolean has)
+    {
+        if (!has) return;
+        
+        formatHeader(builder, name);
+        builder.append(has ? field.toString(this) : getTabulations() + "null");
+        builder.append(getNewLine());
+        formatFooter(builder);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> void formatField(StringBuilder bd, String name, List<T> list)
+    {
+        if (list.isEmpty()) return;
+
+        if (list.get(0) instanceof ProtoOrBuilder)
+        {
+            formatComplexField(bd, name, (List<ProtoOrBuilder>)list);
+            return;
+        }
+
+        formatListField(bd, name, list);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> void formatField(StringBuilder bd, String name, Iterable<T> items)
+    {
+        // a single pass: the items may be decoded on demand
+        Iterator<T> iter = items.iterator();
+        if (!iter.hasNext()) return;
+
+        T first = iter.next();
+        if (first instanceof ProtoOrBuilder)
+        {
+            formatComplexField(bd, name, (ProtoOrBuilder)first, (Iterator<ProtoOrBuilder>)iter);
+            return;
+        }
+
+        List<T> list = new ArrayList<T>();
+        list.add(first);
+        while (iter.hasNext())
+            list.add(iter.next());
+        formatListField(bd, name, list);
+    }
+
+    private void formatComplexField(StringBuilder builder, String name, Iterable<ProtoOrBuilder> list)
+    {
+        formatComplexField(builder, name, null, list.iterator());
+    }
+
+    /**
+    * @param first item already taken from items, or null
+    **/
+    private void formatComplexField(StringBuilder builder, String name, ProtoOrBuilder first, Iterator<ProtoOrBuilder> items)
+    {
+        builder.append(getTabulations());
+        builder.append(name);
+        builder.append(": ");
+        builder.append(getNewLine());
+        boolean empty = true;
+        if (first != null)
+        {
+            builder.append(first.toString(this));
+            empty = false;
+        }
+        while (items.hasNext())
+        {
+            builder.append(items.next().toString(this));
+            empty = false;
+        }
+        if (empty)
+        {
+            builder.append(getTabulations());
+            builder.append("empty");
+        }
+        builder.append(getNewLine());
+    }
+
+    private void formatListField(StringBuilder builder, String name, List<?> list)
+    {
+        builder.append(getTabulations());
+        builder.append(name);
+        builder.append(": ");
+        builder.append(!list.isEmpty() ? join(", ", list) : "empty");
+        builder.append(getNewLine());
+    }
+
+}
+
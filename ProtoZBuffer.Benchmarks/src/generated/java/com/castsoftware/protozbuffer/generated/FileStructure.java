@@ -0,0 +1,4051 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: FileStructure.proto
+
+package com.castsoftware.protozbuffer.generated;
+
+public final class FileStructure {
+  private FileStructure() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  public interface DocumentHeaderOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated uint64 data = 1 [packed = true];
+    /**
+     * <code>repeated uint64 data = 1 [packed = true];</code>
+     *
+     * <pre>
+     *repeated DataHeader data= 1 [packed=true];
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getDataList();
+    /**
+     * <code>repeated uint64 data = 1 [packed = true];</code>
+     *
+     * <pre>
+     *repeated DataHeader data= 1 [packed=true];
+     * </pre>
+     */
+    int getDataCount();
+    /**
+     * <code>repeated uint64 data = 1 [packed = true];</code>
+     *
+     * <pre>
+     *repeated DataHeader data= 1 [packed=true];
+     * </pre>
+     */
+    long getData(int index);
+
+    // repeated uint64 people = 2 [packed = true];
+    /**
+     * <code>repeated uint64 people = 2 [packed = true];</code>
+     *
+     * <pre>
+     *repeated IdentityHeader people= 2 [packed=true];
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getPeopleList();
+    /**
+     * <code>repeated uint64 people = 2 [packed = true];</code>
+     *
+     * <pre>
+     *repeated IdentityHeader people= 2 [packed=true];
+     * </pre>
+     */
+    int getPeopleCount();
+    /**
+     * <code>repeated uint64 people = 2 [packed = true];</code>
+     *
+     * <pre>
+     *repeated IdentityHeader people= 2 [packed=true];
+     * </pre>
+     */
+    long getPeople(int index);
+
+    // repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> 
+        getPeopleByFirstNameList();
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getPeopleByFirstName(int index);
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    int getPeopleByFirstNameCount();
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    java.util.List<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+        getPeopleByFirstNameOrBuilderList();
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getPeopleByFirstNameOrBuilder(
+        int index);
+
+    // repeated string peopleByFirstNameKeys = 4;
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    java.util.List<java.lang.String>
+    getPeopleByFirstNameKeysList();
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    int getPeopleByFirstNameKeysCount();
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    java.lang.String getPeopleByFirstNameKeys(int index);
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getPeopleByFirstNameKeysBytes(int index);
+
+    // optional uint64 peopleByName = 5;
+    /**
+     * <code>optional uint64 peopleByName = 5;</code>
+     *
+     * <pre>
+     *hash table of people by firstName
+     * </pre>
+     */
+    boolean hasPeopleByName();
+    /**
+     * <code>optional uint64 peopleByName = 5;</code>
+     *
+     * <pre>
+     *hash table of people by firstName
+     * </pre>
+     */
+    long getPeopleByName();
+  }
+  /**
+   * Protobuf type {@code com.castsoftware.protozbuffer.generated.DocumentHeader}
+   */
+  public static final class DocumentHeader extends
+      com.google.protobuf.GeneratedMessage
+      implements DocumentHeaderOrBuilder {
+    // Use DocumentHeader.newBuilder() to construct.
+    private DocumentHeader(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DocumentHeader(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DocumentHeader defaultInstance;
+    public static DocumentHeader getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DocumentHeader getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DocumentHeader(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                data_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              data_.add(input.readUInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                data_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                data_.add(input.readUInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                people_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              people_.add(input.readUInt64());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                people_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                people_.add(input.readUInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                peopleByFirstName_ = new java.util.ArrayList<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              peopleByFirstName_.add(input.readMessage(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                peopleByFirstNameKeys_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              peopleByFirstNameKeys_.add(input.readBytes());
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000001;
+              peopleByName_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          data_ = java.util.Collections.unmodifiableList(data_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          people_ = java.util.Collections.unmodifiableList(people_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          peopleByFirstName_ = java.util.Collections.unmodifiableList(peopleByFirstName_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          peopleByFirstNameKeys_ = new com.google.protobuf.UnmodifiableLazyStringList(peopleByFirstNameKeys_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader.class, com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DocumentHeader> PARSER =
+        new com.google.protobuf.AbstractParser<DocumentHeader>() {
+      public DocumentHeader parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DocumentHeader(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DocumentHeader> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // repeated uint64 data = 1 [packed = true];
+    public static final int DATA_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Long> data_;
+    /**
+     * <code>repeated uint64 data = 1 [packed = true];</code>
+     *
+     * <pre>
+     *repeated DataHeader data= 1 [packed=true];
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getDataList() {
+      return data_;
+    }
+    /**
+     * <code>repeated uint64 data = 1 [packed = true];</code>
+     *
+     * <pre>
+     *repeated DataHeader data= 1 [packed=true];
+     * </pre>
+     */
+    public int getDataCount() {
+      return data_.size();
+    }
+    /**
+     * <code>repeated uint64 data = 1 [packed = true];</code>
+     *
+     * <pre>
+     *repeated DataHeader data= 1 [packed=true];
+     * </pre>
+     */
+    public long getData(int index) {
+      return data_.get(index);
+    }
+    private int dataMemoizedSerializedSize = -1;
+
+    // repeated uint64 people = 2 [packed = true];
+    public static final int PEOPLE_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Long> people_;
+    /**
+     * <code>repeated uint64 people = 2 [packed = true];</code>
+     *
+     * <pre>
+     *repeated IdentityHeader people= 2 [packed=true];
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getPeopleList() {
+      return people_;
+    }
+    /**
+     * <code>repeated uint64 people = 2 [packed = true];</code>
+     *
+     * <pre>
+     *repeated IdentityHeader people= 2 [packed=true];
+     * </pre>
+     */
+    public int getPeopleCount() {
+      return people_.size();
+    }
+    /**
+     * <code>repeated uint64 people = 2 [packed = true];</code>
+     *
+     * <pre>
+     *repeated IdentityHeader people= 2 [packed=true];
+     * </pre>
+     */
+    public long getPeople(int index) {
+      return people_.get(index);
+    }
+    private int peopleMemoizedSerializedSize = -1;
+
+    // repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;
+    public static final int PEOPLEBYFIRSTNAME_FIELD_NUMBER = 3;
+    private java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> peopleByFirstName_;
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    public java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> getPeopleByFirstNameList() {
+      return peopleByFirstName_;
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    public java.util.List<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+        getPeopleByFirstNameOrBuilderList() {
+      return peopleByFirstName_;
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    public int getPeopleByFirstNameCount() {
+      return peopleByFirstName_.size();
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getPeopleByFirstName(int index) {
+      return peopleByFirstName_.get(index);
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader peopleByFirstName= 3;
+     * </pre>
+     */
+    public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getPeopleByFirstNameOrBuilder(
+        int index) {
+      return peopleByFirstName_.get(index);
+    }
+
+    // repeated string peopleByFirstNameKeys = 4;
+    public static final int PEOPLEBYFIRSTNAMEKEYS_FIELD_NUMBER = 4;
+    private com.google.protobuf.LazyStringList peopleByFirstNameKeys_;
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    public java.util.List<java.lang.String>
+        getPeopleByFirstNameKeysList() {
+      return peopleByFirstNameKeys_;
+    }
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    public int getPeopleByFirstNameKeysCount() {
+      return peopleByFirstNameKeys_.size();
+    }
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    public java.lang.String getPeopleByFirstNameKeys(int index) {
+      return peopleByFirstNameKeys_.get(index);
+    }
+    /**
+     * <code>repeated string peopleByFirstNameKeys = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPeopleByFirstNameKeysBytes(int index) {
+      return peopleByFirstNameKeys_.getByteString(index);
+    }
+
+    // optional uint64 peopleByName = 5;
+    public static final int PEOPLEBYNAME_FIELD_NUMBER = 5;
+    private long peopleByName_;
+    /**
+     * <code>optional uint64 peopleByName = 5;</code>
+     *
+     * <pre>
+     *hash table of people by firstName
+     * </pre>
+     */
+    public boolean hasPeopleByName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 peopleByName = 5;</code>
+     *
+     * <pre>
+     *hash table of people by firstName
+     * </pre>
+     */
+    public long getPeopleByName() {
+      return peopleByName_;
+    }
+
+    private void initFields() {
+      data_ = java.util.Collections.emptyList();
+      people_ = java.util.Collections.emptyList();
+      peopleByFirstName_ = java.util.Collections.emptyList();
+      peopleByFirstNameKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      peopleByName_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getDataList().size() > 0) {
+        output.writeRawVarint32(10);
+        output.writeRawVarint32(dataMemoizedSerializedSize);
+      }
+      for (int i = 0; i < data_.size(); i++) {
+        output.writeUInt64NoTag(data_.get(i));
+      }
+      if (getPeopleList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(peopleMemoizedSerializedSize);
+      }
+      for (int i = 0; i < people_.size(); i++) {
+        output.writeUInt64NoTag(people_.get(i));
+      }
+      for (int i = 0; i < peopleByFirstName_.size(); i++) {
+        output.writeMessage(3, peopleByFirstName_.get(i));
+      }
+      for (int i = 0; i < peopleByFirstNameKeys_.size(); i++) {
+        output.writeBytes(4, peopleByFirstNameKeys_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(5, peopleByName_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < data_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(data_.get(i));
+        }
+        size += dataSize;
+        if (!getDataList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        dataMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < people_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(people_.get(i));
+        }
+        size += dataSize;
+        if (!getPeopleList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        peopleMemoizedSerializedSize = dataSize;
+      }
+      for (int i = 0; i < peopleByFirstName_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, peopleByFirstName_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < peopleByFirstNameKeys_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(peopleByFirstNameKeys_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPeopleByFirstNameKeysList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, peopleByName_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.castsoftware.protozbuffer.generated.DocumentHeader}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader.class, com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader.Builder.class);
+      }
+
+      // Construct using com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPeopleByFirstNameFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        data_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        people_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (peopleByFirstNameBuilder_ == null) {
+          peopleByFirstName_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          peopleByFirstNameBuilder_.clear();
+        }
+        peopleByFirstNameKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        peopleByName_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_descriptor;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader getDefaultInstanceForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader.getDefaultInstance();
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader build() {
+        com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader buildPartial() {
+        com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader result = new com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          data_ = java.util.Collections.unmodifiableList(data_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.data_ = data_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          people_ = java.util.Collections.unmodifiableList(people_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.people_ = people_;
+        if (peopleByFirstNameBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            peopleByFirstName_ = java.util.Collections.unmodifiableList(peopleByFirstName_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.peopleByFirstName_ = peopleByFirstName_;
+        } else {
+          result.peopleByFirstName_ = peopleByFirstNameBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          peopleByFirstNameKeys_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              peopleByFirstNameKeys_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.peopleByFirstNameKeys_ = peopleByFirstNameKeys_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.peopleByName_ = peopleByName_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader) {
+          return mergeFrom((com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader other) {
+        if (other == com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader.getDefaultInstance()) return this;
+        if (!other.data_.isEmpty()) {
+          if (data_.isEmpty()) {
+            data_ = other.data_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDataIsMutable();
+            data_.addAll(other.data_);
+          }
+          onChanged();
+        }
+        if (!other.people_.isEmpty()) {
+          if (people_.isEmpty()) {
+            people_ = other.people_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePeopleIsMutable();
+            people_.addAll(other.people_);
+          }
+          onChanged();
+        }
+        if (peopleByFirstNameBuilder_ == null) {
+          if (!other.peopleByFirstName_.isEmpty()) {
+            if (peopleByFirstName_.isEmpty()) {
+              peopleByFirstName_ = other.peopleByFirstName_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensurePeopleByFirstNameIsMutable();
+              peopleByFirstName_.addAll(other.peopleByFirstName_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.peopleByFirstName_.isEmpty()) {
+            if (peopleByFirstNameBuilder_.isEmpty()) {
+              peopleByFirstNameBuilder_.dispose();
+              peopleByFirstNameBuilder_ = null;
+              peopleByFirstName_ = other.peopleByFirstName_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              peopleByFirstNameBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPeopleByFirstNameFieldBuilder() : null;
+            } else {
+              peopleByFirstNameBuilder_.addAllMessages(other.peopleByFirstName_);
+            }
+          }
+        }
+        if (!other.peopleByFirstNameKeys_.isEmpty()) {
+          if (peopleByFirstNameKeys_.isEmpty()) {
+            peopleByFirstNameKeys_ = other.peopleByFirstNameKeys_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensurePeopleByFirstNameKeysIsMutable();
+            peopleByFirstNameKeys_.addAll(other.peopleByFirstNameKeys_);
+          }
+          onChanged();
+        }
+        if (other.hasPeopleByName()) {
+          setPeopleByName(other.getPeopleByName());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.castsoftware.protozbuffer.generated.FileStructure.DocumentHeader) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated uint64 data = 1 [packed = true];
+      private java.util.List<java.lang.Long> data_ = java.util.Collections.emptyList();
+      private void ensureDataIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          data_ = new java.util.ArrayList<java.lang.Long>(data_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated uint64 data = 1 [packed = true];</code>
+       *
+       * <pre>
+       *repeated DataHeader data= 1 [packed=true];
+       * </pre>
+       */
+      public java.util.List<java.lang.Long>
+          getDataList() {
+        return java.util.Collections.unmodifiableList(data_);
+      }
+      /**
+       * <code>repeated uint64 data = 1 [packed = true];</code>
+       *
+       * <pre>
+       *repeated DataHeader data= 1 [packed=true];
+       * </pre>
+       */
+      public int getDataCount() {
+        return data_.size();
+      }
+      /**
+       * <code>repeated uint64 data = 1 [packed = true];</code>
+       *
+       * <pre>
+       *repeated DataHeader data= 1 [packed=true];
+       * </pre>
+       */
+      public long getData(int index) {
+        return data_.get(index);
+      }
+      /**
+       * <code>repeated uint64 data = 1 [packed = true];</code>
+       *
+       * <pre>
+       *repeated DataHeader data= 1 [packed=true];
+       * </pre>
+       */
+      public Builder setData(
+          int index, long value) {
+        ensureDataIsMutable();
+        data_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 data = 1 [packed = true];</code>
+       *
+       * <pre>
+       *repeated DataHeader data= 1 [packed=true];
+       * </pre>
+       */
+      public Builder addData(long value) {
+        ensureDataIsMutable();
+        data_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 data = 1 [packed = true];</code>
+       *
+       * <pre>
+       *repeated DataHeader data= 1 [packed=true];
+       * </pre>
+       */
+      public Builder addAllData(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureDataIsMutable();
+        super.addAll(values, data_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 data = 1 [packed = true];</code>
+       *
+       * <pre>
+       *repeated DataHeader data= 1 [packed=true];
+       * </pre>
+       */
+      public Builder clearData() {
+        data_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // repeated uint64 people = 2 [packed = true];
+      private java.util.List<java.lang.Long> people_ = java.util.Collections.emptyList();
+      private void ensurePeopleIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          people_ = new java.util.ArrayList<java.lang.Long>(people_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated uint64 people = 2 [packed = true];</code>
+       *
+       * <pre>
+       *repeated IdentityHeader people= 2 [packed=true];
+       * </pre>
+       */
+      public java.util.List<java.lang.Long>
+          getPeopleList() {
+        return java.util.Collections.unmodifiableList(people_);
+      }
+      /**
+       * <code>repeated uint64 people = 2 [packed = true];</code>
+       *
+       * <pre>
+       *repeated IdentityHeader people= 2 [packed=true];
+       * </pre>
+       */
+      public int getPeopleCount() {
+        return people_.size();
+      }
+      /**
+       * <code>repeated uint64 people = 2 [packed = true];</code>
+       *
+       * <pre>
+       *repeated IdentityHeader people= 2 [packed=true];
+       * </pre>
+       */
+      public long getPeople(int index) {
+        return people_.get(index);
+      }
+      /**
+       * <code>repeated uint64 people = 2 [packed = true];</code>
+       *
+       * <pre>
+       *repeated IdentityHeader people= 2 [packed=true];
+       * </pre>
+       */
+      public Builder setPeople(
+          int index, long value) {
+        ensurePeopleIsMutable();
+        people_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 people = 2 [packed = true];</code>
+       *
+       * <pre>
+       *repeated IdentityHeader people= 2 [packed=true];
+       * </pre>
+       */
+      public Builder addPeople(long value) {
+        ensurePeopleIsMutable();
+        people_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 people = 2 [packed = true];</code>
+       *
+       * <pre>
+       *repeated IdentityHeader people= 2 [packed=true];
+       * </pre>
+       */
+      public Builder addAllPeople(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensurePeopleIsMutable();
+        super.addAll(values, people_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 people = 2 [packed = true];</code>
+       *
+       * <pre>
+       *repeated IdentityHeader people= 2 [packed=true];
+       * </pre>
+       */
+      public Builder clearPeople() {
+        people_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      // repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;
+      private java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> peopleByFirstName_ =
+        java.util.Collections.emptyList();
+      private void ensurePeopleByFirstNameIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          peopleByFirstName_ = new java.util.ArrayList<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor>(peopleByFirstName_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> peopleByFirstNameBuilder_;
+
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> getPeopleByFirstNameList() {
+        if (peopleByFirstNameBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(peopleByFirstName_);
+        } else {
+          return peopleByFirstNameBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public int getPeopleByFirstNameCount() {
+        if (peopleByFirstNameBuilder_ == null) {
+          return peopleByFirstName_.size();
+        } else {
+          return peopleByFirstNameBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getPeopleByFirstName(int index) {
+        if (peopleByFirstNameBuilder_ == null) {
+          return peopleByFirstName_.get(index);
+        } else {
+          return peopleByFirstNameBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder setPeopleByFirstName(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (peopleByFirstNameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePeopleByFirstNameIsMutable();
+          peopleByFirstName_.set(index, value);
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder setPeopleByFirstName(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder builderForValue) {
+        if (peopleByFirstNameBuilder_ == null) {
+          ensurePeopleByFirstNameIsMutable();
+          peopleByFirstName_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder addPeopleByFirstName(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (peopleByFirstNameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePeopleByFirstNameIsMutable();
+          peopleByFirstName_.add(value);
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder addPeopleByFirstName(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (peopleByFirstNameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePeopleByFirstNameIsMutable();
+          peopleByFirstName_.add(index, value);
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder addPeopleByFirstName(
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder builderForValue) {
+        if (peopleByFirstNameBuilder_ == null) {
+          ensurePeopleByFirstNameIsMutable();
+          peopleByFirstName_.add(builderForValue.build());
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder addPeopleByFirstName(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder builderForValue) {
+        if (peopleByFirstNameBuilder_ == null) {
+          ensurePeopleByFirstNameIsMutable();
+          peopleByFirstName_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder addAllPeopleByFirstName(
+          java.lang.Iterable<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> values) {
+        if (peopleByFirstNameBuilder_ == null) {
+          ensurePeopleByFirstNameIsMutable();
+          super.addAll(values, peopleByFirstName_);
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder clearPeopleByFirstName() {
+        if (peopleByFirstNameBuilder_ == null) {
+          peopleByFirstName_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public Builder removePeopleByFirstName(int index) {
+        if (peopleByFirstNameBuilder_ == null) {
+          ensurePeopleByFirstNameIsMutable();
+          peopleByFirstName_.remove(index);
+          onChanged();
+        } else {
+          peopleByFirstNameBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder getPeopleByFirstNameBuilder(
+          int index) {
+        return getPeopleByFirstNameFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getPeopleByFirstNameOrBuilder(
+          int index) {
+        if (peopleByFirstNameBuilder_ == null) {
+          return peopleByFirstName_.get(index);  } else {
+          return peopleByFirstNameBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public java.util.List<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+           getPeopleByFirstNameOrBuilderList() {
+        if (peopleByFirstNameBuilder_ != null) {
+          return peopleByFirstNameBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(peopleByFirstName_);
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder addPeopleByFirstNameBuilder() {
+        return getPeopleByFirstNameFieldBuilder().addBuilder(
+            com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder addPeopleByFirstNameBuilder(
+          int index) {
+        return getPeopleByFirstNameFieldBuilder().addBuilder(
+            index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor peopleByFirstName = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader peopleByFirstName= 3;
+       * </pre>
+       */
+      public java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder> 
+           getPeopleByFirstNameBuilderList() {
+        return getPeopleByFirstNameFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+          getPeopleByFirstNameFieldBuilder() {
+        if (peopleByFirstNameBuilder_ == null) {
+          peopleByFirstNameBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder>(
+                  peopleByFirstName_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          peopleByFirstName_ = null;
+        }
+        return peopleByFirstNameBuilder_;
+      }
+
+      // repeated string peopleByFirstNameKeys = 4;
+      private com.google.protobuf.LazyStringList peopleByFirstNameKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePeopleByFirstNameKeysIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          peopleByFirstNameKeys_ = new com.google.protobuf.LazyStringArrayList(peopleByFirstNameKeys_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public java.util.List<java.lang.String>
+          getPeopleByFirstNameKeysList() {
+        return java.util.Collections.unmodifiableList(peopleByFirstNameKeys_);
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public int getPeopleByFirstNameKeysCount() {
+        return peopleByFirstNameKeys_.size();
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public java.lang.String getPeopleByFirstNameKeys(int index) {
+        return peopleByFirstNameKeys_.get(index);
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPeopleByFirstNameKeysBytes(int index) {
+        return peopleByFirstNameKeys_.getByteString(index);
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public Builder setPeopleByFirstNameKeys(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePeopleByFirstNameKeysIsMutable();
+        peopleByFirstNameKeys_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public Builder addPeopleByFirstNameKeys(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePeopleByFirstNameKeysIsMutable();
+        peopleByFirstNameKeys_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public Builder addAllPeopleByFirstNameKeys(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePeopleByFirstNameKeysIsMutable();
+        super.addAll(values, peopleByFirstNameKeys_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public Builder clearPeopleByFirstNameKeys() {
+        peopleByFirstNameKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string peopleByFirstNameKeys = 4;</code>
+       */
+      public Builder addPeopleByFirstNameKeysBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePeopleByFirstNameKeysIsMutable();
+        peopleByFirstNameKeys_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 peopleByName = 5;
+      private long peopleByName_ ;
+      /**
+       * <code>optional uint64 peopleByName = 5;</code>
+       *
+       * <pre>
+       *hash table of people by firstName
+       * </pre>
+       */
+      public boolean hasPeopleByName() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional uint64 peopleByName = 5;</code>
+       *
+       * <pre>
+       *hash table of people by firstName
+       * </pre>
+       */
+      public long getPeopleByName() {
+        return peopleByName_;
+      }
+      /**
+       * <code>optional uint64 peopleByName = 5;</code>
+       *
+       * <pre>
+       *hash table of people by firstName
+       * </pre>
+       */
+      public Builder setPeopleByName(long value) {
+        bitField0_ |= 0x00000010;
+        peopleByName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 peopleByName = 5;</code>
+       *
+       * <pre>
+       *hash table of people by firstName
+       * </pre>
+       */
+      public Builder clearPeopleByName() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        peopleByName_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.castsoftware.protozbuffer.generated.DocumentHeader)
+    }
+
+    static {
+      defaultInstance = new DocumentHeader(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.castsoftware.protozbuffer.generated.DocumentHeader)
+  }
+
+  public interface DataHeaderOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required uint64 identification = 1;
+    /**
+     * <code>required uint64 identification = 1;</code>
+     *
+     * <pre>
+     *required IdentityHeader identification= 1;
+     * </pre>
+     */
+    boolean hasIdentification();
+    /**
+     * <code>required uint64 identification = 1;</code>
+     *
+     * <pre>
+     *required IdentityHeader identification= 1;
+     * </pre>
+     */
+    long getIdentification();
+
+    // optional uint64 secretIdentity = 2;
+    /**
+     * <code>optional uint64 secretIdentity = 2;</code>
+     *
+     * <pre>
+     *optional IdentityHeader secretIdentity= 2;
+     * </pre>
+     */
+    boolean hasSecretIdentity();
+    /**
+     * <code>optional uint64 secretIdentity = 2;</code>
+     *
+     * <pre>
+     *optional IdentityHeader secretIdentity= 2;
+     * </pre>
+     */
+    long getSecretIdentity();
+
+    // repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> 
+        getReviewersList();
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getReviewers(int index);
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    int getReviewersCount();
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    java.util.List<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+        getReviewersOrBuilderList();
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getReviewersOrBuilder(
+        int index);
+
+    // optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;
+    /**
+     * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+     *
+     * <pre>
+     *optional IdentityHeader approver= 4;
+     * </pre>
+     */
+    boolean hasApprover();
+    /**
+     * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+     *
+     * <pre>
+     *optional IdentityHeader approver= 4;
+     * </pre>
+     */
+    com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getApprover();
+    /**
+     * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+     *
+     * <pre>
+     *optional IdentityHeader approver= 4;
+     * </pre>
+     */
+    com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getApproverOrBuilder();
+  }
+  /**
+   * Protobuf type {@code com.castsoftware.protozbuffer.generated.DataHeader}
+   */
+  public static final class DataHeader extends
+      com.google.protobuf.GeneratedMessage
+      implements DataHeaderOrBuilder {
+    // Use DataHeader.newBuilder() to construct.
+    private DataHeader(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DataHeader(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DataHeader defaultInstance;
+    public static DataHeader getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DataHeader getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DataHeader(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              identification_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              secretIdentity_ = input.readUInt64();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                reviewers_ = new java.util.ArrayList<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              reviewers_.add(input.readMessage(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = approver_.toBuilder();
+              }
+              approver_ = input.readMessage(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(approver_);
+                approver_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          reviewers_ = java.util.Collections.unmodifiableList(reviewers_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DataHeader_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DataHeader_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.castsoftware.protozbuffer.generated.FileStructure.DataHeader.class, com.castsoftware.protozbuffer.generated.FileStructure.DataHeader.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DataHeader> PARSER =
+        new com.google.protobuf.AbstractParser<DataHeader>() {
+      public DataHeader parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DataHeader(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DataHeader> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required uint64 identification = 1;
+    public static final int IDENTIFICATION_FIELD_NUMBER = 1;
+    private long identification_;
+    /**
+     * <code>required uint64 identification = 1;</code>
+     *
+     * <pre>
+     *required IdentityHeader identification= 1;
+     * </pre>
+     */
+    public boolean hasIdentification() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint64 identification = 1;</code>
+     *
+     * <pre>
+     *required IdentityHeader identification= 1;
+     * </pre>
+     */
+    public long getIdentification() {
+      return identification_;
+    }
+
+    // optional uint64 secretIdentity = 2;
+    public static final int SECRETIDENTITY_FIELD_NUMBER = 2;
+    private long secretIdentity_;
+    /**
+     * <code>optional uint64 secretIdentity = 2;</code>
+     *
+     * <pre>
+     *optional IdentityHeader secretIdentity= 2;
+     * </pre>
+     */
+    public boolean hasSecretIdentity() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint64 secretIdentity = 2;</code>
+     *
+     * <pre>
+     *optional IdentityHeader secretIdentity= 2;
+     * </pre>
+     */
+    public long getSecretIdentity() {
+      return secretIdentity_;
+    }
+
+    // repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;
+    public static final int REVIEWERS_FIELD_NUMBER = 3;
+    private java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> reviewers_;
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    public java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> getReviewersList() {
+      return reviewers_;
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    public java.util.List<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+        getReviewersOrBuilderList() {
+      return reviewers_;
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    public int getReviewersCount() {
+      return reviewers_.size();
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getReviewers(int index) {
+      return reviewers_.get(index);
+    }
+    /**
+     * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+     *
+     * <pre>
+     *repeated IdentityHeader reviewers= 3;
+     * </pre>
+     */
+    public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getReviewersOrBuilder(
+        int index) {
+      return reviewers_.get(index);
+    }
+
+    // optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;
+    public static final int APPROVER_FIELD_NUMBER = 4;
+    private com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor approver_;
+    /**
+     * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+     *
+     * <pre>
+     *optional IdentityHeader approver= 4;
+     * </pre>
+     */
+    public boolean hasApprover() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+     *
+     * <pre>
+     *optional IdentityHeader approver= 4;
+     * </pre>
+     */
+    public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getApprover() {
+      return approver_;
+    }
+    /**
+     * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+     *
+     * <pre>
+     *optional IdentityHeader approver= 4;
+     * </pre>
+     */
+    public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getApproverOrBuilder() {
+      return approver_;
+    }
+
+    private void initFields() {
+      identification_ = 0L;
+      secretIdentity_ = 0L;
+      reviewers_ = java.util.Collections.emptyList();
+      approver_ = com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasIdentification()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, identification_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, secretIdentity_);
+      }
+      for (int i = 0; i < reviewers_.size(); i++) {
+        output.writeMessage(3, reviewers_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(4, approver_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, identification_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, secretIdentity_);
+      }
+      for (int i = 0; i < reviewers_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, reviewers_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, approver_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.castsoftware.protozbuffer.generated.FileStructure.DataHeader prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.castsoftware.protozbuffer.generated.DataHeader}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.castsoftware.protozbuffer.generated.FileStructure.DataHeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DataHeader_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DataHeader_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.castsoftware.protozbuffer.generated.FileStructure.DataHeader.class, com.castsoftware.protozbuffer.generated.FileStructure.DataHeader.Builder.class);
+      }
+
+      // Construct using com.castsoftware.protozbuffer.generated.FileStructure.DataHeader.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getReviewersFieldBuilder();
+          getApproverFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        identification_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        secretIdentity_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (reviewersBuilder_ == null) {
+          reviewers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          reviewersBuilder_.clear();
+        }
+        if (approverBuilder_ == null) {
+          approver_ = com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance();
+        } else {
+          approverBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_DataHeader_descriptor;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.DataHeader getDefaultInstanceForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.DataHeader.getDefaultInstance();
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.DataHeader build() {
+        com.castsoftware.protozbuffer.generated.FileStructure.DataHeader result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.DataHeader buildPartial() {
+        com.castsoftware.protozbuffer.generated.FileStructure.DataHeader result = new com.castsoftware.protozbuffer.generated.FileStructure.DataHeader(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.identification_ = identification_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.secretIdentity_ = secretIdentity_;
+        if (reviewersBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            reviewers_ = java.util.Collections.unmodifiableList(reviewers_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.reviewers_ = reviewers_;
+        } else {
+          result.reviewers_ = reviewersBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (approverBuilder_ == null) {
+          result.approver_ = approver_;
+        } else {
+          result.approver_ = approverBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.castsoftware.protozbuffer.generated.FileStructure.DataHeader) {
+          return mergeFrom((com.castsoftware.protozbuffer.generated.FileStructure.DataHeader)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.castsoftware.protozbuffer.generated.FileStructure.DataHeader other) {
+        if (other == com.castsoftware.protozbuffer.generated.FileStructure.DataHeader.getDefaultInstance()) return this;
+        if (other.hasIdentification()) {
+          setIdentification(other.getIdentification());
+        }
+        if (other.hasSecretIdentity()) {
+          setSecretIdentity(other.getSecretIdentity());
+        }
+        if (reviewersBuilder_ == null) {
+          if (!other.reviewers_.isEmpty()) {
+            if (reviewers_.isEmpty()) {
+              reviewers_ = other.reviewers_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureReviewersIsMutable();
+              reviewers_.addAll(other.reviewers_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.reviewers_.isEmpty()) {
+            if (reviewersBuilder_.isEmpty()) {
+              reviewersBuilder_.dispose();
+              reviewersBuilder_ = null;
+              reviewers_ = other.reviewers_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              reviewersBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getReviewersFieldBuilder() : null;
+            } else {
+              reviewersBuilder_.addAllMessages(other.reviewers_);
+            }
+          }
+        }
+        if (other.hasApprover()) {
+          mergeApprover(other.getApprover());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasIdentification()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.castsoftware.protozbuffer.generated.FileStructure.DataHeader parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.castsoftware.protozbuffer.generated.FileStructure.DataHeader) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required uint64 identification = 1;
+      private long identification_ ;
+      /**
+       * <code>required uint64 identification = 1;</code>
+       *
+       * <pre>
+       *required IdentityHeader identification= 1;
+       * </pre>
+       */
+      public boolean hasIdentification() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint64 identification = 1;</code>
+       *
+       * <pre>
+       *required IdentityHeader identification= 1;
+       * </pre>
+       */
+      public long getIdentification() {
+        return identification_;
+      }
+      /**
+       * <code>required uint64 identification = 1;</code>
+       *
+       * <pre>
+       *required IdentityHeader identification= 1;
+       * </pre>
+       */
+      public Builder setIdentification(long value) {
+        bitField0_ |= 0x00000001;
+        identification_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 identification = 1;</code>
+       *
+       * <pre>
+       *required IdentityHeader identification= 1;
+       * </pre>
+       */
+      public Builder clearIdentification() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        identification_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 secretIdentity = 2;
+      private long secretIdentity_ ;
+      /**
+       * <code>optional uint64 secretIdentity = 2;</code>
+       *
+       * <pre>
+       *optional IdentityHeader secretIdentity= 2;
+       * </pre>
+       */
+      public boolean hasSecretIdentity() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint64 secretIdentity = 2;</code>
+       *
+       * <pre>
+       *optional IdentityHeader secretIdentity= 2;
+       * </pre>
+       */
+      public long getSecretIdentity() {
+        return secretIdentity_;
+      }
+      /**
+       * <code>optional uint64 secretIdentity = 2;</code>
+       *
+       * <pre>
+       *optional IdentityHeader secretIdentity= 2;
+       * </pre>
+       */
+      public Builder setSecretIdentity(long value) {
+        bitField0_ |= 0x00000002;
+        secretIdentity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 secretIdentity = 2;</code>
+       *
+       * <pre>
+       *optional IdentityHeader secretIdentity= 2;
+       * </pre>
+       */
+      public Builder clearSecretIdentity() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        secretIdentity_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;
+      private java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> reviewers_ =
+        java.util.Collections.emptyList();
+      private void ensureReviewersIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          reviewers_ = new java.util.ArrayList<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor>(reviewers_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> reviewersBuilder_;
+
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> getReviewersList() {
+        if (reviewersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(reviewers_);
+        } else {
+          return reviewersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public int getReviewersCount() {
+        if (reviewersBuilder_ == null) {
+          return reviewers_.size();
+        } else {
+          return reviewersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getReviewers(int index) {
+        if (reviewersBuilder_ == null) {
+          return reviewers_.get(index);
+        } else {
+          return reviewersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder setReviewers(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (reviewersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReviewersIsMutable();
+          reviewers_.set(index, value);
+          onChanged();
+        } else {
+          reviewersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder setReviewers(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder builderForValue) {
+        if (reviewersBuilder_ == null) {
+          ensureReviewersIsMutable();
+          reviewers_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          reviewersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder addReviewers(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (reviewersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReviewersIsMutable();
+          reviewers_.add(value);
+          onChanged();
+        } else {
+          reviewersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder addReviewers(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (reviewersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReviewersIsMutable();
+          reviewers_.add(index, value);
+          onChanged();
+        } else {
+          reviewersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder addReviewers(
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder builderForValue) {
+        if (reviewersBuilder_ == null) {
+          ensureReviewersIsMutable();
+          reviewers_.add(builderForValue.build());
+          onChanged();
+        } else {
+          reviewersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder addReviewers(
+          int index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder builderForValue) {
+        if (reviewersBuilder_ == null) {
+          ensureReviewersIsMutable();
+          reviewers_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          reviewersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder addAllReviewers(
+          java.lang.Iterable<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor> values) {
+        if (reviewersBuilder_ == null) {
+          ensureReviewersIsMutable();
+          super.addAll(values, reviewers_);
+          onChanged();
+        } else {
+          reviewersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder clearReviewers() {
+        if (reviewersBuilder_ == null) {
+          reviewers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          reviewersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public Builder removeReviewers(int index) {
+        if (reviewersBuilder_ == null) {
+          ensureReviewersIsMutable();
+          reviewers_.remove(index);
+          onChanged();
+        } else {
+          reviewersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder getReviewersBuilder(
+          int index) {
+        return getReviewersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getReviewersOrBuilder(
+          int index) {
+        if (reviewersBuilder_ == null) {
+          return reviewers_.get(index);  } else {
+          return reviewersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public java.util.List<? extends com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+           getReviewersOrBuilderList() {
+        if (reviewersBuilder_ != null) {
+          return reviewersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(reviewers_);
+        }
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder addReviewersBuilder() {
+        return getReviewersFieldBuilder().addBuilder(
+            com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder addReviewersBuilder(
+          int index) {
+        return getReviewersFieldBuilder().addBuilder(
+            index, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor reviewers = 3;</code>
+       *
+       * <pre>
+       *repeated IdentityHeader reviewers= 3;
+       * </pre>
+       */
+      public java.util.List<com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder> 
+           getReviewersBuilderList() {
+        return getReviewersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+          getReviewersFieldBuilder() {
+        if (reviewersBuilder_ == null) {
+          reviewersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder>(
+                  reviewers_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          reviewers_ = null;
+        }
+        return reviewersBuilder_;
+      }
+
+      // optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;
+      private com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor approver_ = com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> approverBuilder_;
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public boolean hasApprover() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getApprover() {
+        if (approverBuilder_ == null) {
+          return approver_;
+        } else {
+          return approverBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public Builder setApprover(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (approverBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          approver_ = value;
+          onChanged();
+        } else {
+          approverBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public Builder setApprover(
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder builderForValue) {
+        if (approverBuilder_ == null) {
+          approver_ = builderForValue.build();
+          onChanged();
+        } else {
+          approverBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public Builder mergeApprover(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor value) {
+        if (approverBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              approver_ != com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance()) {
+            approver_ =
+              com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.newBuilder(approver_).mergeFrom(value).buildPartial();
+          } else {
+            approver_ = value;
+          }
+          onChanged();
+        } else {
+          approverBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public Builder clearApprover() {
+        if (approverBuilder_ == null) {
+          approver_ = com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance();
+          onChanged();
+        } else {
+          approverBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder getApproverBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getApproverFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder getApproverOrBuilder() {
+        if (approverBuilder_ != null) {
+          return approverBuilder_.getMessageOrBuilder();
+        } else {
+          return approver_;
+        }
+      }
+      /**
+       * <code>optional .com.castsoftware.protozbuffer.generated.LocalMessageDescriptor approver = 4;</code>
+       *
+       * <pre>
+       *optional IdentityHeader approver= 4;
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder> 
+          getApproverFieldBuilder() {
+        if (approverBuilder_ == null) {
+          approverBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder>(
+                  approver_,
+                  getParentForChildren(),
+                  isClean());
+          approver_ = null;
+        }
+        return approverBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.castsoftware.protozbuffer.generated.DataHeader)
+    }
+
+    static {
+      defaultInstance = new DataHeader(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.castsoftware.protozbuffer.generated.DataHeader)
+  }
+
+  public interface IdentityHeaderOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string firstName = 1;
+    /**
+     * <code>required string firstName = 1;</code>
+     */
+    boolean hasFirstName();
+    /**
+     * <code>required string firstName = 1;</code>
+     */
+    java.lang.String getFirstName();
+    /**
+     * <code>required string firstName = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getFirstNameBytes();
+
+    // optional int32 birthYear = 2;
+    /**
+     * <code>optional int32 birthYear = 2;</code>
+     */
+    boolean hasBirthYear();
+    /**
+     * <code>optional int32 birthYear = 2;</code>
+     */
+    int getBirthYear();
+  }
+  /**
+   * Protobuf type {@code com.castsoftware.protozbuffer.generated.IdentityHeader}
+   */
+  public static final class IdentityHeader extends
+      com.google.protobuf.GeneratedMessage
+      implements IdentityHeaderOrBuilder {
+    // Use IdentityHeader.newBuilder() to construct.
+    private IdentityHeader(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private IdentityHeader(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final IdentityHeader defaultInstance;
+    public static IdentityHeader getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public IdentityHeader getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private IdentityHeader(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              firstName_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              birthYear_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader.class, com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<IdentityHeader> PARSER =
+        new com.google.protobuf.AbstractParser<IdentityHeader>() {
+      public IdentityHeader parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new IdentityHeader(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<IdentityHeader> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string firstName = 1;
+    public static final int FIRSTNAME_FIELD_NUMBER = 1;
+    private java.lang.Object firstName_;
+    /**
+     * <code>required string firstName = 1;</code>
+     */
+    public boolean hasFirstName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string firstName = 1;</code>
+     */
+    public java.lang.String getFirstName() {
+      java.lang.Object ref = firstName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          firstName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string firstName = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFirstNameBytes() {
+      java.lang.Object ref = firstName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        firstName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 birthYear = 2;
+    public static final int BIRTHYEAR_FIELD_NUMBER = 2;
+    private int birthYear_;
+    /**
+     * <code>optional int32 birthYear = 2;</code>
+     */
+    public boolean hasBirthYear() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 birthYear = 2;</code>
+     */
+    public int getBirthYear() {
+      return birthYear_;
+    }
+
+    private void initFields() {
+      firstName_ = "";
+      birthYear_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFirstName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getFirstNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, birthYear_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getFirstNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, birthYear_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.castsoftware.protozbuffer.generated.IdentityHeader}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader.class, com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader.Builder.class);
+      }
+
+      // Construct using com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        firstName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        birthYear_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_descriptor;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader getDefaultInstanceForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader.getDefaultInstance();
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader build() {
+        com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader buildPartial() {
+        com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader result = new com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.firstName_ = firstName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.birthYear_ = birthYear_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader) {
+          return mergeFrom((com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader other) {
+        if (other == com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader.getDefaultInstance()) return this;
+        if (other.hasFirstName()) {
+          bitField0_ |= 0x00000001;
+          firstName_ = other.firstName_;
+          onChanged();
+        }
+        if (other.hasBirthYear()) {
+          setBirthYear(other.getBirthYear());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFirstName()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.castsoftware.protozbuffer.generated.FileStructure.IdentityHeader) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string firstName = 1;
+      private java.lang.Object firstName_ = "";
+      /**
+       * <code>required string firstName = 1;</code>
+       */
+      public boolean hasFirstName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string firstName = 1;</code>
+       */
+      public java.lang.String getFirstName() {
+        java.lang.Object ref = firstName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          firstName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string firstName = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFirstNameBytes() {
+        java.lang.Object ref = firstName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          firstName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string firstName = 1;</code>
+       */
+      public Builder setFirstName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        firstName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string firstName = 1;</code>
+       */
+      public Builder clearFirstName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        firstName_ = getDefaultInstance().getFirstName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string firstName = 1;</code>
+       */
+      public Builder setFirstNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        firstName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 birthYear = 2;
+      private int birthYear_ ;
+      /**
+       * <code>optional int32 birthYear = 2;</code>
+       */
+      public boolean hasBirthYear() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 birthYear = 2;</code>
+       */
+      public int getBirthYear() {
+        return birthYear_;
+      }
+      /**
+       * <code>optional int32 birthYear = 2;</code>
+       */
+      public Builder setBirthYear(int value) {
+        bitField0_ |= 0x00000002;
+        birthYear_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 birthYear = 2;</code>
+       */
+      public Builder clearBirthYear() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        birthYear_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.castsoftware.protozbuffer.generated.IdentityHeader)
+    }
+
+    static {
+      defaultInstance = new IdentityHeader(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.castsoftware.protozbuffer.generated.IdentityHeader)
+  }
+
+  public interface LocalMessageDescriptorOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated int32 coordinate = 1 [packed = true];
+    /**
+     * <code>repeated int32 coordinate = 1 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getCoordinateList();
+    /**
+     * <code>repeated int32 coordinate = 1 [packed = true];</code>
+     */
+    int getCoordinateCount();
+    /**
+     * <code>repeated int32 coordinate = 1 [packed = true];</code>
+     */
+    int getCoordinate(int index);
+
+    // optional uint64 offset = 2;
+    /**
+     * <code>optional uint64 offset = 2;</code>
+     *
+     * <pre>
+     * position of the referenced message in the content, when known at build time
+     * </pre>
+     */
+    boolean hasOffset();
+    /**
+     * <code>optional uint64 offset = 2;</code>
+     *
+     * <pre>
+     * position of the referenced message in the content, when known at build time
+     * </pre>
+     */
+    long getOffset();
+  }
+  /**
+   * Protobuf type {@code com.castsoftware.protozbuffer.generated.LocalMessageDescriptor}
+   */
+  public static final class LocalMessageDescriptor extends
+      com.google.protobuf.GeneratedMessage
+      implements LocalMessageDescriptorOrBuilder {
+    // Use LocalMessageDescriptor.newBuilder() to construct.
+    private LocalMessageDescriptor(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LocalMessageDescriptor(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final LocalMessageDescriptor defaultInstance;
+    public static LocalMessageDescriptor getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public LocalMessageDescriptor getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LocalMessageDescriptor(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                coordinate_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              coordinate_.add(input.readInt32());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                coordinate_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                coordinate_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              offset_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          coordinate_ = java.util.Collections.unmodifiableList(coordinate_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.class, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<LocalMessageDescriptor> PARSER =
+        new com.google.protobuf.AbstractParser<LocalMessageDescriptor>() {
+      public LocalMessageDescriptor parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LocalMessageDescriptor(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LocalMessageDescriptor> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // repeated int32 coordinate = 1 [packed = true];
+    public static final int COORDINATE_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Integer> coordinate_;
+    /**
+     * <code>repeated int32 coordinate = 1 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getCoordinateList() {
+      return coordinate_;
+    }
+    /**
+     * <code>repeated int32 coordinate = 1 [packed = true];</code>
+     */
+    public int getCoordinateCount() {
+      return coordinate_.size();
+    }
+    /**
+     * <code>repeated int32 coordinate = 1 [packed = true];</code>
+     */
+    public int getCoordinate(int index) {
+      return coordinate_.get(index);
+    }
+    private int coordinateMemoizedSerializedSize = -1;
+
+    // optional uint64 offset = 2;
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private long offset_;
+    /**
+     * <code>optional uint64 offset = 2;</code>
+     *
+     * <pre>
+     * position of the referenced message in the content, when known at build time
+     * </pre>
+     */
+    public boolean hasOffset() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 offset = 2;</code>
+     *
+     * <pre>
+     * position of the referenced message in the content, when known at build time
+     * </pre>
+     */
+    public long getOffset() {
+      return offset_;
+    }
+
+    private void initFields() {
+      coordinate_ = java.util.Collections.emptyList();
+      offset_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getCoordinateList().size() > 0) {
+        output.writeRawVarint32(10);
+        output.writeRawVarint32(coordinateMemoizedSerializedSize);
+      }
+      for (int i = 0; i < coordinate_.size(); i++) {
+        output.writeInt32NoTag(coordinate_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(2, offset_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < coordinate_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(coordinate_.get(i));
+        }
+        size += dataSize;
+        if (!getCoordinateList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        coordinateMemoizedSerializedSize = dataSize;
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, offset_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.castsoftware.protozbuffer.generated.LocalMessageDescriptor}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptorOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.class, com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.Builder.class);
+      }
+
+      // Construct using com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        coordinate_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        offset_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_descriptor;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor getDefaultInstanceForType() {
+        return com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance();
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor build() {
+        com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor buildPartial() {
+        com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor result = new com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          coordinate_ = java.util.Collections.unmodifiableList(coordinate_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.coordinate_ = coordinate_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.offset_ = offset_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor) {
+          return mergeFrom((com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor other) {
+        if (other == com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor.getDefaultInstance()) return this;
+        if (!other.coordinate_.isEmpty()) {
+          if (coordinate_.isEmpty()) {
+            coordinate_ = other.coordinate_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureCoordinateIsMutable();
+            coordinate_.addAll(other.coordinate_);
+          }
+          onChanged();
+        }
+        if (other.hasOffset()) {
+          setOffset(other.getOffset());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated int32 coordinate = 1 [packed = true];
+      private java.util.List<java.lang.Integer> coordinate_ = java.util.Collections.emptyList();
+      private void ensureCoordinateIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          coordinate_ = new java.util.ArrayList<java.lang.Integer>(coordinate_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int32 coordinate = 1 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getCoordinateList() {
+        return java.util.Collections.unmodifiableList(coordinate_);
+      }
+      /**
+       * <code>repeated int32 coordinate = 1 [packed = true];</code>
+       */
+      public int getCoordinateCount() {
+        return coordinate_.size();
+      }
+      /**
+       * <code>repeated int32 coordinate = 1 [packed = true];</code>
+       */
+      public int getCoordinate(int index) {
+        return coordinate_.get(index);
+      }
+      /**
+       * <code>repeated int32 coordinate = 1 [packed = true];</code>
+       */
+      public Builder setCoordinate(
+          int index, int value) {
+        ensureCoordinateIsMutable();
+        coordinate_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 coordinate = 1 [packed = true];</code>
+       */
+      public Builder addCoordinate(int value) {
+        ensureCoordinateIsMutable();
+        coordinate_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 coordinate = 1 [packed = true];</code>
+       */
+      public Builder addAllCoordinate(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureCoordinateIsMutable();
+        super.addAll(values, coordinate_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 coordinate = 1 [packed = true];</code>
+       */
+      public Builder clearCoordinate() {
+        coordinate_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 offset = 2;
+      private long offset_ ;
+      /**
+       * <code>optional uint64 offset = 2;</code>
+       *
+       * <pre>
+       * position of the referenced message in the content, when known at build time
+       * </pre>
+       */
+      public boolean hasOffset() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint64 offset = 2;</code>
+       *
+       * <pre>
+       * position of the referenced message in the content, when known at build time
+       * </pre>
+       */
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>optional uint64 offset = 2;</code>
+       *
+       * <pre>
+       * position of the referenced message in the content, when known at build time
+       * </pre>
+       */
+      public Builder setOffset(long value) {
+        bitField0_ |= 0x00000002;
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 offset = 2;</code>
+       *
+       * <pre>
+       * position of the referenced message in the content, when known at build time
+       * </pre>
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.castsoftware.protozbuffer.generated.LocalMessageDescriptor)
+    }
+
+    static {
+      defaultInstance = new LocalMessageDescriptor(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.castsoftware.protozbuffer.generated.LocalMessageDescriptor)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_castsoftware_protozbuffer_generated_DataHeader_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_castsoftware_protozbuffer_generated_DataHeader_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\023FileStructure.proto\022\'com.castsoftware." +
+      "protozbuffer.generated\"\307\001\n\016DocumentHeade" +
+      "r\022\020\n\004data\030\001 \003(\004B\002\020\001\022\022\n\006people\030\002 \003(\004B\002\020\001\022" +
+      "Z\n\021peopleByFirstName\030\003 \003(\0132?.com.castsof" +
+      "tware.protozbuffer.generated.LocalMessag" +
+      "eDescriptor\022\035\n\025peopleByFirstNameKeys\030\004 \003" +
+      "(\t\022\024\n\014peopleByName\030\005 \001(\004\"\343\001\n\nDataHeader\022" +
+      "\026\n\016identification\030\001 \002(\004\022\026\n\016secretIdentit" +
+      "y\030\002 \001(\004\022R\n\treviewers\030\003 \003(\0132?.com.castsof" +
+      "tware.protozbuffer.generated.LocalMessag",
+      "eDescriptor\022Q\n\010approver\030\004 \001(\0132?.com.cast" +
+      "software.protozbuffer.generated.LocalMes" +
+      "sageDescriptor\"6\n\016IdentityHeader\022\021\n\tfirs" +
+      "tName\030\001 \002(\t\022\021\n\tbirthYear\030\002 \001(\005\"@\n\026LocalM" +
+      "essageDescriptor\022\026\n\ncoordinate\030\001 \003(\005B\002\020\001" +
+      "\022\016\n\006offset\030\002 \001(\004"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_com_castsoftware_protozbuffer_generated_DocumentHeader_descriptor,
+              new java.lang.String[] { "Data", "People", "PeopleByFirstName", "PeopleByFirstNameKeys", "PeopleByName", });
+          internal_static_com_castsoftware_protozbuffer_generated_DataHeader_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_com_castsoftware_protozbuffer_generated_DataHeader_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_com_castsoftware_protozbuffer_generated_DataHeader_descriptor,
+              new java.lang.String[] { "Identification", "SecretIdentity", "Reviewers", "Approver", });
+          internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_com_castsoftware_protozbuffer_generated_IdentityHeader_descriptor,
+              new java.lang.String[] { "FirstName", "BirthYear", });
+          internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_com_castsoftware_protozbuffer_generated_LocalMessageDescriptor_descriptor,
+              new java.lang.String[] { "Coordinate", "Offset", });
+          return null;
+        }
+      };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
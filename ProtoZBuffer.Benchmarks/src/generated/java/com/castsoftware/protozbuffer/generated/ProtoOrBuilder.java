@@ -0,0 +1,37 @@
+//------------------------------------------------------------------------------
+// <auto-generated>
+//     This code was generated by a tool.
+//
+//     Changes to this file may cause incorrect behavior and will be lost if
+//     the code is regenerated.
+// </auto-generated>
+//------------------------------------------------------------------------------
+package com.castsoftware.protozbuffer.generated;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.castsoftware.protozbuffer.generated.FileStructure.LocalMessageDescriptor;
+import com.castsoftware.protozbuffer.common.IFormat;
+import com.castsoftware.protozbuffer.common.IIOStream;
+
+@SuppressWarnings("all")
+public interface ProtoOrBuilder
+{
+    ProtoOrBuilder getRoot();
+    void addCoordinates(List<Integer> coordinates);
+    LocalMessageDescriptor getLocalMessageDescriptor();
+    long getPositionInContent();
+    ProtoOrBuilder decode(List<Integer> coordinates, int index);
+    ProtoOrBuilder decode(LocalMessageDescriptor field);
+    ProtoOrBuilder resolve(LocalMessageDescriptor field);
+    List<ProtoOrBuilder> resolve(List<LocalMessageDescriptor> fields);
+    IIOStream getContentStream();
+    void build(IIOStream content, boolean saveToOutput, boolean parallel) throws IOException;
+    void edit();
+    void keepEdited(int fieldId, int index, ProtoOrBuilder child);
+    void setRelocation(long positionInContent, long positionInOutput);
+    long getRelocation(long positionInContent);
+    void keepReplaced(long positionInContent);
+    String toString(IFormat format);
+}
@@ -0,0 +1,73 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.castsoftware.protozbuffer.common.IIOStream;
+
+/**
+ * Appends identity headers to each kind of stream, as build() does for every message
+ * of a document. The stream is emptied before each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildBenchmark
+{
+    @Param({ Streams.BYTES, Streams.FILE, Streams.FILE_CONCURRENT, Streams.FILE_BUFFERED, Streams.MAPPED,
+            Streams.CACHED, Streams.COMPRESSED, Streams.CHECKSUMMED })
+    public String stream;
+
+    private File _file;
+    private IIOStream _stream;
+    private String[] _names;
+    private int _next;
+
+    @Setup(Level.Trial)
+    public void names()
+    {
+        _names = new String[4096];
+        for (int i = 0; i < _names.length; i++)
+            _names[i] = Streams.firstName(i);
+    }
+
+    @Setup(Level.Iteration)
+    public void open() throws IOException
+    {
+        _file = File.createTempFile("protozbuffer", ".bin");
+        _stream = Streams.open(stream, _file);
+        _next = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() throws IOException
+    {
+        _stream.close();
+        _file.delete();
+    }
+
+    @Benchmark
+    public long appendHeader() throws IOException
+    {
+        int index = _next++;
+        return Streams.writeIdentity(_stream, _names[index & (_names.length - 1)], 1900 + index % 120);
+    }
+}
@@ -0,0 +1,80 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.castsoftware.protozbuffer.common.ByteArrayIOStream;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+/**
+ * Decodes one length-delimited record at a random position of an in memory document.
+ * The cost of a decode must not depend on the document size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteArrayIOStreamBenchmark
+{
+    private static final int RECORD_SIZE = 32;
+
+    @Param({ "1024", "32768", "1048576" })
+    public int records;
+
+    private ByteArrayIOStream _stream;
+    private long[] _positions;
+    private int[] _probes;
+    private int _next;
+
+    @Setup(Level.Trial)
+    public void build() throws IOException
+    {
+        _stream = new ByteArrayIOStream();
+        _positions = new long[records];
+
+        OutputStream output = _stream.getOutputStream();
+        CodedOutputStream coded = CodedOutputStream.newInstance(output);
+        byte[] payload = new byte[RECORD_SIZE];
+        for (int i = 0; i < records; i++)
+        {
+            coded.flush();
+            _positions[i] = _stream.getPosition();
+            coded.writeRawVarint32(payload.length);
+            coded.writeRawBytes(payload);
+        }
+        coded.flush();
+
+        Random random = new Random(42);
+        _probes = new int[4096];
+        for (int i = 0; i < _probes.length; i++)
+            _probes[i] = random.nextInt(records);
+    }
+
+    @Benchmark
+    public byte[] decodeRecord() throws IOException
+    {
+        int probe = _probes[_next++ & (_probes.length - 1)];
+        InputStream input = _stream.getInputStreamAt(_positions[probe]);
+        CodedInputStream coded = CodedInputStream.newInstance(input);
+        return coded.readRawBytes(coded.readRawVarint32());
+    }
+}
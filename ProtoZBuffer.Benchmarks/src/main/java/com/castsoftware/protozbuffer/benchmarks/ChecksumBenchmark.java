@@ -0,0 +1,56 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.castsoftware.protozbuffer.common.BlockCompressedIOStream;
+import com.castsoftware.protozbuffer.common.Crc32c;
+
+/**
+ * Checksums one block of a BlockCompressedIOStream, with the CRC-32C it stores
+ * and with the CRC-32 of the JDK for reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksumBenchmark
+{
+    private byte[] _block;
+
+    @Setup(Level.Trial)
+    public void fill()
+    {
+        _block = new byte[BlockCompressedIOStream.DEFAULT_BLOCK_SIZE];
+        new Random(42).nextBytes(_block);
+    }
+
+    @Benchmark
+    public int crc32c()
+    {
+        return Crc32c.compute(_block, 0, _block.length);
+    }
+
+    @Benchmark
+    public long crc32()
+    {
+        CRC32 crc = new CRC32();
+        crc.update(_block, 0, _block.length);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,138 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.castsoftware.protozbuffer.Data;
+import com.castsoftware.protozbuffer.Document;
+import com.castsoftware.protozbuffer.common.IIOStream;
+
+/**
+ * Reads a document of the generated FileStructure classes built in each kind of stream:
+ * root decoding, lazy list access, reference resolution, index lookups and formatting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentBenchmark
+{
+    @Param({ Streams.BYTES, Streams.FILE, Streams.FILE_CONCURRENT, Streams.FILE_BUFFERED, Streams.MAPPED,
+            Streams.CACHED, Streams.COMPRESSED, Streams.CHECKSUMMED })
+    public String stream;
+
+    @Param({ "32768" })
+    public int records;
+
+    private File _file;
+    private IIOStream _stream;
+    private Document _document;
+    private int[] _probes;
+    private String[] _names;
+    private int _next;
+
+    @Setup(Level.Trial)
+    public void build() throws IOException
+    {
+        _file = File.createTempFile("protozbuffer", ".bin");
+        _stream = Streams.open(stream, _file);
+        Documents.build(_stream, records);
+        _document = Document.parseFrom(_stream);
+
+        Random random = new Random(42);
+        _probes = new int[4096];
+        _names = new String[_probes.length];
+        for (int i = 0; i < _probes.length; i++)
+        {
+            _probes[i] = random.nextInt(records);
+            _names[i] = Streams.firstName(random.nextInt(records));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException
+    {
+        _stream.close();
+        _file.delete();
+    }
+
+    private int nextProbe()
+    {
+        return _next++ & (_probes.length - 1);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Document parseRoot() throws IOException
+    {
+        return Document.parseFrom(_stream);
+    }
+
+    @Benchmark
+    public String getData()
+    {
+        return _document.getData(_probes[nextProbe()]).getIdentification().getFirstName();
+    }
+
+    /**
+     * Resolves a reference stored with the offset of its target: the document is flushed first,
+     * so that the target is decoded instead of being found in the cache of resolved references
+     */
+    @Benchmark
+    public String resolveOffsetReference()
+    {
+        int probe = _probes[nextProbe()];
+        _document.flush();
+        Data data = _document.getData(Math.max(probe, 1));
+        return data.getReviewers(0).getFirstName();
+    }
+
+    /**
+     * Resolves a reference stored with the coordinates of its target only (its target is built after it)
+     */
+    @Benchmark
+    public String resolveCoordinatesReference()
+    {
+        int probe = _probes[nextProbe()];
+        _document.flush();
+        Data data = _document.getData(probe);
+        return data.getApprover().getFirstName();
+    }
+
+    @Benchmark
+    public Object searchSorted()
+    {
+        return _document.searchPeopleByFirstName(_names[nextProbe()]);
+    }
+
+    @Benchmark
+    public Object findHashed()
+    {
+        return _document.findPeopleByName(_names[nextProbe()]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String formatData()
+    {
+        return _document.getData(_probes[nextProbe()]).toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.castsoftware.protozbuffer.Document;
+import com.castsoftware.protozbuffer.common.IIOStream;
+
+/**
+ * Builds documents of the generated FileStructure classes in each kind of stream: headers, references
+ * and indexes. The documents are appended to a stream emptied before each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentBuildBenchmark
+{
+    @Param({ Streams.BYTES, Streams.FILE, Streams.FILE_CONCURRENT, Streams.FILE_BUFFERED, Streams.MAPPED,
+            Streams.CACHED, Streams.COMPRESSED, Streams.CHECKSUMMED })
+    public String stream;
+
+    @Param({ "1024" })
+    public int records;
+
+    private File _file;
+    private IIOStream _stream;
+
+    @Setup(Level.Iteration)
+    public void open() throws IOException
+    {
+        _file = File.createTempFile("protozbuffer", ".bin");
+        _stream = Streams.open(stream, _file);
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() throws IOException
+    {
+        _stream.close();
+        _file.delete();
+    }
+
+    @Benchmark
+    public Document build() throws IOException
+    {
+        return Documents.build(_stream, records);
+    }
+}
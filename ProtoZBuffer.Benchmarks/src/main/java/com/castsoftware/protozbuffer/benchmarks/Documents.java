@@ -0,0 +1,47 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.IOException;
+
+import com.castsoftware.protozbuffer.Data;
+import com.castsoftware.protozbuffer.Document;
+import com.castsoftware.protozbuffer.common.IIOStream;
+
+/**
+ * Documents of the classes generated from src/main/protoz/FileStructure.xml, to build in the benchmarked streams.
+ */
+final class Documents
+{
+    private Documents()
+    {
+    }
+
+    /**
+     * Builds a document of records data and records people in stream.
+     * Each data is reviewed by the identification of the previous data, a reference stored with its offset,
+     * and approved by a person, a reference stored with its coordinates only: the people are built after the data.
+     */
+    static Document build(IIOStream stream, int records) throws IOException
+    {
+        Document document = new Document();
+        document.setContentStream(stream);
+        for (int i = 0; i < records; i++)
+        {
+            Data data = document.addData();
+            data.getIdentification().setFirstName(Streams.firstName(i));
+            data.getIdentification().setBirthYear(1900 + i % 120);
+        }
+        for (int i = 0; i < records; i++)
+        {
+            document.addPeople().setFirstName(Streams.firstName(i));
+        }
+        for (int i = 0; i < records; i++)
+        {
+            Data data = document.getData(i);
+            if (i > 0)
+                data.addReviewers(document.getData(i - 1).getIdentification());
+            data.setApprover(document.getPeople(i));
+        }
+        document.build();
+        return document;
+    }
+}
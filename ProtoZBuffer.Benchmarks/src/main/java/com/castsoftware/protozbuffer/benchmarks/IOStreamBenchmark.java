@@ -0,0 +1,105 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.castsoftware.protozbuffer.common.IIOStream;
+import com.castsoftware.protozbuffer.common.ReadWindow;
+
+/**
+ * Decodes identity headers of a built document stored in each kind of stream:
+ * one at a random position, as get(index) does on a lazy list, or a sorted batch through
+ * a ReadWindow, as the prefetch of a list does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IOStreamBenchmark
+{
+    private static final int BATCH_SIZE = 64;
+
+    @Param({ Streams.BYTES, Streams.FILE, Streams.FILE_CONCURRENT, Streams.FILE_BUFFERED, Streams.MAPPED,
+            Streams.CACHED, Streams.COMPRESSED, Streams.CHECKSUMMED })
+    public String stream;
+
+    @Param({ "32768", "1048576" })
+    public int records;
+
+    private File _file;
+    private IIOStream _stream;
+    private long[] _positions;
+    private int[] _probes;
+    private long[][] _batches;
+    private int _next;
+
+    @Setup(Level.Trial)
+    public void build() throws IOException
+    {
+        _file = File.createTempFile("protozbuffer", ".bin");
+        _stream = Streams.open(stream, _file);
+        _positions = new long[records];
+        for (int i = 0; i < records; i++)
+            _positions[i] = Streams.writeIdentity(_stream, Streams.firstName(i), 1900 + i % 120);
+
+        Random random = new Random(42);
+        _probes = new int[4096];
+        for (int i = 0; i < _probes.length; i++)
+            _probes[i] = random.nextInt(records);
+
+        _batches = new long[64][];
+        for (int i = 0; i < _batches.length; i++)
+        {
+            long[] batch = new long[BATCH_SIZE];
+            for (int j = 0; j < batch.length; j++)
+                batch[j] = _positions[random.nextInt(records)];
+            Arrays.sort(batch);
+            _batches[i] = batch;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException
+    {
+        _stream.close();
+        _file.delete();
+    }
+
+    @Benchmark
+    public String decodeHeader() throws IOException
+    {
+        int probe = _probes[_next++ & (_probes.length - 1)];
+        return Streams.readFirstName(_stream, _positions[probe]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int decodeBatch() throws IOException
+    {
+        long[] batch = _batches[_next++ & (_batches.length - 1)];
+        ReadWindow window = new ReadWindow(_stream, batch);
+        int length = 0;
+        for (long pos : batch)
+            length += Streams.readFirstName(window.getDelimitedInputStreamAt(pos)).length();
+        return length;
+    }
+}
@@ -0,0 +1,110 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.castsoftware.protozbuffer.common.ByteArrayIOStream;
+import com.castsoftware.protozbuffer.common.HashIndex;
+
+/**
+ * Looks up an identity by first name, the way the generated index methods do:
+ * a binary search decoding the header at each step (sorted index), a binary search
+ * over the keys stored next to the descriptors (keysId), or a probe of the hash table
+ * (hash index). Each finally decodes the matching header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark
+{
+    @Param({ "1024", "32768", "1048576" })
+    public int records;
+
+    private ByteArrayIOStream _stream;
+    private long[] _positions;
+    private String[] _keys;
+    private HashIndex _table;
+    private String[] _probes;
+    private int _next;
+
+    @Setup(Level.Trial)
+    public void build() throws IOException
+    {
+        _stream = new ByteArrayIOStream();
+        _positions = new long[records];
+        _keys = new String[records];
+        int[] hashes = new int[records];
+        for (int i = 0; i < records; i++)
+        {
+            _keys[i] = Streams.firstName(i);
+            _positions[i] = Streams.writeIdentity(_stream, _keys[i], 1900 + i % 120);
+            hashes[i] = HashIndex.mix(_keys[i].hashCode());
+        }
+        _table = HashIndex.open(_stream, HashIndex.write(_stream, hashes));
+
+        Random random = new Random(42);
+        _probes = new String[4096];
+        for (int i = 0; i < _probes.length; i++)
+            _probes[i] = Streams.firstName(random.nextInt(records));
+    }
+
+    @Benchmark
+    public String searchHeaders() throws IOException
+    {
+        String key = _probes[_next++ & (_probes.length - 1)];
+        int low = 0;
+        int high = records - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            String name = Streams.readFirstName(_stream, _positions[middle]);
+            int comparison = name.compareTo(key);
+            if (comparison == 0)
+                return name;
+            if (comparison < 0)
+                low = middle + 1;
+            else
+                high = middle - 1;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String searchKeys() throws IOException
+    {
+        String key = _probes[_next++ & (_probes.length - 1)];
+        int index = Arrays.binarySearch(_keys, key);
+        return index < 0 ? null : Streams.readFirstName(_stream, _positions[index]);
+    }
+
+    @Benchmark
+    public String findHash() throws IOException
+    {
+        String key = _probes[_next++ & (_probes.length - 1)];
+        for (int candidate : _table.find(HashIndex.mix(key.hashCode())))
+        {
+            String name = Streams.readFirstName(_stream, _positions[candidate]);
+            if (name.equals(key))
+                return name;
+        }
+        return null;
+    }
+}
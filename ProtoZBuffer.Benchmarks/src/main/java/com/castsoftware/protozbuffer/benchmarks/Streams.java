@@ -0,0 +1,119 @@
+package com.castsoftware.protozbuffer.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+import com.castsoftware.protozbuffer.common.BlockCompressedIOStream;
+import com.castsoftware.protozbuffer.common.ByteArrayIOStream;
+import com.castsoftware.protozbuffer.common.CachedIOStream;
+import com.castsoftware.protozbuffer.common.FileIOStream;
+import com.castsoftware.protozbuffer.common.IIOStream;
+import com.castsoftware.protozbuffer.common.MappedIOStream;
+import com.castsoftware.protozbuffer.common.PageCache;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+/**
+ * The IIOStream implementations the benchmarks run on, and Identity-like headers
+ * (a required string and an optional int32, as in FileStructure.xml) to store in them.
+ */
+final class Streams
+{
+    /**
+     * Values of the stream parameters of the benchmarks
+     */
+    static final String BYTES = "bytes";
+    static final String FILE = "file";
+    static final String FILE_CONCURRENT = "fileConcurrent";
+    static final String FILE_BUFFERED = "fileBuffered";
+    static final String MAPPED = "mapped";
+    static final String CACHED = "cached";
+    static final String COMPRESSED = "compressed";
+    static final String CHECKSUMMED = "checksummed";
+
+    private static final int FIRST_NAME_TAG = (1 << 3) | 2;
+    private static final int BIRTH_YEAR_TAG = 2 << 3;
+
+    private Streams()
+    {
+    }
+
+    /**
+     * @param kind one of the stream parameters
+     * @param file backing file of the file based streams, emptied
+     */
+    static IIOStream open(String kind, File file) throws IOException
+    {
+        if (BYTES.equals(kind))
+            return new ByteArrayIOStream();
+        if (FILE.equals(kind))
+            return new FileIOStream(file, true);
+        if (FILE_CONCURRENT.equals(kind))
+            return new FileIOStream(file, true, true);
+        if (FILE_BUFFERED.equals(kind))
+            return new FileIOStream(file, true, FileIOStream.DEFAULT_BLOCK_SIZE, FileIOStream.DEFAULT_CACHE_CAPACITY);
+        if (MAPPED.equals(kind))
+            return new MappedIOStream(file, true);
+        if (CACHED.equals(kind))
+            return new CachedIOStream(new FileIOStream(file, true), new PageCache(64L * 1024 * 1024, 64 * 1024));
+        if (COMPRESSED.equals(kind))
+            return new BlockCompressedIOStream(new ByteArrayIOStream());
+        if (CHECKSUMMED.equals(kind))
+            return new BlockCompressedIOStream(new ByteArrayIOStream(), BlockCompressedIOStream.DEFAULT_BLOCK_SIZE,
+                    Deflater.NO_COMPRESSION, BlockCompressedIOStream.DEFAULT_CACHED_BLOCKS, true);
+        throw new IllegalArgumentException("Unknown stream " + kind);
+    }
+
+    static String firstName(int index)
+    {
+        return String.format("identity-%08d", index);
+    }
+
+    /**
+     * Appends the header of an identity, length-delimited
+     * @return its position in the stream
+     */
+    static long writeIdentity(IIOStream stream, String firstName, int birthYear) throws IOException
+    {
+        OutputStream output = stream.getOutputStream();
+        long pos = stream.getPosition();
+
+        int size = CodedOutputStream.computeStringSize(1, firstName) + CodedOutputStream.computeInt32Size(2, birthYear);
+        CodedOutputStream coded = CodedOutputStream.newInstance(output, size + 5);
+        coded.writeRawVarint32(size);
+        coded.writeString(1, firstName);
+        coded.writeInt32(2, birthYear);
+        coded.flush();
+        return pos;
+    }
+
+    /**
+     * Decodes the header of an identity at pos
+     * @return its first name
+     */
+    static String readFirstName(IIOStream stream, long pos) throws IOException
+    {
+        return readFirstName(stream.getInputStreamAt(pos));
+    }
+
+    static String readFirstName(InputStream input) throws IOException
+    {
+        CodedInputStream coded = CodedInputStream.newInstance(input);
+        int limit = coded.pushLimit(coded.readRawVarint32());
+        String firstName = null;
+        for (int tag = coded.readTag(); tag != 0; tag = coded.readTag())
+        {
+            if (tag == FIRST_NAME_TAG)
+                firstName = coded.readString();
+            else if (tag == BIRTH_YEAR_TAG)
+                coded.readInt32();
+            else
+                coded.skipField(tag);
+        }
+        coded.popLimit(limit);
+        return firstName;
+    }
+}
@@ -221,7 +221,7 @@ namespace ProtoZBuffer.Core.Generators
             foreach (var field in message.field)
             {
                 var type = (field.type == typeType.referenceMessage) ? "LocalMessageDescriptor" :
-                              (field.type == typeType.nestedMessage) ? "uint"
+                              (field.type == typeType.nestedMessage) ? "ulong"
                               : FieldType(field, "HeaderOrBuilder");
 
                 if (field.modifier == modifierType.optional)
@@ -254,7 +254,7 @@ namespace ProtoZBuffer.Core.Generators
                 }
             }
 
-            foreach (var index in message.index)
+            foreach (var index in message.index.Where(_ => !_.IsHash))
             {
                 Writer.WriteLine(
 @"        ///  <summary>
@@ -749,6 +749,12 @@ namespace ProtoZBuffer.Core.Generators
 
         protected override void GenerateClassIndex(messageType message, indexType index)
         {
+            if (index.IsHash)
+            {
+                Logger.Warning("Message {0}: hash index {1} is only generated in Java, it is ignored", message.name, index.name);
+                return;
+            }
+
             // indexes are build at build time
             var field = index.ReferenceField;
             var fieldType = FieldType(field);
@@ -1040,7 +1046,7 @@ namespace ProtoZBuffer.Core.Generators
             {{
                 var oldPos = {0}.PositionInContent;
                 {0}.Build(content, saveToOutput);
-                builder.Add{1}((uint){0}.PositionInContent);
+                builder.Add{1}((ulong){0}.PositionInContent);
                 if (alreadyBuilt || saveToOutput)
                     {0}.PositionInContent = oldPos;
             }}
@@ -1054,7 +1060,7 @@ namespace ProtoZBuffer.Core.Generators
             {{ 
                 var oldPos = tmp_{0}.PositionInContent;
                 tmp_{0}.Build(content, saveToOutput); 
-                builder.{1} = (uint)tmp_{0}.PositionInContent;
+                builder.{1} = (ulong)tmp_{0}.PositionInContent;
                 if (alreadyBuilt)
                     tmp_{0}.PositionInContent = oldPos;
             }}
@@ -1063,7 +1069,7 @@ namespace ProtoZBuffer.Core.Generators
             }
 
             // create indexes
-            foreach (var index in message.index)
+            foreach (var index in message.index.Where(_ => !_.IsHash))
             {
                 Writer.WriteLine(
 @"            
@@ -1210,16 +1216,16 @@ namespace ProtoZBuffer.Core.Generators
             }
 
             Writer.WriteLine(
-@"        internal static {0} ParseFrom(Stream strm, uint pos)
+@"        internal static {0} ParseFrom(Stream strm, ulong pos)
         {{
             lock(strm)
             {{
-                strm.Seek(pos, SeekOrigin.Begin);
+                strm.Seek((long)pos, SeekOrigin.Begin);
 
                 var header = {0}Header.ParseDelimitedFrom(strm);
                 Debug.Assert(header != null, ""Can't decode header!"");
 
-                var parsed = new {0}(header, pos);
+                var parsed = new {0}(header, (long)pos);
                 return parsed;
             }}
         }}
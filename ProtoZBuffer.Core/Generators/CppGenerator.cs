@@ -689,6 +689,12 @@ namespace ProtoZBuffer.Core.Generators
 
         protected override void GenerateClassIndex(messageType message, indexType index)
         {
+            if (index.IsHash)
+            {
+                Logger.Warning("Message {0}: hash index {1} is only generated in Java, it is ignored", message.name, index.name);
+                return;
+            }
+
             // indexes are build at build time
             var field = index.ReferenceField;
             var fieldType = FieldType(field);
@@ -1030,7 +1036,7 @@ namespace ProtoZBuffer.Core.Generators
             }
 
             // create indexes
-            foreach (var index in message.index)
+            foreach (var index in message.index.Where(_ => !_.IsHash))
             {
                 CppWriter.WriteLine(
 @"
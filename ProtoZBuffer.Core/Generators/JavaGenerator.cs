@@ -1,4 +1,5 @@
-﻿using System.IO;
+﻿using System.Collections.Generic;
+using System.IO;
 using System.Linq;
 using ProtoZBuffer.Utils;
 
@@ -31,11 +32,32 @@ namespace ProtoZBuffer.Core.Generators
             var assembly = GetType().Assembly;
             CopyResourceToOutput(assembly, "Extensions.java", OutputFolder, ResourceNamespace, ""); // TODO: Do we need a prefix?
             CopyResourceToOutput(assembly, "IIOStream.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "IDirectIOStream.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "DirectParser.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "ByteArrayIOStream.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "ByteBufferInputStream.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "FileIOStream.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "HeaderCache.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "MappedIOStream.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "PageCache.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "ReadWindow.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "HashIndex.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "BlockCompressedIOStream.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "Crc32c.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "Verification.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "Metrics.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "IMetricsListener.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "MeteredIOStream.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "CachedIOStream.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "IStretchableArray.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "StretchableArray.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "LazyArray.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "LongArray.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "RelocationTable.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "ReferenceCache.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "ForkJoinTasks.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "IndexSpliterator.java", OutputFolder, ResourceNamespace, "");
+            CopyResourceToOutput(assembly, "BoundedLazyArray.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "IFilter.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "IProduct.java", OutputFolder, ResourceNamespace, "");
             CopyResourceToOutput(assembly, "IMapper.java", OutputFolder, ResourceNamespace, "");
@@ -61,6 +83,42 @@ namespace ProtoZBuffer.Core.Generators
 
         protected TextWriter Writer { get; set; }
 
+        ///<summary>Some references of the document store the offset of their target</summary> 
+        private bool HasOffsetReferences { get; set; }
+
+        ///<summary>Messages targeted by offset-encoded references: writeDelimitedTo() records where they are copied</summary> 
+        private HashSet<string> OffsetTargets { get; set; }
+
+        ///<summary>Messages holding offset-encoded references, their containers and the root: the build after edit() looks for stale offsets in them</summary> 
+        private HashSet<string> OffsetHolders { get; set; }
+
+        protected override bool GenerateLazyImplementation(protozbuffType p)
+        {
+            HasOffsetReferences = ProtoGenerator.HasOffsetReferences(p);
+            OffsetTargets = new HashSet<string>(p.Items.OfType<messageType>()
+                .SelectMany(msg => msg.field.Concat(msg.index.Where(index => !index.IsHash).Select(index => index.ReferenceField)))
+                .Where(IsOffsetEncoded)
+                .Select(field => field.messageType));
+
+            // the holders, then their containers
+            var messages = p.Items.OfType<messageType>().ToList();
+            OffsetHolders = new HashSet<string>(messages.Where(msg => (HasOffsetReferences && msg.IsRoot) || msg.field.Any(IsOffsetEncoded)).Select(msg => msg.name));
+            bool added;
+            do
+            {
+                added = false;
+                foreach (var msg in messages.Where(msg => msg.field.Any(field => field.type == typeType.nestedMessage && OffsetHolders.Contains(field.messageType))))
+                    added |= OffsetHolders.Add(msg.name);
+            }
+            while (added);
+            return base.GenerateLazyImplementation(p);
+        }
+
+        private static bool IsOffsetEncoded(fieldType field)
+        {
+            return field.type == typeType.referenceMessage && field.referenceEncoding == referenceEncodingType.offset;
+        }
+
         internal override void GenerateProtoOrBuilderInterface()
         {
             using (var strm = GetStream(OutputFolder, "ProtoOrBuilder.java", GeneratedNamespace))
@@ -72,7 +130,8 @@ namespace ProtoZBuffer.Core.Generators
 ", GeneratedNamespace);
 
                 strm.WriteLine(
-@"import java.util.List;
+@"import java.io.IOException;
+import java.util.List;
 
 import {0}.{1}.LocalMessageDescriptor;
 import {2}.IFormat;
@@ -84,11 +143,20 @@ public interface ProtoOrBuilder
     ProtoOrBuilder getRoot();
     void addCoordinates(List<Integer> coordinates);
     LocalMessageDescriptor getLocalMessageDescriptor();
+    long getPositionInContent();
     ProtoOrBuilder decode(List<Integer> coordinates, int index);
     ProtoOrBuilder decode(LocalMessageDescriptor field);
+    ProtoOrBuilder resolve(LocalMessageDescriptor field);
+    List<ProtoOrBuilder> resolve(List<LocalMessageDescriptor> fields);
     IIOStream getContentStream();
+    void build(IIOStream content, boolean saveToOutput, boolean parallel) throws IOException;
+    void edit();
+    void keepEdited(int fieldId, int index, ProtoOrBuilder child);{3}
     String toString(IFormat format);
-}}", GeneratedNamespace, DocumentName, ResourceNamespace);
+}}", GeneratedNamespace, DocumentName, ResourceNamespace
+                , HasOffsetReferences
+                    ? "\n    void setRelocation(long positionInContent, long positionInOutput);\n    long getRelocation(long positionInContent);\n    void keepReplaced(long positionInContent);"
+                    : "");
             }
         }
 
@@ -103,7 +171,8 @@ public interface ProtoOrBuilder
                 WriteAutoGenerationWarning(strm);
 
                 strm.WriteLine(
-@"import java.util.Arrays;
+@"import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import {0}.IFormat;
@@ -215,21 +284,54 @@ public class BaseFormat implements IFormat
         formatListField(bd, name, list);
     }}
 
-    private void formatComplexField(StringBuilder builder, String name, List<ProtoOrBuilder> list)
+    @SuppressWarnings(""unchecked"")
+    @Override
+    public <T> void formatField(StringBuilder bd, String name, Iterable<T> items)
+    {{
+        // a single pass: the items may be decoded on demand
+        Iterator<T> iter = items.iterator();
+        if (!iter.hasNext()) return;
+
+        T first = iter.next();
+        if (first instanceof ProtoOrBuilder)
+        {{
+            formatComplexField(bd, name, (ProtoOrBuilder)first, (Iterator<ProtoOrBuilder>)iter);
+            return;
+        }}
+
+        List<T> list = new ArrayList<T>();
+        list.add(first);
+        while (iter.hasNext())
+            list.add(iter.next());
+        formatListField(bd, name, list);
+    }}
+
+    private void formatComplexField(StringBuilder builder, String name, Iterable<ProtoOrBuilder> list)
     {{
-        if (list.isEmpty()) return;
+        formatComplexField(builder, name, null, list.iterator());
+    }}
 
+    /**
+    * @param first item already taken from items, or null
+    **/
+    private void formatComplexField(StringBuilder builder, String name, ProtoOrBuilder first, Iterator<ProtoOrBuilder> items)
+    {{
         builder.append(getTabulations());
         builder.append(name);
         builder.append("": "");
         builder.append(getNewLine());
-        boolean first = true;
-        for (ProtoOrBuilder value : list)
+        boolean empty = true;
+        if (first != null)
+        {{
+            builder.append(first.toString(this));
+            empty = false;
+        }}
+        while (items.hasNext())
         {{
-            builder.append(value.toString(this));
-            first = false;
+            builder.append(items.next().toString(this));
+            empty = false;
         }}
-        if (first)
+        if (empty)
         {{
             builder.append(getTabulations());
             builder.append(""empty"");
@@ -306,18 +408,30 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     public void setIndex(int index) { _index = index; }
     
 ");
+                if (HasOffsetReferences)
+                {
+                    Writer.WriteLine(
+@"    private List<Integer> _coordinates; // set when decoded through a direct reference, without its parents
+");
+                }
             }
             else
             {
                 Writer.WriteLine(@"    protected IIOStream _contentStream;");
+                Writer.WriteLine(@"    protected ReferenceCache _references = new ReferenceCache(); // resolved references, emptied by flush()");
+                if (HasOffsetReferences)
+                {
+                    Writer.WriteLine(@"    private RelocationTable _relocations; // while writeDelimitedTo() runs: positions of the copied reference targets");
+                    Writer.WriteLine(@"    private Set<Long> _replaced; // after edit(): previous positions of the edited reference targets, until the build");
+                }
             }
 
             Writer.WriteLine(
 @"    protected {0}HeaderOrBuilder _header;
-    protected int _positionInContent = -1;
+    protected long _positionInContent = -1;
 
-    public int getPositionInContent() {{ return _positionInContent; }}
-    public void setPositionInContent(int positionInContent) {{ _positionInContent = positionInContent; }}
+    public long getPositionInContent() {{ return _positionInContent; }}
+    public void setPositionInContent(long positionInContent) {{ _positionInContent = positionInContent; }}
 "
                 , message.name);
 
@@ -334,14 +448,22 @@ public abstract class Abstract{0} implements ProtoOrBuilder
                 {
                     case modifierType.repeated:
                         Writer.WriteLine(
-@"    private IStretchableArray<{0}> _{1}List;", fieldtype, field.name);
+@"    private IStretchableArray<{0}> _{1}List;
+    private LongArray _{1}Streamed; // positions of the first {1}, written by complete{2}() or kept by edit() before the build
+    private IStretchableArray<{0}> _{1}Edited; // those of the first {1} modified through edit(), until the build", fieldtype, field.name, field.name.Capitalize());
                         break;
                     default:
                         Writer.WriteLine(
-@"    private {0} _{1};", fieldtype, field.name);
+@"    private volatile {0} _{1};", fieldtype, field.name);
                         break;
                 }
             }
+
+            foreach (var index in message.index.Where(_ => _.IsHash))
+            {
+                Writer.WriteLine(
+@"    private volatile HashIndex _{0}Table; // opened by the first find{1}()", index.name, index.name.Capitalize());
+            }
         }
 
         protected override void GenerateClassSimpleField(messageType message, fieldType field)
@@ -459,7 +581,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     public void add{0}({1} item)
     {{
         assert !isBuilt() : ""Can't modify an already built object!"";
-        if (_root != item.getRoot())
+        if (getRoot() != item.getRoot())
             throw new IllegalArgumentException(""All objects have to share the same root"");
         getBuilder().add{0}(item.getLocalMessageDescriptor());
     }}
@@ -478,18 +600,26 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     **/
     public {1} get{0}(int index)
     {{
-        return ({1})getRoot().decode(_header.get{0}(index));
+        return ({1})getRoot().resolve(_header.get{0}(index));
     }}
 
     /**
     * {3}
     **/
     public List<{2}> get{0}List()
+    {{
+        return get{0}List(0, get{0}Count());
+    }}
+
+    /**
+    * {3}
+    * Resolves the references from index from (inclusive) to index to (exclusive) at once
+    **/
+    public List<{2}> get{0}List(int from, int to)
     {{
         List<{2}> l = new ArrayList<{2}>();
-        int n = get{0}Count();
-        for(int i = 0; i < n; i++)
-            l.add(get{0}(i));
+        for (ProtoOrBuilder item : getRoot().resolve(_header.get{0}List().subList(from, to)))
+            l.add(({2})item);
         return l;
     }}
 
@@ -534,7 +664,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     **/
     public {1} get{0}()
     {{
-        return ({1})getRoot().decode(_header.get{0}());
+        return ({1})getRoot().resolve(_header.get{0}());
     }}
 
     /**
@@ -543,7 +673,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     public void set{0}({1} value)
     {{
         assert !isBuilt() : ""Can't modify an already built object!"";
-        if (_root != item.getRoot())
+        if (getRoot() != value.getRoot())
             throw new IllegalArgumentException(""All objects have to share the same root"");
         getBuilder().set{0}(value.getLocalMessageDescriptor());
     }}
@@ -566,12 +696,31 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 
         {2} item = new {2}();
         item.setFieldId({3});
-        item.setIndex(_{0}List.size());
+        item.setIndex(get{1}Count());
         item.setParent(this);
         _{0}List.add(item);
         return item;
     }}
 
+    /**
+    * {4}
+    * Builds the {1} added so far into the content stream, and drops them from memory:
+    * only their positions are kept until this object is built. They can't be modified anymore.
+    **/
+    public void complete{1}() throws IOException
+    {{
+        assert !isBuilt() : ""Can't modify an already built object!"";
+
+        IIOStream content = getContentStream();
+        for (int i = 0; i < _{0}List.size(); i++)
+        {{
+            {2} item = _{0}List.get(i);
+            item.build(content, false);
+            _{0}Streamed.add(item.getPositionInContent());
+        }}
+        _{0}List = new StretchableArray<{2}>();
+    }}
+
     /**
     * {4}
     **/
@@ -591,7 +740,32 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     {{
         if (index >= get{1}Count()) return null;
 
-        {2} l{1} = _{0}List.get(index);
+        if (!isBuilt() && index < _{0}Streamed.size())
+        {{
+            // edited: kept in memory until the build
+            {2} edited = _{0}Edited != null ? _{0}Edited.get(index) : null;
+            if (edited != null)
+                return edited;
+
+            // completed: decoded from the content stream each time
+            {2} l{1} = {2}.parseFrom(getContentStream(), _{0}Streamed.get(index));
+            if (l{1} != null)
+            {{
+                l{1}.setFieldId({3});
+                l{1}.setIndex(index);
+                l{1}.setParent(this);
+            }}
+            return l{1};
+        }}
+
+        {2} l{1} = _{0}List.get(!isBuilt() ? index - _{0}Streamed.size() : index);
+        if (Metrics.ENABLED && isBuilt())
+        {{
+            if (l{1} != null)
+                Metrics.getShared().countHit(Metrics.E_Cache.Lazy);
+            else
+                Metrics.getShared().countMiss(Metrics.E_Cache.Lazy);
+        }}
         if (l{1} == null)
         {{
             l{1} = {2}.parseFrom(getContentStream(), _header.get{1}(index));
@@ -600,7 +774,8 @@ public abstract class Abstract{0} implements ProtoOrBuilder
             l{1}.setFieldId({3});
             l{1}.setIndex(index);
             l{1}.setParent(this);
-            _{0}List.set(index, l{1});
+            // another thread may have decoded it meanwhile: keep the first one
+            l{1} = _{0}List.setIfAbsent(index, l{1});
         }}
         return l{1};
     }}
@@ -610,7 +785,195 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     **/
     public int get{1}Count()
     {{
-        return !isBuilt()? _{0}List.size() : _header.get{1}Count();
+        return !isBuilt()? _{0}Streamed.size() + _{0}List.size() : _header.get{1}Count();
+    }}
+
+    /**
+    * {4}
+    * Decodes the {1} from index from (inclusive) to index to (exclusive) into the cache of decoded {1}:
+    * their headers are read by increasing position, with one read of the content stream per run of close positions.
+    **/
+    public void prefetch{1}(int from, int to) throws IOException
+    {{
+        if (!isBuilt())
+            return;
+
+        // the {1} not decoded yet, by position
+        List<Integer> indexes = new ArrayList<Integer>();
+        for (int i = Math.max(from, 0); i < Math.min(to, get{1}Count()); i++)
+        {{
+            if (_{0}List.get(i) == null)
+                indexes.add(i);
+        }}
+        Collections.sort(indexes, new Comparator<Integer>() {{
+            @Override
+            public int compare(Integer o1, Integer o2)
+            {{
+                long p1 = _header.get{1}(o1);
+                long p2 = _header.get{1}(o2);
+                return p1 < p2 ? -1 : (p1 == p2 ? 0 : 1);
+            }}
+        }});
+
+        long[] positions = new long[indexes.size()];
+        for (int i = 0; i < positions.length; i++)
+            positions[i] = _header.get{1}(indexes.get(i));
+
+        ReadWindow window = new ReadWindow(getContentStream(), positions);
+        for (int i = 0; i < positions.length; i++)
+        {{
+            int index = indexes.get(i);
+            long pos = positions[i];
+            {2} l{1} = {2}.parseFrom(window.getDelimitedInputStreamAt(pos), pos);
+            l{1}.setFieldId({3});
+            l{1}.setIndex(index);
+            l{1}.setParent(this);
+            _{0}List.setIfAbsent(index, l{1});
+        }}
+    }}
+
+    /**
+    * {4}
+    * Same as get{1}(index), but a {1} that isn't decoded yet isn't kept in the cache of decoded {1}
+    **/
+    public {2} peek{1}(int index)
+    {{
+        if (!isBuilt() || index >= get{1}Count())
+            return get{1}(index);
+
+        {2} l{1} = _{0}List.get(index);
+        if (l{1} == null)
+        {{
+            l{1} = {2}.parseFrom(getContentStream(), _header.get{1}(index));
+            if (l{1} == null)
+                return null;
+            l{1}.setFieldId({3});
+            l{1}.setIndex(index);
+            l{1}.setParent(this);
+        }}
+        return l{1};
+    }}
+
+    /**
+    * {4}
+    * Iterates over the {1} without building a list: they are decoded on demand with peek{1}(index),
+    * so that a full scan uses constant memory.
+    **/
+    public Iterable<{2}> iterate{1}()
+    {{
+        return iterate{1}(0, get{1}Count());
+    }}
+
+    /**
+    * {4}
+    * Iterates over the {1} from index from (inclusive) to index to (exclusive), see iterate{1}()
+    **/
+    public Iterable<{2}> iterate{1}(final int from, final int to)
+    {{
+        return new Iterable<{2}>() {{
+            @Override
+            public Iterator<{2}> iterator()
+            {{
+                return new Iterator<{2}>() {{
+                    private int _next = from;
+
+                    @Override
+                    public boolean hasNext()
+                    {{
+                        return _next < to;
+                    }}
+
+                    @Override
+                    public {2} next()
+                    {{
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        return peek{1}(_next++);
+                    }}
+
+                    @Override
+                    public void remove()
+                    {{
+                        throw new UnsupportedOperationException();
+                    }}
+                }};
+            }}
+        }};
+    }}
+
+    /**
+    * {4}
+    * Splits the {1} on ranges of consecutive indexes, each {1} being decoded on demand with peek{1}(index)
+    **/
+    public Spliterator<{2}> spliterator{1}()
+    {{
+        return new IndexSpliterator<{2}>(new IntFunction<{2}>() {{
+            @Override
+            public {2} apply(int index)
+            {{
+                return peek{1}(index);
+            }}
+        }}, 0, get{1}Count());
+    }}
+
+    /**
+    * {4}
+    * Streams the {1} from spliterator{1}(): they are decoded on demand, and not kept in the cache of decoded {1}.
+    * get{1}Stream().parallel() decodes them from several threads: the content stream must then support concurrent reads.
+    **/
+    public Stream<{2}> get{1}Stream()
+    {{
+        return StreamSupport.stream(spliterator{1}(), false);
+    }}
+
+    /**
+    * {4}
+    * Splits the {1} into count ranges of consecutive indexes, see iterate{1}(from, to).
+    * Each range can be scanned by its own thread if the content stream supports concurrent reads:
+    * every {1} is then decoded from its own view of the stream.
+    **/
+    public List<Iterable<{2}>> partition{1}(int count)
+    {{
+        int n = get{1}Count();
+        count = Math.max(1, Math.min(count, n));
+
+        List<Iterable<{2}>> parts = new ArrayList<Iterable<{2}>>(count);
+        for (int i = 0; i < count; i++)
+            parts.add(iterate{1}((int)((long)n * i / count), (int)((long)n * (i + 1) / count)));
+        return parts;
+    }}
+
+    /**
+    * {4}
+    * Maps the {1} in parallel, with fork-join: each task scans one range of partition{1}(count).
+    * The content stream must support concurrent reads. The values are returned in the order of the {1}.
+    **/
+    public <U> List<U> map{1}(final IMapper<{2}, U> mapper) throws IOException
+    {{
+        List<List<U>> results = new ArrayList<List<U>>();
+        List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();
+        for (final Iterable<{2}> part : partition{1}(Runtime.getRuntime().availableProcessors() * 4))
+        {{
+            final List<U> result = new ArrayList<U>();
+            results.add(result);
+            tasks.add(new ForkJoinTasks.ITask() {{
+                @Override
+                public void run()
+                {{
+                    for ({2} item : part)
+                    {{
+                        for (U value : mapper.map(item))
+                            result.add(value);
+                    }}
+                }}
+            }});
+        }}
+        ForkJoinTasks.invokeAll(tasks);
+
+        List<U> values = new ArrayList<U>();
+        for (List<U> result : results)
+            values.addAll(result);
+        return values;
     }}
 "
                                 , field.name, field.name.Capitalize(), fieldType, field.id, field.description.Safe());
@@ -647,15 +1010,24 @@ public abstract class Abstract{0} implements ProtoOrBuilder
         **/
         public {2} get{1}()
         {{
-            if (isBuilt() && has{1}() && _{0} == null)
+            {2} l{1} = _{0};
+            if (l{1} == null && isBuilt() && has{1}())
             {{
-                _{0} = {2}.parseFrom(getContentStream(), _header.get{1}());
-                if (_{0}==null)
-                    return null;
-                _{0}.setFieldId({3});
-                _{0}.setParent(this);
+                synchronized (this)
+                {{
+                    l{1} = _{0};
+                    if (l{1} == null)
+                    {{
+                        l{1} = {2}.parseFrom(getContentStream(), _header.get{1}());
+                        if (l{1}==null)
+                            return null;
+                        l{1}.setFieldId({3});
+                        l{1}.setParent(this);
+                        _{0} = l{1};
+                    }}
+                }}
             }}
-            return _{0};
+            return l{1};
         }}
 
         /**
@@ -685,22 +1057,31 @@ public abstract class Abstract{0} implements ProtoOrBuilder
         **/
         public {2} get{1}()
         {{
-            if (_{0} == null)
+            {2} l{1} = _{0};
+            if (l{1} == null)
             {{
-                if (isBuilt())
-                {{
-                    _{0} = {2}.parseFrom(getContentStream(), _header.get{1}());
-                    if (_{0}==null)
-                        return null;
-                }}
-                else
+                synchronized (this)
                 {{
-                    _{0} = new {2}();
+                    l{1} = _{0};
+                    if (l{1} == null)
+                    {{
+                        if (isBuilt())
+                        {{
+                            l{1} = {2}.parseFrom(getContentStream(), _header.get{1}());
+                            if (l{1}==null)
+                                return null;
+                        }}
+                        else
+                        {{
+                            l{1} = new {2}();
+                        }}
+                        l{1}.setFieldId({3});
+                        l{1}.setParent(this);
+                        _{0} = l{1};
+                    }}
                 }}
-                _{0}.setFieldId({3});
-                _{0}.setParent(this);
             }}
-            return _{0};
+            return l{1};
         }}
 "
                 , field.name, field.name.Capitalize(), fieldType, field.id, field.description.Safe());
@@ -708,6 +1089,12 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 
         protected override void GenerateClassIndex(messageType message, indexType index)
         {
+            if (index.IsHash)
+            {
+                GenerateClassHashIndex(index);
+                return;
+            }
+
             // indexes are build at build time
             var field = index.ReferenceField;
             var fieldType = FieldType(field);
@@ -723,10 +1110,9 @@ public abstract class Abstract{0} implements ProtoOrBuilder
             assert isBuilt() : ""Index is not built yet!"";
 
             List<{1}> list = new ArrayList<{1}>();
-            int count = get{0}Count();
-            for(int i = 0; i < count; i++)
+            for (ProtoOrBuilder item : getRoot().resolve(_header.get{0}List()))
             {{
-                list.add(get{0}(i));
+                list.add(({1})item);
             }}
             return list;
         }}
@@ -737,7 +1123,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
         public {1} get{0}(int index)
         {{
             assert isBuilt() : ""Index is not built yet!"";
-            return ({1})getRoot().decode(_header.get{0}(index));
+            return ({1})getRoot().resolve(_header.get{0}(index));
         }}
 
         /**
@@ -751,37 +1137,137 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 
         /**
         * {4}
+        * Compares two keys of the index, with the sign of a Comparator
+        **/
+        public static int compare{0}Keys({2} left, {2} right)
+        {{
+            return {5};
+        }}
+
+        /**
+        * {4}
+        * @return the key of the item at position index in the index
+        **/
+        protected {2} get{0}Key(int index)
+        {{
+            return {6};
+        }}
+
+        /**
+        * {4}
+        * @return the position in the index of the first item whose key isn't lower than key, or get{0}Count()
+        **/
+        public int lowerBound{0}({2} key)
+        {{
+            assert isBuilt() : ""Index is not built yet!"";
+
+            int min = 0;
+            int max = get{0}Count();
+            while (min < max)
+            {{
+                int avg = (min + max) >>> 1;
+                if (compare{0}Keys(get{0}Key(avg), key) < 0)
+                    min = avg + 1;
+                else
+                    max = avg;
+            }}
+            return min;
+        }}
+
+        /**
+        * {4}
+        * @return the position in the index of the first item whose key is greater than key, or get{0}Count()
+        **/
+        public int upperBound{0}({2} key)
+        {{
+            assert isBuilt() : ""Index is not built yet!"";
+
+            int min = 0;
+            int max = get{0}Count();
+            while (min < max)
+            {{
+                int avg = (min + max) >>> 1;
+                if (compare{0}Keys(get{0}Key(avg), key) <= 0)
+                    min = avg + 1;
+                else
+                    max = avg;
+            }}
+            return min;
+        }}
+
+        /**
+        * {4}
+        * Iterates over the items whose key is in [fromKey, toKey), in the order of the index
+        **/
+        public Iterable<{1}> iterate{0}({2} fromKey, {2} toKey)
+        {{
+            final int from = lowerBound{0}(fromKey);
+            final int to = Math.max(from, lowerBound{0}(toKey));
+            return new Iterable<{1}>() {{
+                @Override
+                public Iterator<{1}> iterator()
+                {{
+                    return new Iterator<{1}>() {{
+                        private int _next = from;
+
+                        @Override
+                        public boolean hasNext()
+                        {{
+                            return _next < to;
+                        }}
+
+                        @Override
+                        public {1} next()
+                        {{
+                            if (!hasNext())
+                                throw new NoSuchElementException();
+                            return get{0}(_next++);
+                        }}
+
+                        @Override
+                        public void remove()
+                        {{
+                            throw new UnsupportedOperationException();
+                        }}
+                    }};
+                }}
+            }};
+        }}
+
+        /**
+        * {4}
+        * @return an item whose key is item, or null
         **/
         public {1} search{0}({2} item)
         {{
             assert isBuilt() : ""Index is not built yet!"";
 
-            // note: we don't use std::find so that 
+            // note: we don't go through the list of items so that 
             // we decode a minimum number of items
             return search{0}(item, 0, get{0}Count() - 1);
         }}
 
         /**
         * {4}
+        * @return an item whose key is item, between the positions min and max (inclusive) of the index, or null
         **/
         protected {1} search{0}({2} item, int min, int max)
         {{
             assert isBuilt() : ""Index is not built yet!"";
 
-            if (max < min)
-                return null;
-
-            int avg = (min + max) >> 1;
-
-            {1} candidate = get{0}(avg);
-            {2} candidateKey = candidate.get{3}();
-            if (candidateKey == item)
-                return candidate;
-
-            if (candidateKey < item)
-                return search{0}(item, avg + 1, max);
+            while (min <= max)
+            {{
+                int avg = (min + max) >>> 1;
+                int comparison = compare{0}Keys(get{0}Key(avg), item);
+                if (comparison == 0)
+                    return get{0}(avg);
 
-            return search{0}(item, min, avg - 1);
+                if (comparison < 0)
+                    min = avg + 1;
+                else
+                    max = avg - 1;
+            }}
+            return null;
         }}
 "
                 , index.name.Capitalize()
@@ -789,6 +1275,11 @@ public abstract class Abstract{0} implements ProtoOrBuilder
                 , sortByType
                 , index.sortBy.Capitalize()
                 , index.description.Safe()
+                , CompareKeys(index.SortingField, "left", "right")
+                , index.KeysField != null
+                    // the keys are stored next to the index: no need to decode the item
+                    ? string.Format("_header.get{0}Keys(index)", index.name.Capitalize())
+                    : string.Format("get{0}(index).get{1}()", index.name.Capitalize(), index.sortBy.Capitalize())
                 );
         }
 
@@ -809,7 +1300,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     /**
     * {1}
     **/
-    protected Abstract{0}({0}Header header, int positionInContent)
+    protected Abstract{0}({0}Header header, long positionInContent)
     {{
         _header = header;
         _positionInContent = positionInContent;
@@ -886,36 +1377,119 @@ public abstract class Abstract{0} implements ProtoOrBuilder
                 return null;
         }
     }
+");
 
-    @Override
-    public void addCoordinates(List<Integer> coordinates)
-    {");
-
-            if (!message.IsRoot)
+            if (message.IsRoot)
             {
                 Writer.WriteLine(
-@"        coordinates.add(0, getFieldId());
-        coordinates.add(1, getIndex());
+@"    @Override
+    public ProtoOrBuilder resolve(LocalMessageDescriptor field)
+    {{
+        // before the build, the objects are in memory and may still move
+        if (!isBuilt())
+            return decode(field);
 
-        if (getParent() == null)
-            return;
+        List<Integer> coordinates = field.getCoordinateList();
+        ProtoOrBuilder resolved = (ProtoOrBuilder)_references.get(coordinates);
+        if (Metrics.ENABLED)
+        {{
+            Metrics metrics = Metrics.getShared();
+            metrics.countReference(coordinates.size());
+            if (resolved != null)
+                metrics.countHit(Metrics.E_Cache.Reference);
+            else
+                metrics.countMiss(Metrics.E_Cache.Reference);
+        }}
+        if (resolved == null)
+        {{
+            resolved = {0};
+            if (resolved != null)
+                _references.put(coordinates, resolved);
+        }}
+        return resolved;
+    }}
 
-        getParent().addCoordinates(coordinates);"
-                );
+    @Override
+    public List<ProtoOrBuilder> resolve(List<LocalMessageDescriptor> fields)
+    {{
+        List<List<Integer>> coordinates = new ArrayList<List<Integer>>(fields.size());
+        for (LocalMessageDescriptor field : fields)
+            coordinates.add(field.getCoordinateList());
+
+        // resolve the references sharing a path one after the other
+        ProtoOrBuilder[] resolved = new ProtoOrBuilder[fields.size()];
+        for (int i : ReferenceCache.resolutionOrder(coordinates))
+            resolved[i] = resolve(fields.get(i));
+        return Arrays.asList(resolved);
+    }}
+", HasOffsetReferences
+                    ? "field.hasOffset() ? decodeAt(this, coordinates, 0, field.getOffset()) : decode(coordinates, 0)"
+                    : "decode(coordinates, 0)");
             }
-
-            Writer.WriteLine(
-@"    }
+            else
+            {
+                Writer.WriteLine(
+@"    @Override
+    public ProtoOrBuilder resolve(LocalMessageDescriptor field)
+    {
+        return getRoot().resolve(field);
+    }
 
     @Override
-    public LocalMessageDescriptor getLocalMessageDescriptor()
+    public List<ProtoOrBuilder> resolve(List<LocalMessageDescriptor> fields)
     {
-        List<Integer> coordinates = new ArrayList<Integer>();
-        addCoordinates(coordinates);
-
-        LocalMessageDescriptor.Builder b = LocalMessageDescriptor.newBuilder();
-        b.addAllCoordinate(coordinates);
-        return b.build();
+        return getRoot().resolve(fields);
+    }
+");
+            }
+
+            if (HasOffsetReferences)
+            {
+                GenerateDecodeAt(message);
+                GenerateRelocation(message);
+            }
+
+            Writer.WriteLine(
+@"    @Override
+    public void addCoordinates(List<Integer> coordinates)
+    {");
+
+            if (!message.IsRoot && HasOffsetReferences)
+            {
+                Writer.WriteLine(
+@"        if (_coordinates != null)
+        {
+            coordinates.addAll(0, _coordinates);
+            return;
+        }
+");
+            }
+
+            if (!message.IsRoot)
+            {
+                Writer.WriteLine(
+@"        coordinates.add(0, getFieldId());
+        coordinates.add(1, getIndex());
+
+        if (getParent() == null)
+            return;
+
+        getParent().addCoordinates(coordinates);"
+                );
+            }
+
+            Writer.WriteLine(
+@"    }
+
+    @Override
+    public LocalMessageDescriptor getLocalMessageDescriptor()
+    {
+        List<Integer> coordinates = new ArrayList<Integer>();
+        addCoordinates(coordinates);
+
+        LocalMessageDescriptor.Builder b = LocalMessageDescriptor.newBuilder();
+        b.addAllCoordinate(coordinates);
+        return b.build();
     }
 ");
             Writer.WriteLine(
@@ -926,6 +1500,452 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 ", message.name);
         }
         
+        // Integrity check: the headers reachable from the root are decoded, without keeping them
+        private void GenerateVerify(messageType message)
+        {
+            if (message.IsRoot)
+            {
+                Writer.WriteLine(
+@"    /**
+    * Decodes every header reachable from the root, without keeping them, with fork-join when parallel.
+    * With a BlockCompressedIOStream with checksums, the blocks holding the headers are verified on the way.
+    * A stream whose input streams share a cursor (see IIOStream.supportsConcurrentReads()) is verified by a single thread.
+    * @return the number of headers decoded, and the lowest position of a header that can't be decoded
+    * or isn't written before its parent's
+    **/
+    public Verification verify(boolean parallel) throws IOException
+    {{
+        assert isBuilt() : ""Only a built document can be verified!"";
+
+        IIOStream content = getContentStream();
+        if (!content.supportsConcurrentReads())
+            parallel = false;
+
+        Verification verification = new Verification();
+        verification.countHeader();
+        verifyChildren(content, getPositionInContent(), ({0}Header)_header, verification, parallel);
+        return verification;
+    }}
+
+    /**
+    * Verifies the document stored in strm: see verify(boolean).
+    * When the root header can't be decoded, its position is reported, or the one of the trailer
+    * if the trailer doesn't locate it.
+    **/
+    public static Verification verify(IIOStream strm, boolean parallel) throws IOException
+    {{
+        {0} root = null;
+        try
+        {{
+            root = parseFrom(strm);
+        }}
+        catch (IOException ex)
+        {{
+            // reported below
+        }}
+        catch (RuntimeException ex)
+        {{
+            // e.g. a trailer giving a position out of the stream: reported below
+        }}
+
+        if (root != null && root._header != null)
+            return root.verify(parallel);
+
+        Verification verification = new Verification();
+        verification.reportBad(rootPositionOf(strm));
+        return verification;
+    }}
+
+    /**
+    * @return the position of the root header given by the trailer of strm, or the one of the trailer
+    * if it can't be read or locates no position of the stream
+    **/
+    private static long rootPositionOf(IIOStream strm)
+    {{
+        int size = Integer.SIZE/Byte.SIZE;
+        long trailer = 0;
+        try
+        {{
+            // the position of the end of the stream, whether getPosition() is the read or the write one
+            strm.getInputStreamAt(0, IIOStream.E_SeekOrigin.End);
+            trailer = Math.max(strm.getPosition() - size, 0);
+
+            InputStream input = strm.getInputStreamAt(-size, IIOStream.E_SeekOrigin.End);
+            int msgSize = CodedInputStream.newInstance(input).readFixed32();
+            long pos = trailer - msgSize - CodedOutputStream.computeInt32SizeNoTag(msgSize);
+            return pos >= 0 && pos < trailer ? pos : trailer;
+        }}
+        catch (IOException ex)
+        {{
+            return trailer;
+        }}
+        catch (RuntimeException ex)
+        {{
+            return trailer;
+        }}
+    }}
+", message.name);
+            }
+            else
+            {
+                Writer.WriteLine(
+@"    /**
+    * Decodes the header at pos, and the ones of its subtree, without keeping them
+    * @param limit position of the parent's header: the children are written before it
+    **/
+    static void verifyAt(IIOStream content, long pos, long limit, Verification verification, boolean parallel) throws IOException
+    {{
+        {0}Header header = null;
+        if (pos >= 0 && pos < limit)
+        {{
+            try
+            {{
+                header = DirectParser.parseDelimited(content, pos, {0}Header.PARSER);
+                if (header == null)
+                    header = {0}Header.parseDelimitedFrom(content.getInputStreamAt(pos));
+            }}
+            catch (IOException ex)
+            {{
+                // reported below
+            }}
+        }}
+
+        if (header == null)
+        {{
+            verification.reportBad(pos);
+            return;
+        }}
+
+        verification.countHeader();
+        verifyChildren(content, pos, header, verification, parallel);
+    }}
+", message.name);
+            }
+
+            var nestedFields = message.field.Where(_ => _.type == typeType.nestedMessage).OrderBy(_ => _.id).ToList();
+            Writer.WriteLine(
+@"    static void verifyChildren(final IIOStream content, final long pos, {0}Header header, final Verification verification, final boolean parallel) throws IOException
+    {{", message.name);
+
+            if (!nestedFields.Any())
+            {
+                Writer.WriteLine(
+@"        // NOP: no nested field
+    }
+");
+                return;
+            }
+
+            Writer.WriteLine(
+@"        List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();");
+            foreach (var field in nestedFields)
+            {
+                Writer.WriteLine(
+                    field.modifier == modifierType.repeated
+                        ?
+@"        for (int i = 0; i < header.get{0}Count(); i++)
+        {{
+            final long child = header.get{0}(i);
+            tasks.add(new ForkJoinTasks.ITask() {{
+                @Override
+                public void run() throws IOException
+                {{
+                    Abstract{1}.verifyAt(content, child, pos, verification, parallel);
+                }}
+            }});
+        }}"
+                        :
+@"        if (header.has{0}())
+        {{
+            final long child = header.get{0}();
+            tasks.add(new ForkJoinTasks.ITask() {{
+                @Override
+                public void run() throws IOException
+                {{
+                    Abstract{1}.verifyAt(content, child, pos, verification, parallel);
+                }}
+            }});
+        }}"
+                    , field.name.Capitalize(), field.messageType);
+            }
+
+            Writer.WriteLine(
+@"
+        if (parallel)
+        {
+            ForkJoinTasks.invokeAll(tasks);
+            return;
+        }
+
+        for (ForkJoinTasks.ITask task : tasks)
+            task.run();
+    }
+");
+        }
+
+        // Copy-on-write updates: an edited object and its ancestors get new headers, appended at the next build
+        private void GenerateEdit(messageType message)
+        {
+            Writer.WriteLine(
+@"    /**
+    * Reopens this built object for modification, with its ancestors: the setters can be used again.
+    * The next build of the root appends the new headers of the edited objects and of their ancestors
+    * to the content stream, then a new root header: the untouched data is left in place.
+    * The holders of offset-encoded references to the edited objects are written again too: to find them,
+    * the build reads the headers of all the objects that may hold such references.
+    **/
+    @Override
+    public void edit()
+    {
+        if (!isBuilt())
+            return;
+");
+            if (message.IsRoot)
+            {
+                Writer.WriteLine(
+@"        _references.clear();
+");
+            }
+            else
+            {
+                Writer.WriteLine(
+@"        if (_parent == null)
+            throw new IllegalStateException(""Only an object decoded through its parent can be edited"");
+
+        // the parent's header holds the position of this one: it is written again too
+        _parent.edit();
+        _parent.keepEdited(_fieldId, _index, this);
+");
+                if (OffsetTargets.Contains(message.name))
+                {
+                    Writer.WriteLine(
+@"        // the offsets to the previous header are left out until the build locates this object again
+        keepReplaced(_positionInContent);
+        _positionInContent = -1;
+");
+                }
+            }
+
+            var nestedFields = message.field.Where(_ => _.type == typeType.nestedMessage).OrderBy(_ => _.id).ToList();
+            foreach (var field in nestedFields)
+            {
+                Writer.WriteLine(
+                    field.modifier == modifierType.repeated
+                        ?
+@"        // the {1} stay in the content stream, unless they are edited
+        int n_{0} = _header.get{1}Count();
+        _{0}Streamed = new LongArray(n_{0});
+        for (int i = 0; i < n_{0}; i++)
+            _{0}Streamed.add(_header.get{1}(i));
+        _{0}List = new StretchableArray<{2}>();
+"
+                        :
+@"        // decoded now: the build clears its position from the builder
+        if (_header.has{1}())
+            get{1}();
+"
+                    , field.name, field.name.Capitalize(), FieldType(field));
+            }
+
+            Writer.WriteLine(
+@"        _header = (({0}Header)_header).toBuilder();
+    }}
+
+    @Override
+    public void keepEdited(int fieldId, int index, ProtoOrBuilder child)
+    {{", message.name);
+
+            if (!nestedFields.Any())
+            {
+                Writer.WriteLine(
+@"        // NOP");
+            }
+            else
+            {
+                Writer.WriteLine(
+@"        switch (fieldId)
+        {");
+                foreach (var field in nestedFields)
+                {
+                    Writer.WriteLine(
+                        field.modifier == modifierType.repeated
+                            ?
+@"            case {2}:
+                if (_{0}Edited == null)
+                    _{0}Edited = new StretchableArray<{1}>();
+                if (index < _{0}Streamed.size())
+                    _{0}Edited.set(index, ({1})child);
+                break;"
+                            :
+@"            case {2}:
+                _{0} = ({1})child;
+                break;"
+                        , field.name, FieldType(field), field.id);
+                }
+                Writer.WriteLine(
+@"        }");
+            }
+
+            Writer.WriteLine(
+@"    }
+");
+        }
+
+        // Direct references: the coordinates give the type of the target, which is decoded at its offset
+        private void GenerateDecodeAt(messageType message)
+        {
+            Writer.WriteLine(
+@"    static ProtoOrBuilder decodeAt(ProtoOrBuilder root, List<Integer> coordinates, int index, long pos)
+    {
+        int remainderIdx = index + 2;
+        if (coordinates.size() < remainderIdx)
+            return null;
+
+        switch(coordinates.get(index))
+        {");
+            foreach (var field in message.field.Where(_ => _.type == typeType.nestedMessage).OrderBy(_ => _.id))
+            {
+                Writer.WriteLine(
+@"            case {0}:
+                return coordinates.size() == remainderIdx ? Abstract{1}.parseAt(root, coordinates, pos) : Abstract{1}.decodeAt(root, coordinates, remainderIdx, pos);"
+                    , field.id, field.messageType);
+            }
+            Writer.WriteLine(
+@"            default:
+                return null;
+        }
+    }
+");
+
+            if (message.IsRoot)
+                return;
+
+            Writer.WriteLine(
+@"    static {0} parseAt(ProtoOrBuilder root, List<Integer> coordinates, long pos)
+    {{
+        {0} parsed = parseFrom(root.getContentStream(), pos);
+        if (parsed == null)
+            return null;
+
+        // the parents aren't decoded: the object keeps its coordinates instead
+        Abstract{0} attached = parsed;
+        attached._root = root;
+        attached._fieldId = coordinates.get(coordinates.size() - 2);
+        attached._index = coordinates.get(coordinates.size() - 1);
+        attached._coordinates = new ArrayList<Integer>(coordinates);
+        return parsed;
+    }}
+", message.name);
+        }
+
+        private void GenerateRelocation(messageType message)
+        {
+            if (!message.IsRoot)
+            {
+                Writer.WriteLine(
+@"    @Override
+    public void setRelocation(long positionInContent, long positionInOutput)
+    {
+        getRoot().setRelocation(positionInContent, positionInOutput);
+    }
+
+    @Override
+    public long getRelocation(long positionInContent)
+    {
+        return getRoot().getRelocation(positionInContent);
+    }
+
+    @Override
+    public void keepReplaced(long positionInContent)
+    {
+        getRoot().keepReplaced(positionInContent);
+    }
+");
+                return;
+            }
+
+            Writer.WriteLine(
+@"    @Override
+    public void setRelocation(long positionInContent, long positionInOutput)
+    {
+        if (_relocations != null)
+            _relocations.put(positionInContent, positionInOutput);
+    }
+
+    @Override
+    public long getRelocation(long positionInContent)
+    {
+        return _relocations != null ? _relocations.get(positionInContent) : -1;
+    }
+
+    @Override
+    public void keepReplaced(long positionInContent)
+    {
+        if (_replaced == null)
+            _replaced = new HashSet<Long>();
+        _replaced.add(positionInContent);
+    }
+");
+        }
+
+        // After edit(), the holders of an offset to a replaced header are edited too: their build locates the targets again
+        private void GenerateRepoint(messageType message)
+        {
+            Writer.WriteLine(
+@"    // after edit(): the built objects holding an offset to a replaced header are edited too, to locate their targets again
+    protected void repointOffsets(Set<Long> replaced)
+    {");
+
+            if (message.field.Any(IsOffsetEncoded))
+            {
+                Writer.WriteLine(
+@"        if (isBuilt())
+        {{
+            {0}Header header = ({0}Header)_header;
+            boolean stale = false;", message.name);
+            }
+
+            foreach (var field in message.field.Where(IsOffsetEncoded))
+            {
+                Writer.WriteLine(
+                    field.modifier == modifierType.repeated
+                        ?
+@"            for (int i = 0; i < header.get{0}Count(); i++)
+                stale |= header.get{0}(i).hasOffset() && replaced.contains(header.get{0}(i).getOffset());"
+                        :
+@"            stale |= header.has{0}() && header.get{0}().hasOffset() && replaced.contains(header.get{0}().getOffset());"
+                    , field.name.Capitalize());
+            }
+
+            if (message.field.Any(IsOffsetEncoded))
+            {
+                Writer.WriteLine(
+@"            if (stale)
+                edit();
+        }");
+            }
+
+            foreach (var field in message.field.Where(_ => _.type == typeType.nestedMessage && OffsetHolders.Contains(_.messageType)).OrderBy(_ => _.id))
+            {
+                Writer.WriteLine(
+                    field.modifier == modifierType.repeated
+                        ?
+@"
+        for (int i = 0; i < get{1}Count(); i++)
+            get{1}(i).repointOffsets(replaced);"
+                        :
+@"
+        {2} tmp_{0} = get{1}();
+        if (tmp_{0} != null)
+            tmp_{0}.repointOffsets(replaced);"
+                    , field.name, field.name.Capitalize(), FieldType(field));
+            }
+
+            Writer.WriteLine(
+@"    }
+");
+        }
+
         protected override void GenerateBuild(messageType message)
         {
             Writer.WriteLine(
@@ -965,13 +1985,34 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 ");
             }
 
+            GenerateEdit(message);
+            if (OffsetHolders.Contains(message.name))
+                GenerateRepoint(message);
+            GenerateVerify(message);
+
             Writer.WriteLine(
 @"    public void build() throws IOException
     {{
         build(getContentStream(), false);
     }}
 
+    /**
+    * @param parallel build the sibling subtrees concurrently, with fork-join.
+    * The headers are then written in the order their subtrees complete: the content is equivalent
+    * to the one of a sequential build, but not byte-identical.
+    **/
+    public void build(boolean parallel) throws IOException
+    {{
+        build(getContentStream(), false, parallel);
+    }}
+
     public void build(IIOStream content, boolean saveToOutput) throws IOException
+    {{
+        build(content, saveToOutput, false);
+    }}
+
+    @Override
+    public void build(IIOStream content, boolean saveToOutput, boolean parallel) throws IOException
     {{
         boolean alreadyBuilt = isBuilt();
         if (alreadyBuilt && !saveToOutput)
@@ -979,7 +2020,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 
         // prebuild hook
         preBuild();
-
+{1}
         {0}Header.Builder builder = null;
         if (alreadyBuilt)
         {{
@@ -988,18 +2029,55 @@ public abstract class Abstract{0} implements ProtoOrBuilder
         else
         {{
             builder = getBuilder();
-        }}", message.name);
+        }}", message.name
+                // the holders of stale offsets are edited too, until no more header is replaced
+                , message.IsRoot && HasOffsetReferences
+                    ? @"
+        if (_replaced != null && !saveToOutput)
+        {
+            int replaced;
+            do
+            {
+                replaced = _replaced.size();
+                repointOffsets(_replaced);
+            }
+            while (_replaced.size() != replaced);
+            _replaced = null;
+        }
+"
+                    : "");
+
+            var nestedFields = message.field.Where(_ => _.type == typeType.nestedMessage).OrderBy(_ => _.id).ToList();
+            if (nestedFields.Any())
+            {
+                // the children built here are then skipped by the sequential loops below, which only collect their positions
+                Writer.WriteLine(
+@"
+        // parallel build of the children still in memory: the completed ones are already in the content stream
+        if (parallel && !alreadyBuilt && !saveToOutput)
+        {
+            List<ForkJoinTasks.ITask> tasks = new ArrayList<ForkJoinTasks.ITask>();");
+                foreach (var field in nestedFields)
+                {
+                    Writer.WriteLine(
+                        field.modifier == modifierType.repeated
+                            ?
+@"            for (int i = _{0}Streamed.size(); i < get{1}Count(); i++)
+                addBuildTask(tasks, get{1}(i), content);"
+                            :
+@"            addBuildTask(tasks, get{1}(), content);"
+                        , field.name, field.name.Capitalize());
+                }
+                Writer.WriteLine(
+@"            ForkJoinTasks.invokeAll(tasks);
+        }");
+            }
 
             foreach (var field in message.field.Where(_ => _.type == typeType.nestedMessage))
             {
                 Writer.WriteLine(@"        builder.clear{0}();", field.name.Capitalize());
             }
 
-            foreach (var index in message.index)
-            {
-                Writer.WriteLine(@"        builder.clear{0}();", index.name.Capitalize());
-            }
-
             // do nothing for reference messages and pod types: the builder is already the owner of those fields
 
             foreach (var field in message.field.Where(_ => _.type == typeType.nestedMessage))
@@ -1008,10 +2086,18 @@ public abstract class Abstract{0} implements ProtoOrBuilder
                 {
                     Writer.WriteLine(
 @"        
-        List<{2}> tmp_{0}List = get{1}List();
-        for ({2} l{0} : tmp_{0}List)
+        int n_{0} = get{1}Count();
+        for (int i = 0; i < n_{0}; i++)
         {{
-            int oldPos = l{0}.getPositionInContent();
+            if (!alreadyBuilt && !saveToOutput && i < _{0}Streamed.size() && (_{0}Edited == null || _{0}Edited.get(i) == null))
+            {{
+                // completed beforehand, or untouched since edit(): already in the content stream
+                builder.add{1}(_{0}Streamed.get(i));
+                continue;
+            }}
+
+            {2} l{0} = get{1}(i);
+            long oldPos = l{0}.getPositionInContent();
             l{0}.build(content, saveToOutput);
             builder.add{1}(l{0}.getPositionInContent());
             if (alreadyBuilt || saveToOutput)
@@ -1026,7 +2112,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
         {2} tmp_{0} = get{1}();
         if (tmp_{0} != null) 
         {{ 
-            int oldPos = tmp_{0}.getPositionInContent();
+            long oldPos = tmp_{0}.getPositionInContent();
             tmp_{0}.build(content, saveToOutput); 
             builder.set{1}(tmp_{0}.getPositionInContent());
             if (alreadyBuilt)
@@ -1036,56 +2122,75 @@ public abstract class Abstract{0} implements ProtoOrBuilder
                 }
             }
 
+            // store the offsets of the targets already built
+            foreach (var field in message.field.Where(IsOffsetEncoded))
+            {
+                Writer.WriteLine(
+                    field.modifier == modifierType.repeated
+                        ?
+@"
+        for (int i = 0; i < builder.get{0}Count(); i++)
+            builder.set{0}(i, locate(builder.get{0}(i), saveToOutput, parallel));"
+                        :
+@"
+        if (builder.has{0}())
+            builder.set{0}(locate(builder.get{0}(), saveToOutput, parallel));"
+                    , field.name.Capitalize());
+            }
+
             // create indexes
-            foreach (var index in message.index)
+            if (message.index.Any())
             {
                 Writer.WriteLine(
 @"
-        Collections.sort(tmp_{0}List, new Comparator<{1}>() {{
-			@Override
-			public int compare({1} o1, {1} o2) {{
-				if (o1.get{3}() == o2.get{3}())
-					return 0;
-				return o1.get{3}() < o2.get{3}() ? -1 : 1;
-			}}
-		}});
-		
-        for({1} l{0} : tmp_{0}List)
-        {{
-            builder.add{2}(l{0}.getLocalMessageDescriptor());
-        }}"
-                    , index.ReferenceField.name, index.ReferenceField.name.Capitalize(), index.name.Capitalize(), index.sortBy.Capitalize());
+        // the indexed items are read from the content stream with its lock held:
+        // in a parallel build, sibling subtrees are appending to it
+        synchronized (getContentStream())
+        {
+            buildIndexes(builder, content, alreadyBuilt, saveToOutput);
+        }");
             }
 
             Writer.WriteLine(
 @"
-        // write the header
-        OutputStream output = content.getOutputStream();
-
-        // if we write to output, the position in the content stream
-        // will be restored when writing the parent header
-        // => this is not possible (and not needed) for root message
-        boolean isRoot = {1};
-        boolean dontSavePos = saveToOutput && isRoot;
-        if (!dontSavePos)
-            setPositionInContent(content.getPosition());
-
         {0}Header builtHeader = builder.build();
-        builtHeader.writeDelimitedTo(output);
-"
-                , message.name, message.IsRoot ? "true" : "false");
+
+        // write the header
+        // Note: sibling subtrees may be built in parallel: the position and the write go together
+        synchronized (content)
+        {{
+            OutputStream output = content.getOutputStream();{2}
+
+            // if we write to output, the position in the content stream
+            // will be restored when writing the parent header
+            // => this is not possible (and not needed) for root message
+            boolean isRoot = {1};
+            boolean dontSavePos = saveToOutput && isRoot;
+            if (!dontSavePos)
+                setPositionInContent(content.getPosition());
+
+            builtHeader.writeDelimitedTo(output);"
+                , message.name, message.IsRoot ? "true" : "false"
+                // the references copied after this object take the position of its copy as offset
+                , !message.IsRoot && OffsetTargets.Contains(message.name)
+                    ? "\n            if (saveToOutput && getPositionInContent() >= 0)\n                setRelocation(getPositionInContent(), content.getPosition());"
+                    : "");
 
             // write the message length at the end for later decoding
             // Note: the length is fixed
             if (message.IsRoot)
             {
                 Writer.WriteLine(
-@"        CodedOutputStream codedStream = CodedOutputStream.newInstance(output, Integer.SIZE/Byte.SIZE);
-        codedStream.writeFixed32NoTag(builtHeader.getSerializedSize());
-        codedStream.flush();
-");
+@"
+            CodedOutputStream codedStream = CodedOutputStream.newInstance(output, Integer.SIZE/Byte.SIZE);
+            codedStream.writeFixed32NoTag(builtHeader.getSerializedSize());
+            codedStream.flush();");
             }
 
+            Writer.WriteLine(
+@"        }
+");
+
             Writer.WriteLine(
 @"        if (!alreadyBuilt && !saveToOutput)
         {
@@ -1100,14 +2205,132 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     }
 ");
 
+            if (message.index.Any())
+                GenerateBuildIndexes(message);
+
+            if (message.field.Any(_ => _.type == typeType.nestedMessage))
+            {
+                Writer.WriteLine(
+@"    private static void addBuildTask(List<ForkJoinTasks.ITask> tasks, final ProtoOrBuilder item, final IIOStream content)
+    {
+        if (item == null)
+            return;
+
+        tasks.add(new ForkJoinTasks.ITask() {
+            @Override
+            public void run() throws IOException
+            {
+                item.build(content, false, true);
+            }
+        });
+    }
+");
+            }
+
+            if (message.index.Any(_ => !_.IsHash))
+            {
+                Writer.WriteLine(
+@"    // position in its list of the item targeted by an index entry
+    private static int itemIndexOf(LocalMessageDescriptor entry)
+    {
+        return entry.getCoordinate(entry.getCoordinateCount() - 1);
+    }
+");
+            }
+
+            if (message.field.Any(IsOffsetEncoded) || message.index.Any(_ => !_.IsHash && IsOffsetEncoded(_.ReferenceField)))
+            {
+                Writer.WriteLine(
+@"    private LocalMessageDescriptor locate(LocalMessageDescriptor field, boolean saveToOutput, boolean parallel)
+    {
+        // the targets are copied in the order of the first build: only the ones that had an offset are already copied
+        if (saveToOutput)
+            return relocate(field, field.hasOffset() ? field.getOffset() : -1);
+
+        // Note: during a parallel build, the target may be being built by another thread
+        return locate(field, parallel ? null : getRoot().decode(field));
+    }
+
+    // writeDelimitedTo(): the offset is the position of the copy of the target, once it is written to the output
+    private LocalMessageDescriptor relocate(LocalMessageDescriptor field, long positionInContent)
+    {
+        LocalMessageDescriptor.Builder located = field.toBuilder().clearOffset();
+        long positionInOutput = positionInContent >= 0 ? getRelocation(positionInContent) : -1;
+        if (positionInOutput >= 0)
+            located.setOffset(positionInOutput);
+        return located.build();
+    }
+
+    private static LocalMessageDescriptor locate(LocalMessageDescriptor field, ProtoOrBuilder target)
+    {
+        // the offset is known once the target is built in the content stream,
+        // otherwise the reference keeps its coordinates only
+        LocalMessageDescriptor.Builder located = field.toBuilder().clearOffset();
+        if (target != null && target.getPositionInContent() >= 0)
+            located.setOffset(target.getPositionInContent());
+        return located.build();
+    }
+");
+            }
+
             if (!message.IsRoot)
                 return;
 
-            Writer.WriteLine(
+            if (HasOffsetReferences)
+            {
+                Writer.WriteLine(
+@"    public void writeDelimitedTo(IIOStream output) throws IOException
+    {
+        _relocations = new RelocationTable();
+        try
+        {
+            build(output, true);
+        }
+        finally
+        {
+            _relocations = null;
+        }
+    }
+");
+            }
+            else
+            {
+                Writer.WriteLine(
 @"    public void writeDelimitedTo(IIOStream output) throws IOException
     {
         build(output, true);
     }
+");
+            }
+
+            Writer.WriteLine(
+@"    /**
+    * Copies the live tree of this built document to output: the headers left unreachable by edit()
+    * or by previous writeDelimitedTo() aren't copied. Each header is decoded and encoded again, subtree
+    * by subtree, and the loaded objects are flushed once copied; the hash tables are copied as byte ranges.
+    * Note: the offset-encoded references take the positions of the copies of their targets, as recorded
+    * in a RelocationTable of at most RelocationTable.getDefaultMaxEntries() entries; the references to
+    * the targets not recorded (past that bound, or coming after them) keep their coordinates only.
+    * @return the number of bytes reclaimed
+    **/
+    public long compactTo(IIOStream output) throws IOException
+    {
+        assert isBuilt() : ""Only a built document can be compacted!"";
+
+        long before = sizeOf(getContentStream());
+        long start = sizeOf(output);
+        writeDelimitedTo(output);
+        return before - (sizeOf(output) - start);
+    }
+
+    private static long sizeOf(IIOStream stream)
+    {
+        synchronized (stream)
+        {
+            stream.getOutputStream();
+            return stream.getPosition();
+        }
+    }
 
     public byte[] writeDelimitedToBytes()
     {
@@ -1125,6 +2348,156 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 ");
         }
         
+        private void GenerateBuildIndexes(messageType message)
+        {
+            Writer.WriteLine(
+@"    private void buildIndexes({0}Header.Builder builder, IIOStream content, boolean alreadyBuilt, boolean saveToOutput) throws IOException
+    {{", message.name);
+
+            // Note: the indexes of an object already built are copied, since the coordinates of its items don't change.
+            // After edit(), the entries of the items left untouched are kept: only the edited and added ones are placed again
+            foreach (var index in message.index.Where(_ => _.IsHash))
+            {
+                Writer.WriteLine(
+@"
+        if (alreadyBuilt)
+        {{
+            // the table holds no position: its bytes are copied as is
+            if (builder.has{2}())
+                builder.set{2}(HashIndex.copy(getContentStream(), builder.get{2}(), content));
+        }}
+        else
+        {{
+            // the hashes of the {0} untouched since edit() are read from the previous table
+            int[] tmp_{2}Hashes = new int[get{1}Count()];
+            int kept_{2} = 0;
+            if (builder.has{2}() && _{0}Streamed.size() > 0)
+            {{
+                kept_{2} = _{0}Streamed.size();
+                System.arraycopy(HashIndex.open(getContentStream(), builder.get{2}()).hashes(kept_{2}), 0, tmp_{2}Hashes, 0, kept_{2});
+            }}
+            for (int i = 0; i < tmp_{2}Hashes.length; i++)
+            {{
+                if (i >= kept_{2} || (_{0}Edited != null && _{0}Edited.get(i) != null))
+                    tmp_{2}Hashes[i] = hash{2}(get{1}(i).get{3}());
+            }}
+            builder.set{2}(HashIndex.write(content, tmp_{2}Hashes));
+        }}"
+                    , index.ReferenceField.name, index.ReferenceField.name.Capitalize(), index.name.Capitalize(), index.sortBy.Capitalize());
+            }
+
+            foreach (var index in message.index.Where(_ => !_.IsHash))
+            {
+                var indexName = index.name.Capitalize();
+                var itemName = "l" + index.ReferenceField.name;
+                var hasKeys = index.KeysField != null;
+                Writer.WriteLine(
+@"
+        if (!alreadyBuilt)
+        {{
+            // the entries of the {0} untouched since edit() are kept, already sorted
+            int n_{2} = get{1}Count();
+            boolean[] kept_{2} = new boolean[n_{2}];
+            List<LocalMessageDescriptor> entries_{2} = new ArrayList<LocalMessageDescriptor>();{8}
+            for (int i = 0; i < builder.get{2}Count(); i++)
+            {{
+                int index = itemIndexOf(builder.get{2}(i));
+                if (index < _{0}Streamed.size() && (_{0}Edited == null || _{0}Edited.get(index) == null))
+                {{
+                    kept_{2}[index] = true;
+                    entries_{2}.add(builder.get{2}(i));{9}
+                }}
+            }}
+
+            List<{7}> tmp_{2}List = new ArrayList<{7}>();
+            for (int i = 0; i < n_{2}; i++)
+            {{
+                if (!kept_{2}[i])
+                    tmp_{2}List.add(get{1}(i));
+            }}
+            Collections.sort(tmp_{2}List, new Comparator<{7}>() {{
+                @Override
+                public int compare({7} o1, {7} o2) {{
+                    return compare{2}Keys(o1.get{3}(), o2.get{3}());
+                }}
+            }});
+
+            // the others are merged in: each one goes after the kept entries whose key isn't greater
+            builder.clear{2}();{6}
+            int next_{2} = 0;
+            for({7} l{0} : tmp_{2}List)
+            {{
+                int lo = next_{2};
+                int hi = entries_{2}.size();
+                while (lo < hi)
+                {{
+                    int mid = (lo + hi) >>> 1;
+                    if (compare{2}Keys({10}, l{0}.get{3}()) <= 0)
+                        lo = mid + 1;
+                    else
+                        hi = mid;
+                }}
+                for (; next_{2} < lo; next_{2}++)
+                {{
+                    builder.add{2}({11});{12}
+                }}
+                builder.add{2}({4});{5}
+            }}
+            for (; next_{2} < entries_{2}.size(); next_{2}++)
+            {{
+                builder.add{2}({11});{13}
+            }}
+        }}"
+                    , index.ReferenceField.name, index.ReferenceField.name.Capitalize(), indexName, index.sortBy.Capitalize()
+                    , IsOffsetEncoded(index.ReferenceField)
+                        ? string.Format("saveToOutput ? relocate({0}.getLocalMessageDescriptor(), {0}.getPositionInContent()) : locate({0}.getLocalMessageDescriptor(), {0})", itemName)
+                        : string.Format("{0}.getLocalMessageDescriptor()", itemName)
+                    , hasKeys
+                        ? string.Format("\n                builder.add{0}Keys({1}.get{2}());", indexName, itemName, index.sortBy.Capitalize())
+                        : ""
+                    , hasKeys
+                        ? string.Format("\n            builder.clear{0}Keys();", indexName)
+                        : ""
+                    , FieldType(index.ReferenceField)
+                    , hasKeys
+                        ? string.Format("\n            List<{0}> keys_{1} = new ArrayList<{0}>();", BoxedType(index.SortingField, ""), indexName)
+                        : ""
+                    , hasKeys
+                        ? string.Format("\n                    keys_{0}.add(builder.get{0}Keys(i));", indexName)
+                        : ""
+                    // the kept keys are stored next to the index, otherwise their items are decoded by the binary search only
+                    , hasKeys
+                        ? string.Format("keys_{0}.get(mid)", indexName)
+                        : string.Format("get{0}(itemIndexOf(entries_{1}.get(mid))).get{2}()", index.ReferenceField.name.Capitalize(), indexName, index.sortBy.Capitalize())
+                    // the kept items don't move, unless the object is saved to another output
+                    , IsOffsetEncoded(index.ReferenceField)
+                        ? string.Format("saveToOutput ? locate(entries_{0}.get(next_{0}), true, false) : entries_{0}.get(next_{0})", indexName)
+                        : string.Format("entries_{0}.get(next_{0})", indexName)
+                    , hasKeys
+                        ? string.Format("\n                    builder.add{0}Keys(keys_{0}.get(next_{0}));", indexName)
+                        : ""
+                    , hasKeys
+                        ? string.Format("\n                builder.add{0}Keys(keys_{0}.get(next_{0}));", indexName)
+                        : "");
+
+                if (IsOffsetEncoded(index.ReferenceField))
+                {
+                    Writer.WriteLine(
+@"        else
+        {{
+            // the items are copied before this object: the entries take the positions of their copies
+            for (int i = 0; i < builder.get{0}Count(); i++)
+                builder.set{0}(i, locate(builder.get{0}(i), saveToOutput, false));
+        }}"
+                        , index.name.Capitalize());
+                }
+            }
+
+            Writer.WriteLine(
+@"    }
+");
+        }
+
         protected override void GenerateFlush(messageType message)
         {
             Writer.WriteLine(
@@ -1139,15 +2512,35 @@ public abstract class Abstract{0} implements ProtoOrBuilder
                                 select fld;
 
             var has = false;
+            if (message.IsRoot)
+            {
+                has = true;
+                Writer.WriteLine(
+@"        _references.clear();");
+            }
+
             foreach (var field in messageFields)
             {
                 has = true;
                 if (field.modifier == modifierType.repeated)
+                {
                     Writer.WriteLine(
-@"        _{0}List = !isBuilt() ? new StretchableArray<{1}>() : new LazyArray<{1}>();", field.name, field.messageType);
+@"        _{0}List = !isBuilt() ? new StretchableArray<{1}>() : create{2}Cache();
+        _{0}Streamed = !isBuilt() ? new LongArray() : null;
+        _{0}Edited = null;", field.name, field.messageType, field.name.Capitalize());
+                }
                 else
+                {
                     Writer.WriteLine(
 @"        _{0} = null;", field.name);
+                }
+            }
+
+            foreach (var index in message.index.Where(_ => _.IsHash))
+            {
+                has = true;
+                Writer.WriteLine(
+@"        _{0}Table = null;", index.name);
             }
 
             if (!has)
@@ -1157,6 +2550,20 @@ public abstract class Abstract{0} implements ProtoOrBuilder
             Writer.WriteLine(
 @"    }");
             Writer.WriteLine();
+
+            foreach (var field in messageFields.Where(_ => _.modifier == modifierType.repeated))
+            {
+                Writer.WriteLine(
+@"    /**
+    * Creates the cache of the decoded {0} of a built object: a LazyArray, unless BoundedLazyArray.setDefaultCapacity()
+    * bounds the caches. Override it to tune the cache of this field
+    **/
+    protected IStretchableArray<{1}> create{0}Cache()
+    {{
+        return BoundedLazyArray.create();
+    }}
+", field.name.Capitalize(), field.messageType);
+            }
         }
 
         protected override void GenerateSerialization(messageType message)
@@ -1167,8 +2574,9 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 @"    public static {0} parseFrom(IIOStream strm) throws IOException
     {{
         // the root is always at the end of the stream
+        // Note: the trailer holds the size of the root header, so it stays a fixed32
         int size = Integer.SIZE/Byte.SIZE;
-        int offset = -size;
+        long offset = -size;
 
         InputStream input = strm.getInputStreamAt(offset, IIOStream.E_SeekOrigin.End);
 
@@ -1176,12 +2584,14 @@ public abstract class Abstract{0} implements ProtoOrBuilder
         offset -= msgSize + CodedOutputStream.computeInt32SizeNoTag(msgSize);
             
         input = strm.getInputStreamAt(offset, IIOStream.E_SeekOrigin.End);
-        int pos = strm.getPosition();
+        long pos = strm.getPosition();
 
         {0} new{0} = new {0}();
         new{0}.setContentStream(strm);
         new{0}.setPositionInContent(pos);
         new{0}._header = {0}Header.parseDelimitedFrom(input);
+        if (Metrics.ENABLED)
+            Metrics.getShared().countHeader(""{0}"");
         return new{0};
     }}
 
@@ -1201,14 +2611,36 @@ public abstract class Abstract{0} implements ProtoOrBuilder
             }
 
             Writer.WriteLine(
-@"    public static {0} parseFrom(IIOStream strm, int pos)
+@"    public static {0} parseFrom(IIOStream strm, long pos)
     {{
         try
         {{
-            InputStream input = strm.getInputStreamAt(pos);
+            // a position of a stream always holds the same header: it may already have been decoded
+            HeaderCache cache = HeaderCache.getShared();
+            {0}Header header = cache != null ? ({0}Header)cache.get(strm, pos) : null;
+            if (Metrics.ENABLED && cache != null)
+            {{
+                if (header != null)
+                    Metrics.getShared().countHit(Metrics.E_Cache.Header);
+                else
+                    Metrics.getShared().countMiss(Metrics.E_Cache.Header);
+            }}
+            if (header == null)
+            {{
+                // in place from the buffers of the stream when it holds them in memory
+                header = DirectParser.parseDelimited(strm, pos, {0}Header.PARSER);
+                if (header == null)
+                {{
+                    InputStream input = strm.getInputStreamAt(pos);
+                    header = {0}Header.parseDelimitedFrom(input);
+                }}
+                assert header != null : ""Can't decode header!"";
+                if (Metrics.ENABLED)
+                    Metrics.getShared().countHeader(""{0}"");
 
-            {0}Header header = {0}Header.parseDelimitedFrom(input);
-            assert header != null : ""Can't decode header!"";
+                if (cache != null && header != null)
+                    cache.put(strm, pos, header, header.getSerializedSize());
+            }}
 
             {0} parsed = new {0}(header, pos);
             return parsed;
@@ -1219,6 +2651,19 @@ public abstract class Abstract{0} implements ProtoOrBuilder
             return null;
         }}
     }}
+
+    /**
+    * Decodes the header at pos from input, already positioned at pos
+    **/
+    public static {0} parseFrom(InputStream input, long pos) throws IOException
+    {{
+        {0}Header header = {0}Header.parseDelimitedFrom(input);
+        if (header == null)
+            throw new EOFException(""No header at position "" + pos);
+        if (Metrics.ENABLED)
+            Metrics.getShared().countHeader(""{0}"");
+        return new {0}(header, pos);
+    }}
 ", message.name);
         }
         
@@ -1242,7 +2687,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
 
         if(!result)
             return false;
-
+{1}
         if (_parent == null)
             return that._parent == null;
 
@@ -1254,12 +2699,19 @@ public abstract class Abstract{0} implements ProtoOrBuilder
     {{
         int hashCode = 17;
         if (_parent != null)
-            hashCode = 31 * hashCode + _parent.hashCode();
+            hashCode = 31 * hashCode + _parent.hashCode();{2}
         hashCode = 31 * hashCode + _fieldId;
         hashCode = 31 * hashCode + _index;
         return hashCode;
     }}
-", message.name);
+", message.name
+                    // decoded through a direct reference, without its parents: the coordinates locate it
+                    , HasOffsetReferences
+                        ? "\n        if (_coordinates != null || that._coordinates != null)\n            return _coordinates != null && _coordinates.equals(that._coordinates);\n"
+                        : ""
+                    , HasOffsetReferences
+                        ? "\n        if (_coordinates != null)\n            hashCode = 31 * hashCode + _coordinates.hashCode();"
+                        : "");
                 return;
             }
 
@@ -1353,8 +2805,10 @@ public abstract class Abstract{0} implements ProtoOrBuilder
                 {
                     case modifierType.repeated:
                         Writer.WriteLine(
-@"        format.formatField(bd,""{0}"", get{1}List());
-", field.name, field.name.Capitalize());
+@"        format.formatField(bd,""{0}"", {2}{1}{3});
+", field.name, field.name.Capitalize()
+                            , field.type == typeType.nestedMessage ? "iterate" : "get"
+                            , field.type == typeType.nestedMessage ? "()" : "List()");
                         break;
                     case modifierType.optional:
                         Writer.WriteLine(
@@ -1380,6 +2834,7 @@ public abstract class Abstract{0} implements ProtoOrBuilder
             Writer.WriteLine(
 @"import java.util.List;
 import java.util.ArrayList;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;");
@@ -1388,16 +2843,40 @@ import java.io.OutputStream;");
             {
                 Writer.WriteLine(
 @"import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import {0}.IMapper;
+import {0}.IndexSpliterator;
 import {0}.IStretchableArray;
+import {0}.ReadWindow;
 import {0}.StretchableArray;", ResourceNamespace);
             }
 
             if (message.IsRoot)
             {
-                Writer.WriteLine(@"import com.google.protobuf.CodedInputStream;
+                Writer.WriteLine(@"import java.util.Arrays;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
-import {0}.ByteArrayIOStream;", ResourceNamespace);
+import {0}.ByteArrayIOStream;
+import {0}.ReferenceCache;", ResourceNamespace);
+            }
+
+            if (message.IsRoot && HasOffsetReferences)
+            {
+                Writer.WriteLine(@"import java.util.HashSet;
+import {0}.RelocationTable;", ResourceNamespace);
+            }
+
+            if (OffsetHolders.Contains(message.name))
+            {
+                Writer.WriteLine(@"import java.util.Set;");
             }
 
             if (message.index.Any())
@@ -1406,14 +2885,26 @@ import {0}.ByteArrayIOStream;", ResourceNamespace);
 import java.util.Comparator;");
             }
 
+            if (message.index.Any(_ => _.IsHash))
+            {
+                Writer.WriteLine(@"import {0}.HashIndex;", ResourceNamespace);
+            }
+
             Writer.WriteLine(
 @"import {0}.{1}.LocalMessageDescriptor;
 import {0}.{1}.{2}Header;
 import {0}.{1}.{2}HeaderOrBuilder;
 import {3}.{2};
+import {4}.BoundedLazyArray;
+import {4}.DirectParser;
+import {4}.ForkJoinTasks;
+import {4}.HeaderCache;
 import {4}.IFormat;
 import {4}.IIOStream;
 import {4}.LazyArray;
+import {4}.LongArray;
+import {4}.Metrics;
+import {4}.Verification;
 ", GeneratedNamespace, DocumentName, message.name, Namespace, ResourceNamespace);
 
             var enums = (from fieldType f in message.field
@@ -1450,13 +2941,23 @@ import {4}.LazyArray;
                 case typeType.@enum:
                     return node.enumType;
                 case typeType.uint32:
-                    return "int";
                 case typeType.int32:
+                case typeType.sint32:
+                case typeType.fixed32:
+                case typeType.sfixed32:
                     return "int";
+                case typeType.uint64:
+                case typeType.int64:
+                case typeType.sint64:
+                case typeType.fixed64:
+                case typeType.sfixed64:
+                    return "long";
                 case typeType.@string:
                     return "String";
                 case typeType.@bool:
                     return "boolean";
+                case typeType.bytes:
+                    return "com.google.protobuf.ByteString";
                 default:
                     return node.type.ToString();
             }
@@ -1473,24 +2974,172 @@ import {4}.LazyArray;
                 case typeType.@enum:
                     return node.enumType;
                 case typeType.uint32:
-                    return "Integer";
                 case typeType.int32:
+                case typeType.sint32:
+                case typeType.fixed32:
+                case typeType.sfixed32:
                     return "Integer";
+                case typeType.uint64:
+                case typeType.int64:
+                case typeType.sint64:
+                case typeType.fixed64:
+                case typeType.sfixed64:
+                    return "Long";
+                case typeType.@double:
+                    return "Double";
+                case typeType.@float:
+                    return "Float";
                 case typeType.@string:
                     return "String";
                 case typeType.@bool:
                     return "Boolean";
+                case typeType.bytes:
+                    return "com.google.protobuf.ByteString";
                 default:
                     return node.type.ToString();
             }
         }
 
+        private void GenerateClassHashIndex(indexType index)
+        {
+            // the table is written at build time
+            Writer.WriteLine(
+@"        // Note: indexes are built during the build process, and aren't available before
+        /**
+        * {5}
+        * Compares two keys of the index, with the sign of a Comparator
+        **/
+        public static int compare{0}Keys({3} left, {3} right)
+        {{
+            return {6};
+        }}
+
+        /**
+        * {5}
+        * @return the hash of key in the table of the index
+        **/
+        public static int hash{0}({3} key)
+        {{
+            return HashIndex.mix({7});
+        }}
+
+        /**
+        * {5}
+        * @return an item whose key is key, or null
+        **/
+        public {2} find{0}({3} key)
+        {{
+            assert isBuilt() : ""Index is not built yet!"";
+
+            if (!_header.has{0}())
+                return null;
+
+            try
+            {{
+                if (_{8}Table == null)
+                    _{8}Table = HashIndex.open(getContentStream(), _header.get{0}());
+
+                for (int candidate : _{8}Table.find(hash{0}(key)))
+                {{
+                    {2} item = get{1}(candidate);
+                    if (compare{0}Keys(item.get{4}(), key) == 0)
+                        return item;
+                }}
+                return null;
+            }}
+            catch (IOException ex)
+            {{
+                assert false : ""Can't read the hash index!"";
+                return null;
+            }}
+        }}
+"
+                , index.name.Capitalize()
+                , index.ReferenceField.name.Capitalize()
+                , FieldType(index.ReferenceField)
+                , FieldType(index.SortingField)
+                , index.sortBy.Capitalize()
+                , index.description.Safe()
+                , CompareKeys(index.SortingField, "left", "right")
+                , HashKey(index.SortingField, "key")
+                , index.name
+                );
+        }
+
+        ///<summary>Java expression hashing an index key consistently with CompareKeys, and stable across JVMs</summary>
+        private static string HashKey(fieldType key, string value)
+        {
+            switch (key.type)
+            {
+                case typeType.int64:
+                case typeType.sint64:
+                case typeType.sfixed64:
+                case typeType.uint64:
+                case typeType.fixed64:
+                    return string.Format("(int)({0} ^ ({0} >>> 32))", value);
+                case typeType.@double:
+                    return string.Format("Double.valueOf({0}).hashCode()", value);
+                case typeType.@float:
+                    return string.Format("Float.valueOf({0}).hashCode()", value);
+                case typeType.@bool:
+                    return string.Format("({0} ? 1231 : 1237)", value);
+                case typeType.@enum:
+                    return string.Format("{0}.getNumber()", value);
+                case typeType.@string:
+                    return string.Format("{0}.hashCode()", value);
+                default:
+                    return value;
+            }
+        }
+
+        ///<summary>Java expression comparing the index keys left and right, with the sign of a Comparator</summary>
+        private static string CompareKeys(fieldType key, string left, string right)
+        {
+            switch (key.type)
+            {
+                case typeType.int32:
+                case typeType.sint32:
+                case typeType.sfixed32:
+                    return string.Format("Integer.compare({0}, {1})", left, right);
+                case typeType.uint32:
+                case typeType.fixed32:
+                    return string.Format("Integer.compare({0} ^ Integer.MIN_VALUE, {1} ^ Integer.MIN_VALUE)", left, right);
+                case typeType.int64:
+                case typeType.sint64:
+                case typeType.sfixed64:
+                    return string.Format("Long.compare({0}, {1})", left, right);
+                case typeType.uint64:
+                case typeType.fixed64:
+                    return string.Format("Long.compare({0} ^ Long.MIN_VALUE, {1} ^ Long.MIN_VALUE)", left, right);
+                case typeType.@double:
+                    return string.Format("Double.compare({0}, {1})", left, right);
+                case typeType.@float:
+                    return string.Format("Float.compare({0}, {1})", left, right);
+                case typeType.@bool:
+                    return string.Format("Boolean.compare({0}, {1})", left, right);
+                case typeType.@enum:
+                    return string.Format("Integer.compare({0}.getNumber(), {1}.getNumber())", left, right);
+                default:
+                    return string.Format("{0}.compareTo({1})", left, right);
+            }
+        }
+
         private static bool HasBoxedType(fieldType node)
         {
             switch (node.type)
             {
                 case typeType.uint32:
                 case typeType.int32:
+                case typeType.sint32:
+                case typeType.fixed32:
+                case typeType.sfixed32:
+                case typeType.uint64:
+                case typeType.int64:
+                case typeType.sint64:
+                case typeType.fixed64:
+                case typeType.sfixed64:
+                case typeType.@double:
+                case typeType.@float:
                 case typeType.@bool:
                     return true;
                 default:
@@ -1531,7 +3180,7 @@ public class {0} extends Abstract{0}
      * @param posInContent
      *            position in content
      */
-    public {0}({0}Header header, int posInContent) 
+    public {0}({0}Header header, long posInContent) 
     {{ 
         super(header, posInContent); 
     }}
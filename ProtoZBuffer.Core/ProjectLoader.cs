@@ -53,6 +53,7 @@ namespace ProtoZBuffer.Core
             }
             Check(root);
             UpdateIndexes(root);
+            UpdateReferenceEncodings(root);
 
             root.Items.OfType<messageType>().First().IsRoot = true;
 
@@ -92,6 +93,37 @@ namespace ProtoZBuffer.Core
                     var referencedFieldMessageType = allMessages.SingleOrDefault(m => m.name == index.ReferenceField.messageType);
                     var sortingField = referencedFieldMessageType.field.SingleOrDefault(field => field.name == index.sortBy);
                     index.SortingField = sortingField;
+
+                    if (index.keysIdSpecified && !index.IsHash && sortingField != null)
+                    {
+                        index.KeysField = new fieldType
+                        {
+                            id = index.keysId,
+                            modifier = modifierType.repeated,
+                            type = sortingField.type,
+                            enumType = sortingField.enumType,
+                            name = index.name + "Keys"
+                        };
+                    }
+                }
+            }
+        }
+
+        // Apply the document's reference encoding to the references that don't choose their own
+        private static void UpdateReferenceEncodings(protozbuffType root)
+        {
+            if (!root.referenceEncodingSpecified)
+                return;
+
+            foreach (var msg in root.Items.OfType<messageType>())
+            {
+                var references = msg.field.Where(field => field.type == typeType.referenceMessage)
+                    .Concat(msg.index.Select(index => index.ReferenceField));
+
+                foreach (var reference in references.Where(field => !field.referenceEncodingSpecified))
+                {
+                    reference.referenceEncoding = root.referenceEncoding;
+                    reference.referenceEncodingSpecified = true;
                 }
             }
         }
@@ -131,6 +163,11 @@ namespace ProtoZBuffer.Core
                 {
                     Logger.Fatal("Message {0}: field {1} references unknown message {2}", msg.name, field.name, field.messageType);
                 }
+
+                if (field.referenceEncodingSpecified && field.type != typeType.referenceMessage)
+                {
+                    Logger.Warning("Message {0}: field {1} isn't a reference, its referenceEncoding is ignored", msg.name, field.name);
+                }
             }
         }
 
@@ -181,6 +218,28 @@ namespace ProtoZBuffer.Core
                 {
                     Logger.Fatal("Message {0}: index {1}'s sortBy ({2}) can't be a message", msg.name, index.id, index.sortBy);
                 }
+
+                if (sortingField.type == typeType.bytes)
+                {
+                    Logger.Fatal("Message {0}: index {1}'s sortBy ({2}) can't be a bytes field, its values have no order", msg.name, index.id, index.sortBy);
+                }
+
+                if (!index.keysIdSpecified)
+                    continue;
+
+                if (index.IsHash)
+                {
+                    Logger.Warning("Message {0}: index {1} is a hash index, its keysId is ignored", msg.name, index.id);
+                    continue;
+                }
+
+                var keysId = index.keysId;
+                var keysIdInUse = msg.field.Any(field => field.id == keysId)
+                    || msg.index.Any(other => other.id == keysId || (other != index && other.keysIdSpecified && other.keysId == keysId));
+                if (keysId < 1 || keysIdInUse)
+                {
+                    Logger.Fatal("Message {0}: index {1}'s keysId ({2}) should be >= 1 and unused in the message", msg.name, index.id, index.keysId);
+                }
             }
         }
     }
@@ -1,5 +1,6 @@
 ﻿using System.Diagnostics;
 using System.IO;
+using System.Linq;
 
 namespace ProtoZBuffer.Core
 {
@@ -58,8 +59,18 @@ namespace ProtoZBuffer.Core
         {
             Debug.Assert(node.ReferenceField != null);
 
+            if (node.IsHash)
+            {
+                _strm.WriteLine("  //hash table of {0} by {1}", node.ReferenceField.name, node.sortBy);
+                _strm.WriteLine("    optional uint64 {0}= {1}; // position of the table in the content", node.name, node.id);
+                return;
+            }
+
             _strm.WriteLine("  //{0}", FormatIndex(node, node.ReferenceField.messageType + "Header"));
             _strm.WriteLine("    {0}", FormatIndex(node, ProtoTypeString(node.ReferenceField)));
+
+            if (node.KeysField != null)
+                _strm.WriteLine("    {0}", FormatField(node.KeysField, ProtoTypeString(node.KeysField)));
         }
 
         private static string ProtoTypeString(fieldType node)
@@ -67,7 +78,7 @@ namespace ProtoZBuffer.Core
             switch (node.type)
             {
                 case typeType.nestedMessage:
-                    return "uint32";
+                    return "uint64";
                 case typeType.referenceMessage:
                     return "LocalMessageDescriptor";
                 case typeType.@enum:
@@ -131,15 +142,27 @@ namespace ProtoZBuffer.Core
                 message.Accept(this);
             }
 
-            GenerateLocalMessageDescriptor();
+            GenerateLocalMessageDescriptor(HasOffsetReferences(node));
+        }
+
+        /// <summary>
+        /// Does any reference or index of the document store the offset of its target
+        /// </summary>
+        internal static bool HasOffsetReferences(protozbuffType node)
+        {
+            return node.Items.OfType<messageType>()
+                .SelectMany(msg => msg.field.Concat(msg.index.Where(index => !index.IsHash).Select(index => index.ReferenceField)))
+                .Any(field => field.type == typeType.referenceMessage && field.referenceEncoding == referenceEncodingType.offset);
         }
 
-        private void GenerateLocalMessageDescriptor()
+        private void GenerateLocalMessageDescriptor(bool withOffset)
         {
             _strm.WriteLine();
             _strm.WriteLine("message LocalMessageDescriptor");
             _strm.WriteLine("{");
             _strm.WriteLine("    repeated int32 coordinate = 1 [packed=true];");
+            if (withOffset)
+                _strm.WriteLine("    optional uint64 offset = 2; // position of the referenced message in the content, when known at build time");
             _strm.WriteLine("}");
         }
     }
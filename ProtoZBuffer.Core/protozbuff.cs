@@ -28,6 +28,10 @@ namespace ProtoZBuffer.Core {
         
         private string descriptionField;
         
+        private referenceEncodingType referenceEncodingField;
+        
+        private bool referenceEncodingFieldSpecified;
+        
         /// <remarks/>
         [XmlElement("enum", typeof(enumType))]
         [XmlElement("message", typeof(messageType))]
@@ -50,6 +54,28 @@ namespace ProtoZBuffer.Core {
                 this.descriptionField = value;
             }
         }
+        
+        /// <remarks/>
+        [XmlAttribute()]
+        public referenceEncodingType referenceEncoding {
+            get {
+                return this.referenceEncodingField;
+            }
+            set {
+                this.referenceEncodingField = value;
+            }
+        }
+        
+        /// <remarks/>
+        [XmlIgnore()]
+        public bool referenceEncodingSpecified {
+            get {
+                return this.referenceEncodingFieldSpecified;
+            }
+            set {
+                this.referenceEncodingFieldSpecified = value;
+            }
+        }
     }
     
     /// <remarks/>
@@ -164,6 +190,14 @@ namespace ProtoZBuffer.Core {
         
         private string sortByField;
         
+        private indexKindType kindField;
+        
+        private bool kindFieldSpecified;
+        
+        private int keysIdField;
+        
+        private bool keysIdFieldSpecified;
+        
         private string descriptionField;
         
         /// <remarks/>
@@ -210,6 +244,50 @@ namespace ProtoZBuffer.Core {
             }
         }
         
+        /// <remarks/>
+        [XmlAttribute()]
+        public indexKindType kind {
+            get {
+                return this.kindField;
+            }
+            set {
+                this.kindField = value;
+            }
+        }
+        
+        /// <remarks/>
+        [XmlIgnore()]
+        public bool kindSpecified {
+            get {
+                return this.kindFieldSpecified;
+            }
+            set {
+                this.kindFieldSpecified = value;
+            }
+        }
+        
+        /// <remarks/>
+        [XmlAttribute()]
+        public int keysId {
+            get {
+                return this.keysIdField;
+            }
+            set {
+                this.keysIdField = value;
+            }
+        }
+        
+        /// <remarks/>
+        [XmlIgnore()]
+        public bool keysIdSpecified {
+            get {
+                return this.keysIdFieldSpecified;
+            }
+            set {
+                this.keysIdFieldSpecified = value;
+            }
+        }
+        
         /// <remarks/>
         [XmlAttribute()]
         public string description {
@@ -246,6 +324,10 @@ namespace ProtoZBuffer.Core {
         
         private string descriptionField;
         
+        private referenceEncodingType referenceEncodingField;
+        
+        private bool referenceEncodingFieldSpecified;
+        
         /// <remarks/>
         [XmlAttribute()]
         public int id {
@@ -333,6 +415,28 @@ namespace ProtoZBuffer.Core {
                 this.descriptionField = value;
             }
         }
+        
+        /// <remarks/>
+        [XmlAttribute()]
+        public referenceEncodingType referenceEncoding {
+            get {
+                return this.referenceEncodingField;
+            }
+            set {
+                this.referenceEncodingField = value;
+            }
+        }
+        
+        /// <remarks/>
+        [XmlIgnore()]
+        public bool referenceEncodingSpecified {
+            get {
+                return this.referenceEncodingFieldSpecified;
+            }
+            set {
+                this.referenceEncodingFieldSpecified = value;
+            }
+        }
     }
     
     /// <remarks/>
@@ -412,6 +516,32 @@ namespace ProtoZBuffer.Core {
         repeated,
     }
     
+    /// <remarks/>
+    [System.CodeDom.Compiler.GeneratedCodeAttribute("xsd", "4.0.30319.18020")]
+    [System.SerializableAttribute()]
+    [XmlType(Namespace="http://tempuri.org/protoZ.xsd")]
+    public enum referenceEncodingType {
+        
+        /// <remarks/>
+        path,
+        
+        /// <remarks/>
+        offset,
+    }
+    
+    /// <remarks/>
+    [System.CodeDom.Compiler.GeneratedCodeAttribute("xsd", "4.0.30319.18020")]
+    [System.SerializableAttribute()]
+    [XmlType(Namespace="http://tempuri.org/protoZ.xsd")]
+    public enum indexKindType {
+        
+        /// <remarks/>
+        sorted,
+        
+        /// <remarks/>
+        hash,
+    }
+    
     /// <remarks/>
     [System.CodeDom.Compiler.GeneratedCodeAttribute("xsd", "4.0.30319.18020")]
     [System.SerializableAttribute()]
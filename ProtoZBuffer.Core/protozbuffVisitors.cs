@@ -55,6 +55,15 @@
 
         // type of the field we want to sort by
         public fieldType SortingField { get; set; }
+
+        // field that will store the sort keys next to the index in the .proto file, if any
+        public fieldType KeysField { get; set; }
+
+        // index stored as a hash table in the content, instead of sorted references
+        public bool IsHash
+        {
+            get { return kindSpecified && kind == indexKindType.hash; }
+        }
     }
 
     // ReSharper disable once InconsistentNaming
@@ -0,0 +1,530 @@
+﻿package %NAMESPACE%;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses any IIOStream by fixed-size blocks, each deflated independently, while keeping random access:
+ * positions are the ones of the uncompressed content, and a read only inflates the blocks it goes through,
+ * with a small cache of inflated blocks.
+ * The table of the blocks is written in a footer by finish() or close(), if something was written since the last one:
+ * a stream opened again over the same underlying stream can be read, and appended to. Blocks written after a footer make it dead space.
+ * Layout of the footer: block size, uncompressed size, block count, then the position and the compressed length
+ * of each block, and its CRC32C when checksums are enabled; the underlying stream ends with the position
+ * of the footer and a magic number, which tells whether the blocks have checksums.
+ * The checksum of a block is verified when it is inflated: a corrupted block fails its reads with an IOException.
+ * With Deflater.NO_COMPRESSION, the stream only adds the checksums.
+ */
+public class BlockCompressedIOStream implements IIOStream {
+
+	public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+	public static final int DEFAULT_CACHED_BLOCKS = 8;
+
+	private static final int MAGIC = 0x50425a43;
+	private static final int MAGIC_CHECKSUMS = 0x50425a58;
+	private static final int TRAILER_SIZE = 8 + 4;
+	private static final int IN_FULL_BLOCK = -2;
+
+	private final IIOStream _inner;
+	private final int _blockSize;
+	private final int _level;
+	private boolean _checksums;
+	private final Map<Integer, byte[]> _cache;
+
+	// the full blocks, in the underlying stream
+	private final LongArray _blockPositions = new LongArray();
+	private final LongArray _blockLengths = new LongArray();
+	private final LongArray _blockChecksums = new LongArray();
+
+	// the last block, not full yet: kept uncompressed until finish()
+	private byte[] _tail;
+	private int _tailSize = 0;
+	private boolean _dirty = false; // whether something was written since the last footer
+
+	private final BlockOutputStream _outputStream = new BlockOutputStream();
+	private volatile long _position = 0;
+	private volatile boolean _readPosition = false; // whether the current position is the last read one
+
+	private class BlockInputStream extends InputStream
+	{
+		private long _pos;
+		private long _mark;
+		private byte[] _block = null; // the last full block read, inflated: kept while the cursor stays in it
+		private int _blockIndex = -1;
+
+		public BlockInputStream(long pos)
+		{
+			_pos = pos;
+			_mark = pos;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			int index = (int) (_pos / _blockSize);
+			int offset = (int) (_pos % _blockSize);
+			if (index != _blockIndex)
+			{
+				// the last block isn't kept: it is still appended to
+				int value = readTailAt(index, offset);
+				if (value != IN_FULL_BLOCK)
+				{
+					if (value >= 0)
+						_pos++;
+					return value;
+				}
+
+				_block = inflate(index);
+				_blockIndex = index;
+			}
+
+			_pos++;
+			return _block[offset] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (len == 0)
+				return 0;
+
+			int read = readAt(_pos, b, off, len);
+			if (read > 0)
+				_pos += read;
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException
+		{
+			long skipped = Math.max(0, n);
+			_pos += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported()
+		{
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readlimit)
+		{
+			_mark = _pos;
+		}
+
+		@Override
+		public synchronized void reset() throws IOException
+		{
+			_pos = _mark;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			// NOP: we should close the stream only at IO stream level
+		}
+	}
+
+	private class BlockOutputStream extends OutputStream
+	{
+		@Override
+		public void write(int b) throws IOException
+		{
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException
+		{
+			synchronized (BlockCompressedIOStream.this)
+			{
+				if (len > 0)
+					_dirty = true;
+				while (len > 0)
+				{
+					int chunk = Math.min(len, _blockSize - _tailSize);
+					System.arraycopy(b, off, _tail, _tailSize, chunk);
+					_tailSize += chunk;
+					off += chunk;
+					len -= chunk;
+
+					if (_tailSize == _blockSize)
+					{
+						writeBlock(_tail, _tailSize);
+						_tail = new byte[_blockSize];
+						_tailSize = 0;
+					}
+				}
+			}
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			// NOP: we should close the stream only at IO stream level
+		}
+	}
+
+	public BlockCompressedIOStream(IIOStream inner) throws IOException
+	{
+		this(inner, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION, DEFAULT_CACHED_BLOCKS, false);
+	}
+
+	/**
+	 * @param inner the underlying stream: empty, or ending with the footer of a compressed stream
+	 * @param blockSize size of the uncompressed blocks, for a new stream (the one of the footer otherwise)
+	 * @param level Deflater compression level
+	 * @param cachedBlocks number of inflated blocks kept in memory
+	 * @param checksums whether the blocks get a CRC32C, for a new stream (the footer tells otherwise)
+	 * @throws IOException
+	 */
+	public BlockCompressedIOStream(IIOStream inner, int blockSize, int level, final int cachedBlocks, boolean checksums) throws IOException
+	{
+		_inner = inner;
+		_level = level;
+		_checksums = checksums;
+		_cache = new LinkedHashMap<Integer, byte[]>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+				return size() > cachedBlocks;
+			}
+		};
+
+		long footerPos = readFooterPosition();
+		if (footerPos < 0)
+		{
+			_blockSize = blockSize;
+			_tail = new byte[_blockSize];
+			return;
+		}
+
+		DataInputStream footer = new DataInputStream(_inner.getInputStreamAt(footerPos));
+		_blockSize = footer.readInt();
+		long size = footer.readLong();
+		int blocks = footer.readInt();
+		int fullBlocks = (int) (size / _blockSize);
+		for (int i = 0; i < blocks; i++)
+		{
+			long position = footer.readLong();
+			int length = footer.readInt();
+			int checksum = _checksums ? footer.readInt() : 0;
+			if (i < fullBlocks)
+			{
+				_blockPositions.add(position);
+				_blockLengths.add(length);
+				_blockChecksums.add(checksum);
+				continue;
+			}
+
+			// the last block isn't full: it is appended to in memory
+			_tail = inflate(position, length, checksum, i, (int) (size % _blockSize));
+			_tailSize = (int) (size % _blockSize);
+		}
+
+		if (_tail == null)
+			_tail = new byte[_blockSize];
+	}
+
+	/**
+	 * @return the position of the footer, or -1 for an empty stream
+	 */
+	private long readFooterPosition() throws IOException
+	{
+		synchronized (_inner)
+		{
+			_inner.getOutputStream();
+			long length = _inner.getPosition();
+			if (length == 0)
+				return -1;
+			if (length < TRAILER_SIZE)
+				throw new IOException("Not a compressed stream: too short");
+
+			DataInputStream trailer = new DataInputStream(_inner.getInputStreamAt(length - TRAILER_SIZE));
+			long footerPos = trailer.readLong();
+			int magic = trailer.readInt();
+			if (magic != MAGIC && magic != MAGIC_CHECKSUMS)
+				throw new IOException("Not a compressed stream: no footer");
+			_checksums = magic == MAGIC_CHECKSUMS;
+			return footerPos;
+		}
+	}
+
+	/**
+	 * @return the size of the uncompressed content
+	 */
+	public synchronized long getSize()
+	{
+		return (long) _blockPositions.size() * _blockSize + _tailSize;
+	}
+
+	/**
+	 * Writes the last block and the footer, so that the underlying stream can be read by another instance.
+	 * The stream can still be appended to. Nothing is written if the stream wasn't written since the last footer,
+	 * so that a stream only read is left unchanged.
+	 * @throws IOException
+	 */
+	public synchronized void finish() throws IOException
+	{
+		if (!_dirty)
+			return;
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream footer = new DataOutputStream(bytes);
+		footer.writeInt(_blockSize);
+		footer.writeLong(getSize());
+
+		int blocks = _blockPositions.size();
+		footer.writeInt(_tailSize > 0 ? blocks + 1 : blocks);
+		for (int i = 0; i < blocks; i++)
+		{
+			footer.writeLong(_blockPositions.get(i));
+			footer.writeInt((int) _blockLengths.get(i));
+			if (_checksums)
+				footer.writeInt((int) _blockChecksums.get(i));
+		}
+
+		synchronized (_inner)
+		{
+			if (_tailSize > 0)
+			{
+				// written as a last block, but kept in memory for the next writes
+				byte[] compressed = deflate(_tail, _tailSize);
+				OutputStream output = _inner.getOutputStream();
+				footer.writeLong(_inner.getPosition());
+				footer.writeInt(compressed.length);
+				if (_checksums)
+					footer.writeInt(Crc32c.compute(_tail, 0, _tailSize));
+				output.write(compressed);
+			}
+
+			OutputStream output = _inner.getOutputStream();
+			long footerPos = _inner.getPosition();
+			footer.writeLong(footerPos);
+			footer.writeInt(_checksums ? MAGIC_CHECKSUMS : MAGIC);
+			footer.flush();
+			bytes.writeTo(output);
+			output.flush();
+		}
+		_dirty = false;
+	}
+
+	private void writeBlock(byte[] block, int length) throws IOException
+	{
+		byte[] compressed = deflate(block, length);
+		int checksum = _checksums ? Crc32c.compute(block, 0, length) : 0;
+		synchronized (_inner)
+		{
+			OutputStream output = _inner.getOutputStream();
+			_blockPositions.add(_inner.getPosition());
+			_blockLengths.add(compressed.length);
+			_blockChecksums.add(checksum);
+			output.write(compressed);
+		}
+	}
+
+	private byte[] deflate(byte[] block, int length)
+	{
+		Deflater deflater = new Deflater(_level);
+		try
+		{
+			deflater.setInput(block, 0, length);
+			deflater.finish();
+
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 16);
+			byte[] buffer = new byte[Math.min(length + 16, _blockSize)];
+			while (!deflater.finished())
+			{
+				int count = deflater.deflate(buffer);
+				compressed.write(buffer, 0, count);
+			}
+			return compressed.toByteArray();
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+	/**
+	 * @return the uncompressed full block, from the cache if possible
+	 */
+	private byte[] inflate(int index) throws IOException
+	{
+		synchronized (_cache)
+		{
+			byte[] block = _cache.get(index);
+			if (block != null)
+				return block;
+		}
+
+		byte[] block = inflate(_blockPositions.get(index), (int) _blockLengths.get(index), (int) _blockChecksums.get(index), index, _blockSize);
+		synchronized (_cache)
+		{
+			_cache.put(index, block);
+		}
+		return block;
+	}
+
+	/**
+	 * Verifies every full block, without caching them
+	 * @return the position in the uncompressed content of the first corrupted block, or -1
+	 */
+	public long verifyBlocks()
+	{
+		int blocks;
+		synchronized (this)
+		{
+			blocks = _blockPositions.size();
+		}
+
+		for (int i = 0; i < blocks; i++)
+		{
+			try
+			{
+				inflate(_blockPositions.get(i), (int) _blockLengths.get(i), (int) _blockChecksums.get(i), i, _blockSize);
+			}
+			catch (IOException e)
+			{
+				return (long) i * _blockSize;
+			}
+		}
+		return -1;
+	}
+
+	private byte[] inflate(long position, int compressedLength, int checksum, int index, int size) throws IOException
+	{
+		byte[] compressed = new byte[compressedLength];
+		synchronized (_inner)
+		{
+			InputStream input = _inner.getInputStreamAt(position);
+			int read = 0;
+			while (read < compressed.length)
+			{
+				int count = input.read(compressed, read, compressed.length - read);
+				if (count < 0)
+					throw new EOFException("Truncated block " + index);
+				read += count;
+			}
+		}
+
+		Inflater inflater = new Inflater();
+		try
+		{
+			inflater.setInput(compressed);
+			byte[] block = new byte[_blockSize];
+			int length = 0;
+			while (!inflater.finished() && length < block.length)
+			{
+				int count = inflater.inflate(block, length, block.length - length);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw new EOFException("Corrupted block " + index);
+				length += count;
+			}
+
+			if (length != size || (_checksums && Crc32c.compute(block, 0, length) != checksum))
+				throw new IOException("Corrupted block " + index + " at position " + position);
+			return block;
+		}
+		catch (DataFormatException e)
+		{
+			throw new IOException("Corrupted block " + index, e);
+		}
+		finally
+		{
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Reads from the full blocks, or from the last one
+	 * @return the number of bytes read, or -1 at the end of the content
+	 */
+	/**
+	 * @return the byte at offset in the last block, -1 past the end of the content,
+	 * or IN_FULL_BLOCK if the block of given index is a full one
+	 */
+	private synchronized int readTailAt(int index, int offset)
+	{
+		if (index < _blockPositions.size())
+			return IN_FULL_BLOCK;
+		if (index > _blockPositions.size() || offset >= _tailSize)
+			return -1;
+		return _tail[offset] & 0xFF;
+	}
+
+	private int readAt(long pos, byte[] b, int off, int len) throws IOException
+	{
+		int index = (int) (pos / _blockSize);
+		int offset = (int) (pos % _blockSize);
+
+		synchronized (this)
+		{
+			if (index >= _blockPositions.size())
+			{
+				if (index > _blockPositions.size() || offset >= _tailSize)
+					return -1;
+
+				int count = Math.min(len, _tailSize - offset);
+				System.arraycopy(_tail, offset, b, off, count);
+				return count;
+			}
+		}
+
+		byte[] block = inflate(index);
+		int count = Math.min(len, _blockSize - offset);
+		System.arraycopy(block, offset, b, off, count);
+		return count;
+	}
+
+	@Override
+	public long getPosition() {
+		return _readPosition ? _position : getSize();
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos) {
+		return getInputStreamAt(pos, E_SeekOrigin.Begin);
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		long position = seekDir == E_SeekOrigin.End ? getSize() + pos : pos;
+		_position = position;
+		_readPosition = true;
+		return new BlockInputStream(position);
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		_readPosition = false;
+		return _outputStream;
+	}
+
+	/**
+	 * @return true: the blocks are read with the lock of the underlying stream held, whatever its cursors
+	 */
+	@Override
+	public boolean supportsConcurrentReads() {
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		HeaderCache.invalidateShared(this);
+		finish();
+		_inner.close();
+	}
+
+}
@@ -0,0 +1,294 @@
+﻿package %NAMESPACE%;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Size-bounded cache of the decoded children of a built object.
+ * It is an open-addressing hash table indexed by the child's index: it starts empty and grows with the
+ * number of children actually decoded, up to the cache capacity. Once full, a child is evicted
+ * deterministically (the first one not used since the previous pass of a clock hand) instead of relying
+ * on the GC as LazyArray does.
+ * It is synchronized, so that a built document can be decoded by several threads.
+ * The generated classes use it once setDefaultCapacity() is given a positive capacity (or when their
+ * create...Cache() method is overridden): by default, their caches are still LazyArrays.
+ *
+ * @param <T>
+ *            parameter
+ */
+public class BoundedLazyArray<T> implements IStretchableArray<T>
+{
+    public static final int DEFAULT_CAPACITY = 0; // LazyArrays, until setDefaultCapacity() bounds the caches
+
+    private static final int INITIAL_SLOTS = 8;
+
+    private static volatile int _defaultCapacity = DEFAULT_CAPACITY;
+
+    private final int _capacity;
+    private int[] _keys;
+    private Object[] _values; // null for an empty slot
+    private boolean[] _used; // per slot: whether the child was used since the last pass of the clock hand
+    private int _count = 0;
+    private int _hand = 0;
+    private int _size = 0;
+
+    /**
+     * @param capacity
+     *            maximum number of cached children
+     */
+    public BoundedLazyArray(int capacity)
+    {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive");
+
+        _capacity = capacity;
+        allocate(INITIAL_SLOTS);
+    }
+
+    /**
+     * @return the default capacity of the caches created by create(), 0 meaning they are LazyArrays
+     */
+    public static int getDefaultCapacity()
+    {
+        return _defaultCapacity;
+    }
+
+    /**
+     * Sets the capacity of the caches created from now on by create() (i.e. for all the fields
+     * whose create...Cache() method isn't overridden)
+     *
+     * @param capacity
+     *            maximum number of cached children per field, or 0 to use unbounded, soft referenced, LazyArrays
+     */
+    public static void setDefaultCapacity(int capacity)
+    {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity can't be negative");
+
+        _defaultCapacity = capacity;
+    }
+
+    /**
+     * @param <T>
+     *            type in list
+     * @return a children cache with the default capacity
+     */
+    public static <T> IStretchableArray<T> create()
+    {
+        int capacity = _defaultCapacity;
+        if (capacity == 0)
+            return new LazyArray<T>();
+        return new BoundedLazyArray<T>(capacity);
+    }
+
+    private void allocate(int slots)
+    {
+        _keys = new int[slots];
+        _values = new Object[slots];
+        _used = new boolean[slots];
+        _count = 0;
+        _hand = 0;
+    }
+
+    private int slotOf(int index)
+    {
+        return (index * 0x9E3779B9) & (_values.length - 1);
+    }
+
+    /**
+     * @return the slot holding index, or the empty slot ending its probe sequence
+     */
+    private int find(int index)
+    {
+        int mask = _values.length - 1;
+        int slot = slotOf(index);
+        while (_values[slot] != null && _keys[slot] != index)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * doubles the table while it is more than half full, until it can hold the capacity
+     */
+    private void grow()
+    {
+        if ((_count + 1) * 2 <= _values.length || _values.length >= _capacity * 2)
+            return;
+
+        int[] keys = _keys;
+        Object[] values = _values;
+        allocate(values.length * 2);
+        for (int i = 0; i < values.length; i++)
+        {
+            if (values[i] == null)
+                continue;
+
+            int slot = find(keys[i]);
+            _keys[slot] = keys[i];
+            _values[slot] = values[i];
+            _count++;
+        }
+    }
+
+    /**
+     * evicts the first child not used since the previous pass of the clock hand
+     */
+    private void evict()
+    {
+        int mask = _values.length - 1;
+        while (_values[_hand] == null || _used[_hand])
+        {
+            _used[_hand] = false;
+            _hand = (_hand + 1) & mask;
+        }
+        remove(_hand);
+    }
+
+    /**
+     * empties a slot, moving back the following children of its probe sequence
+     */
+    private void remove(int slot)
+    {
+        int mask = _values.length - 1;
+        int empty = slot;
+        for (int next = (slot + 1) & mask; _values[next] != null; next = (next + 1) & mask)
+        {
+            // a child can move back unless its home slot lies in (empty, next]
+            int home = slotOf(_keys[next]);
+            if (((next - home) & mask) >= ((next - empty) & mask))
+            {
+                _keys[empty] = _keys[next];
+                _values[empty] = _values[next];
+                _used[empty] = _used[next];
+                empty = next;
+            }
+        }
+        _values[empty] = null;
+        _used[empty] = false;
+        _count--;
+    }
+
+    /**
+     * sets an item, evicting a child if the cache is full
+     *
+     * @param index
+     *            item index
+     * @param value
+     *            item value
+     */
+    @Override
+    public synchronized void set(int index, T value)
+    {
+        if (index >= _size)
+            _size = index + 1;
+
+        int slot = find(index);
+        if (_values[slot] == null)
+        {
+            if (value == null)
+                return;
+
+            if (_count == _capacity)
+                evict();
+            grow();
+            slot = find(index);
+            _count++;
+        }
+        else if (value == null)
+        {
+            remove(slot);
+            return;
+        }
+
+        _keys[slot] = index;
+        _values[slot] = value;
+        _used[slot] = true;
+    }
+
+    /**
+     * gets an item or null
+     *
+     * @param index
+     *            the index
+     * @return the item or null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public synchronized T get(int index)
+    {
+        int slot = find(index);
+        if (_values[slot] == null)
+            return null;
+
+        _used[slot] = true;
+        return (T) _values[slot];
+    }
+
+    @Override
+    public synchronized T setIfAbsent(int index, T value)
+    {
+        T current = get(index);
+        if (current != null)
+            return current;
+
+        set(index, value);
+        return value;
+    }
+
+    @Override
+    public synchronized int size()
+    {
+        return _size;
+    }
+
+    @Override
+    public synchronized void add(T item)
+    {
+        set(_size, item);
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        allocate(INITIAL_SLOTS);
+        _size = 0;
+    }
+
+    /**
+     * Iterates, in index order, over the children currently in the cache
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new Iterator<T>()
+        {
+            private int _index = 0;
+            private T _next = null;
+
+            @Override
+            public boolean hasNext()
+            {
+                while (_next == null && _index < size())
+                    _next = get(_index++);
+                return _next != null;
+            }
+
+            @Override
+            public T next()
+            {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                T item = _next;
+                _next = null;
+                return item;
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
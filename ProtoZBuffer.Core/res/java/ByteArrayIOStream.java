@@ -1,51 +1,130 @@
 ﻿package %NAMESPACE%;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
-public class ByteArrayIOStream implements IIOStream {
+/**
+ * In memory stream, backed by a growable ByteBuffer.
+ * The input streams are position-bounded views over the buffer: no copy of the content is made when reading,
+ * and each view has its own cursor, so that the stream can be read by several threads.
+ * Headers can also be decoded in place (see IDirectIOStream).
+ */
+public class ByteArrayIOStream implements IDirectIOStream {
 
-	private ByteArrayInputStream _innerInputStream;
-	private ByteArrayOutputStream _innerOutputStream = new ByteArrayOutputStream();
+	private static final int DEFAULT_CAPACITY = 4096;
+
+	private ByteBuffer _buffer;
+	private int _size = 0;
+	private ByteBufferOutputStream _innerOutputStream = new ByteBufferOutputStream();
+
+	private class ByteBufferOutputStream extends OutputStream
+	{
+		@Override
+		public void write(int b) throws IOException {
+			ensureCapacity(1);
+			_buffer.put(_size++, (byte) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			ensureCapacity(len);
+			ByteBuffer target = _buffer.duplicate();
+			target.position(_size);
+			target.put(b, off, len);
+			_size += len;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// NOP: nothing to release
+		}
+	}
 
 	public ByteArrayIOStream()
 	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ByteArrayIOStream(int initialCapacity)
+	{
+		_buffer = ByteBuffer.allocate(initialCapacity);
 	}
-	
+
+	/**
+	 * Wraps buf without copying it. Appending to the stream never modifies buf.
+	 * @param buf initial content of the stream
+	 * @throws IOException
+	 */
 	public ByteArrayIOStream(byte[] buf) throws IOException {
-		_innerOutputStream.write(buf);
+		_buffer = ByteBuffer.wrap(buf);
+		_size = buf.length;
+	}
+
+	/**
+	 * Grows the buffer so that count more bytes can be appended.
+	 * Views handed out before remain valid: they keep reading the previous buffer.
+	 * @param count number of bytes to be appended
+	 * @throws IOException if the content would exceed 2GB
+	 */
+	private void ensureCapacity(int count) throws IOException
+	{
+		int required = _size + count;
+		if (required < 0)
+			throw new IOException("In memory stream can't exceed 2GB");
+
+		if (required <= _buffer.capacity())
+			return;
+
+		int capacity = Math.max(_buffer.capacity(), DEFAULT_CAPACITY);
+		while (capacity < required)
+			capacity = capacity > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : capacity << 1;
+
+		ByteBuffer grown = ByteBuffer.allocate(capacity);
+		grown.put(_buffer.array(), _buffer.arrayOffset(), _size);
+		_buffer = grown;
 	}
-	
+
 	@Override
-	public int getPosition() {
-		return _innerOutputStream.size();
+	public long getPosition() {
+		return _size;
 	}
 
 	@Override
-	public InputStream getInputStreamAt(int pos) {
+	public InputStream getInputStreamAt(long pos) {
 		return getInputStreamAt(pos, E_SeekOrigin.Begin);
 	}
 
 	@Override
-	public InputStream getInputStreamAt(int pos, E_SeekOrigin seekDir) {
-		_innerInputStream = new ByteArrayInputStream(_innerOutputStream.toByteArray());
-		_innerInputStream.reset();
-		
+	public InputStream getInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		long start = 0;
 		switch(seekDir)
 		{
 		case Begin:
-			_innerInputStream.skip(pos);
+			start = pos;
 			break;
-			
+
 		case End:
-			_innerInputStream.skip(_innerOutputStream.size() + pos);
+			start = _size + pos;
 			break;
 		}
-		
-		return _innerInputStream;
+
+		ByteBuffer view = _buffer.duplicate();
+		view.limit(_size);
+		view.position((int) Math.max(0, Math.min(start, _size)));
+		return new ByteBufferInputStream(view);
+	}
+
+	@Override
+	public ByteBuffer getBufferAt(long pos) {
+		if (pos < 0 || pos > _size)
+			return null;
+
+		ByteBuffer view = _buffer.duplicate();
+		view.limit(_size);
+		view.position((int) pos);
+		return view;
 	}
 
 	@Override
@@ -53,14 +132,21 @@ public class ByteArrayIOStream implements IIOStream {
 		return _innerOutputStream;
 	}
 
+	@Override
+	public boolean supportsConcurrentReads() {
+		return true;
+	}
+
 	@Override
 	public void close() throws IOException {
-		// NOP
+		HeaderCache.invalidateShared(this);
 	}
-	
+
 	public byte[] toByteArray()
 	{
-		return _innerOutputStream.toByteArray();
+		byte[] bytes = new byte[_size];
+		System.arraycopy(_buffer.array(), _buffer.arrayOffset(), bytes, 0, _size);
+		return bytes;
 	}
 
 }
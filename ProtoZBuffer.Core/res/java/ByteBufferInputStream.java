@@ -0,0 +1,81 @@
+﻿package %NAMESPACE%;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Read mode view over a ByteBuffer: the bytes are read in place, without being copied.
+ * The view reads from the buffer's position up to its limit.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer _buffer;
+
+	public ByteBufferInputStream(ByteBuffer buffer)
+	{
+		_buffer = buffer;
+	}
+
+	@Override
+	public int read() throws IOException
+	{
+		if (!_buffer.hasRemaining())
+			return -1;
+
+		return _buffer.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException
+	{
+		if (len == 0)
+			return 0;
+
+		if (!_buffer.hasRemaining())
+			return -1;
+
+		int count = Math.min(len, _buffer.remaining());
+		_buffer.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException
+	{
+		int skipped = (int) Math.max(0, Math.min(n, _buffer.remaining()));
+		_buffer.position(_buffer.position() + skipped);
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException
+	{
+		return _buffer.remaining();
+	}
+
+	@Override
+	public boolean markSupported()
+	{
+		return true;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit)
+	{
+		_buffer.mark();
+	}
+
+	@Override
+	public synchronized void reset() throws IOException
+	{
+		_buffer.reset();
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		// NOP: the buffer is owned by the IO stream
+	}
+
+}
@@ -0,0 +1,225 @@
+﻿package %NAMESPACE%;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Plugs any IIOStream into a (possibly shared) PageCache: reads are served from the cached pages,
+ * each input stream having its own cursor. Writes go straight to the underlying stream.
+ * Pages are loaded while holding the lock of the underlying stream, so that streams
+ * whose input streams share a cursor can still be read by several threads.
+ */
+public class CachedIOStream implements IIOStream {
+
+	private final IIOStream _inner;
+	private final PageCache _cache;
+	private final long _owner;
+	private final int _pageSize;
+	private final PageCache.PageLoader _loader;
+	private volatile long _position = 0;
+	private volatile boolean _readPosition = false; // whether the current position is the last read one
+
+	private class PageInputStream extends InputStream
+	{
+		private long _pos;
+		private long _mark;
+		private byte[] _page = null;
+		private long _pageIndex = -1;
+
+		public PageInputStream(long pos)
+		{
+			_pos = pos;
+			_mark = pos;
+		}
+
+		/**
+		 * @return the page containing _pos: kept until the cursor leaves it
+		 */
+		private byte[] currentPage() throws IOException
+		{
+			long index = _pos / _pageSize;
+			if (index != _pageIndex)
+			{
+				_page = _cache.getPage(_owner, index, _loader);
+				_pageIndex = index;
+			}
+			return _page;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			byte[] page = currentPage();
+			int offset = (int) (_pos % _pageSize);
+			if (offset >= page.length)
+				return -1;
+
+			_pos++;
+			return page[offset] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (len == 0)
+				return 0;
+
+			int read = 0;
+			while (read < len)
+			{
+				byte[] page = currentPage();
+				int offset = (int) (_pos % _pageSize);
+				if (offset >= page.length)
+					break;
+
+				int chunk = Math.min(page.length - offset, len - read);
+				System.arraycopy(page, offset, b, off + read, chunk);
+				_pos += chunk;
+				read += chunk;
+			}
+			return read == 0 ? -1 : read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException
+		{
+			long skipped = Math.max(0, n);
+			_pos += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported()
+		{
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readlimit)
+		{
+			_mark = _pos;
+		}
+
+		@Override
+		public synchronized void reset() throws IOException
+		{
+			_pos = _mark;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			// NOP: we should close the stream only at IO stream level
+		}
+	}
+
+	public CachedIOStream(IIOStream inner)
+	{
+		this(inner, PageCache.getShared());
+	}
+
+	public CachedIOStream(IIOStream inner, PageCache cache)
+	{
+		_inner = inner;
+		_cache = cache;
+		_owner = cache.register();
+		_pageSize = cache.getPageSize();
+		_loader = new PageCache.PageLoader() {
+			@Override
+			public byte[] load(long index) throws IOException {
+				return readPage(index);
+			}
+		};
+	}
+
+	/**
+	 * Reads a page from the underlying stream: up to the page size, less at its end
+	 */
+	private byte[] readPage(long index) throws IOException
+	{
+		byte[] page = new byte[_pageSize];
+		int read = 0;
+		synchronized (_inner)
+		{
+			InputStream input = _inner.getInputStreamAt(index * _pageSize);
+			if (input == null)
+				throw new IOException("Can't read page " + index);
+
+			while (read < _pageSize)
+			{
+				int count = input.read(page, read, _pageSize - read);
+				if (count < 0)
+					break;
+				read += count;
+			}
+		}
+
+		if (read == _pageSize)
+			return page;
+
+		byte[] last = new byte[read];
+		System.arraycopy(page, 0, last, 0, read);
+		return last;
+	}
+
+	@Override
+	public long getPosition() {
+		if (_readPosition)
+			return _position;
+
+		synchronized (_inner)
+		{
+			return _inner.getPosition();
+		}
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos) {
+		return getInputStreamAt(pos, E_SeekOrigin.Begin);
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		long position = pos;
+		if (seekDir == E_SeekOrigin.End)
+		{
+			// the length of the underlying stream isn't cached: it grows when written
+			synchronized (_inner)
+			{
+				if (_inner.getInputStreamAt(0, E_SeekOrigin.End) == null)
+					return null;
+				position = _inner.getPosition() + pos;
+			}
+		}
+
+		_position = position;
+		_readPosition = true;
+		return new PageInputStream(position);
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		synchronized (_inner)
+		{
+			_readPosition = false;
+			return _inner.getOutputStream();
+		}
+	}
+
+	/**
+	 * @return true: the pages are loaded with the lock of the underlying stream held, whatever its cursors
+	 */
+	@Override
+	public boolean supportsConcurrentReads() {
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		HeaderCache.invalidateShared(this);
+		_cache.invalidate(_owner);
+		_inner.close();
+	}
+
+}
@@ -0,0 +1,66 @@
+﻿package %NAMESPACE%;
+
+import java.util.zip.Checksum;
+
+/**
+ * CRC32C (Castagnoli polynomial), the checksum of iSCSI, ext4 or LevelDB: java.util.zip only provides it from Java 9.
+ * The bytes are processed 8 at a time, with 8 lookup tables.
+ */
+public class Crc32c implements Checksum {
+
+	private static final int POLYNOMIAL = 0x82F63B78; // reversed Castagnoli polynomial
+	private static final int[][] TABLES = new int[8][256];
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			int crc = i;
+			for (int bit = 0; bit < 8; bit++)
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+			TABLES[0][i] = crc;
+		}
+		for (int i = 0; i < 256; i++) {
+			for (int t = 1; t < 8; t++)
+				TABLES[t][i] = (TABLES[t - 1][i] >>> 8) ^ TABLES[0][TABLES[t - 1][i] & 0xFF];
+		}
+	}
+
+	private int _crc = 0xFFFFFFFF;
+
+	/**
+	 * @return the checksum of length bytes of b, from off
+	 */
+	public static int compute(byte[] b, int off, int length) {
+		Crc32c crc = new Crc32c();
+		crc.update(b, off, length);
+		return (int) crc.getValue();
+	}
+
+	@Override
+	public void update(int b) {
+		_crc = (_crc >>> 8) ^ TABLES[0][(_crc ^ b) & 0xFF];
+	}
+
+	@Override
+	public void update(byte[] b, int off, int len) {
+		int crc = _crc;
+		int end = off + len;
+		for (; off + 8 <= end; off += 8) {
+			int low = crc ^ ((b[off] & 0xFF) | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | (b[off + 3] & 0xFF) << 24);
+			crc = TABLES[7][low & 0xFF] ^ TABLES[6][(low >>> 8) & 0xFF] ^ TABLES[5][(low >>> 16) & 0xFF] ^ TABLES[4][low >>> 24]
+				^ TABLES[3][b[off + 4] & 0xFF] ^ TABLES[2][b[off + 5] & 0xFF] ^ TABLES[1][b[off + 6] & 0xFF] ^ TABLES[0][b[off + 7] & 0xFF];
+		}
+		for (; off < end; off++)
+			crc = (crc >>> 8) ^ TABLES[0][(crc ^ b[off]) & 0xFF];
+		_crc = crc;
+	}
+
+	@Override
+	public long getValue() {
+		return ~_crc & 0xFFFFFFFFL;
+	}
+
+	@Override
+	public void reset() {
+		_crc = 0xFFFFFFFF;
+	}
+}
@@ -0,0 +1,88 @@
+﻿package %NAMESPACE%;
+
+import java.nio.ByteBuffer;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Parser;
+
+/**
+ * Decodes delimited headers straight from the buffers of an IDirectIOStream: the size and the header
+ * are read in place from heap buffers, and through a per thread scratch array from direct ones,
+ * without the input stream and the buffered CodedInputStream of parseDelimitedFrom.
+ */
+public final class DirectParser {
+
+	private static final int MAX_SCRATCH_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<byte[]> _scratch = new ThreadLocal<byte[]>() {
+		@Override
+		protected byte[] initialValue() {
+			return new byte[256];
+		}
+	};
+
+	private DirectParser() {
+	}
+
+	/**
+	 * @param stream the content stream
+	 * @param pos position of a delimited header (varint size followed by the header)
+	 * @param parser parser of the header type
+	 * @return the decoded header, or null if stream doesn't hold it in a single buffer:
+	 * it then has to be decoded from stream.getInputStreamAt(pos)
+	 * @throws InvalidProtocolBufferException
+	 */
+	public static <T> T parseDelimited(IIOStream stream, long pos, Parser<T> parser) throws InvalidProtocolBufferException {
+		if (!(stream instanceof IDirectIOStream))
+			return null;
+
+		ByteBuffer buffer = ((IDirectIOStream) stream).getBufferAt(pos);
+		if (buffer == null)
+			return null;
+
+		// varint size, read with absolute gets
+		int index = buffer.position();
+		int limit = buffer.limit();
+		int size = 0;
+		for (int shift = 0; ; shift += 7) {
+			if (index >= limit || shift > 28)
+				return null;
+
+			byte b = buffer.get(index++);
+			size |= (b & 0x7F) << shift;
+			if (b >= 0)
+				break;
+		}
+
+		// the header spans the end of the buffer
+		if (size < 0 || size > limit - index)
+			return null;
+
+		// as through its input streams, a metered stream counts the bytes of the size and of the header
+		if (stream instanceof MeteredIOStream)
+			((MeteredIOStream) stream).countDirectRead(index - buffer.position() + size);
+
+		if (buffer.hasArray())
+			return parser.parseFrom(buffer.array(), buffer.arrayOffset() + index, size);
+
+		byte[] scratch = scratch(size);
+		buffer.position(index);
+		buffer.get(scratch, 0, size);
+		return parser.parseFrom(scratch, 0, size);
+	}
+
+	/**
+	 * @return an array of at least size bytes, kept for the next headers of the thread unless it is too large
+	 */
+	private static byte[] scratch(int size) {
+		if (size > MAX_SCRATCH_SIZE)
+			return new byte[size];
+
+		byte[] scratch = _scratch.get();
+		if (scratch.length < size) {
+			scratch = new byte[Math.max(size, scratch.length * 2)];
+			_scratch.set(scratch);
+		}
+		return scratch;
+	}
+}
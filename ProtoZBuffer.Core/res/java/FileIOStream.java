@@ -5,12 +5,38 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
+/**
+ * File based stream. By default, all the input streams share the file pointer: the stream can't be read by several threads.
+ * In concurrent mode and in buffered mode, each input stream has its own cursor and reads the file with positional reads,
+ * so that one document can be decoded by many threads (writes still have to be done by a single thread).
+ */
 public class FileIOStream implements IIOStream {
 
+	public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+	public static final int DEFAULT_CACHE_CAPACITY = 256;
+
+	private static final int POSITIONAL_BUFFER_SIZE = 1024;
+
 	private RandomAccessFile _file;
+	private FileChannel _channel;
+	private boolean _concurrent = false;
+	private volatile boolean _readPosition = false; // concurrent mode: whether the current position is the last read one
 	private FileInputStream _innerInputStream;
 	private FileOutputStream _innerOutputStream;
+
+	// buffered mode: only used when _blockSize > 0
+	private int _blockSize = 0;
+	private PageCache _blocks;
+	private long _owner;
+	private PageCache.PageLoader _blockLoader;
+	private byte[] _writeBuffer;
+	private int _writeCount = 0;
+	private volatile long _length = 0;
+	private volatile long _position = 0;
+	private CoalescingOutputStream _coalescingOutputStream;
 	
 	private class FileInputStream extends InputStream
 	{
@@ -109,6 +135,254 @@ public class FileIOStream implements IIOStream {
 		
 	}
 	
+	/**
+	 * Concurrent mode: reads are positional reads of the file channel, with its own cursor.
+	 * Small reads (e.g. varints) are served from a read-ahead buffer.
+	 */
+	private class PositionalInputStream extends InputStream
+	{
+		private final ByteBuffer _buffer = ByteBuffer.allocate(POSITIONAL_BUFFER_SIZE);
+		private long _pos; // file position of the buffer's position
+		private long _mark;
+
+		public PositionalInputStream(long pos)
+		{
+			_pos = pos;
+			_mark = pos;
+			_buffer.limit(0);
+		}
+
+		private boolean fill() throws IOException
+		{
+			_buffer.clear();
+			int read = _channel.read(_buffer, _pos);
+			_buffer.flip();
+			return read > 0;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			if (!_buffer.hasRemaining() && !fill())
+				return -1;
+
+			_pos++;
+			return _buffer.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (len == 0)
+				return 0;
+
+			if (!_buffer.hasRemaining())
+			{
+				if (len >= _buffer.capacity())
+				{
+					// bypass the buffer for big reads
+					int read = _channel.read(ByteBuffer.wrap(b, off, len), _pos);
+					if (read > 0)
+						_pos += read;
+					return read;
+				}
+
+				if (!fill())
+					return -1;
+			}
+
+			int count = Math.min(len, _buffer.remaining());
+			_buffer.get(b, off, count);
+			_pos += count;
+			return count;
+		}
+
+		@Override
+		public long skip(long n) throws IOException
+		{
+			long skipped = Math.max(0, Math.min(n, _channel.size() - _pos));
+			_pos += skipped;
+			if (skipped < _buffer.remaining())
+				_buffer.position(_buffer.position() + (int) skipped);
+			else
+				_buffer.limit(0);
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported()
+		{
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readlimit)
+		{
+			_mark = _pos;
+		}
+
+		@Override
+		public synchronized void reset() throws IOException
+		{
+			_pos = _mark;
+			_buffer.limit(0);
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			// NOP: we should close the file only at IO stream level
+		}
+	}
+
+	/**
+	 * Buffered mode: reads are served from the block cache, with its own cursor
+	 */
+	private class BlockInputStream extends InputStream
+	{
+		private long _pos;
+		private long _mark;
+		private byte[] _block = null;
+		private long _blockIndex = -1;
+
+		public BlockInputStream(long pos)
+		{
+			_pos = pos;
+			_mark = pos;
+		}
+
+		/**
+		 * @return the block containing _pos: kept until the cursor leaves it
+		 */
+		private byte[] currentBlock() throws IOException
+		{
+			long index = _pos / _blockSize;
+			if (index != _blockIndex)
+			{
+				_block = getBlock(index);
+				_blockIndex = index;
+			}
+			return _block;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			byte[] block = currentBlock();
+			int offset = (int) (_pos % _blockSize);
+			if (offset >= block.length)
+				return -1;
+
+			_pos++;
+			return block[offset] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (len == 0)
+				return 0;
+
+			int read = 0;
+			while (read < len)
+			{
+				byte[] block = currentBlock();
+				int offset = (int) (_pos % _blockSize);
+				if (offset >= block.length)
+					break;
+
+				int chunk = Math.min(block.length - offset, len - read);
+				System.arraycopy(block, offset, b, off + read, chunk);
+				_pos += chunk;
+				read += chunk;
+			}
+			return read == 0 ? -1 : read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException
+		{
+			long skipped = Math.max(0, Math.min(n, _length - _pos));
+			_pos += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException
+		{
+			return (int) Math.max(0, Math.min(Integer.MAX_VALUE, _length - _pos));
+		}
+
+		@Override
+		public boolean markSupported()
+		{
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readlimit)
+		{
+			_mark = _pos;
+		}
+
+		@Override
+		public synchronized void reset() throws IOException
+		{
+			_pos = _mark;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			// NOP: we should close the file only at IO stream level
+		}
+	}
+
+	/**
+	 * Buffered mode: appended bytes are coalesced in a write buffer,
+	 * flushed when it is full, before a read, and on close
+	 */
+	private class CoalescingOutputStream extends OutputStream
+	{
+		@Override
+		public void write(int b) throws IOException {
+			if (_writeCount == _writeBuffer.length)
+				flushWrites();
+			_writeBuffer[_writeCount++] = (byte) b;
+			_position++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (len >= _writeBuffer.length)
+			{
+				// too big to be coalesced: write it directly
+				flushWrites();
+				_file.seek(_length);
+				_file.write(b, off, len);
+				_length += len;
+				_position += len;
+				return;
+			}
+
+			if (_writeCount + len > _writeBuffer.length)
+				flushWrites();
+			System.arraycopy(b, off, _writeBuffer, _writeCount, len);
+			_writeCount += len;
+			_position += len;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// NOP: we should close the file only at IO stream level
+		}
+
+		@Override
+		public void flush() throws IOException {
+			flushWrites();
+		}
+	}
+
 	public FileIOStream(String path) throws IOException
 	{
 		this(path, false);
@@ -129,26 +403,154 @@ public class FileIOStream implements IIOStream {
 		_file = new RandomAccessFile(path, "rw");
 		if (truncate)
 			_file.setLength(0);
+		_channel = _file.getChannel();
 		_innerInputStream = new FileInputStream(_file);
 		_innerOutputStream = new FileOutputStream(_file);
 	}
-	
+
+	/**
+	 * Opens the file in concurrent mode (if concurrentReads is set): each input stream reads the file
+	 * with positional reads and its own cursor, so that the stream can be read by several threads.
+	 * @param path file to open
+	 * @param truncate whether to empty the file
+	 * @param concurrentReads whether to open the file in concurrent mode
+	 * @throws IOException
+	 */
+	public FileIOStream(File path, boolean truncate, boolean concurrentReads) throws IOException
+	{
+		this(path, truncate);
+		_concurrent = concurrentReads;
+	}
+
+	/**
+	 * Opens the file in buffered mode: reads go through a private cache of aligned blocks,
+	 * and appended bytes are coalesced into block sized writes, flushed on close.
+	 * @param path file to open
+	 * @param truncate whether to empty the file
+	 * @param blockSize size in bytes of a cached block, and of the write buffer
+	 * @param cacheCapacity maximum number of cached blocks
+	 * @throws IOException
+	 */
+	public FileIOStream(File path, boolean truncate, int blockSize, int cacheCapacity) throws IOException
+	{
+		this(path, truncate, privateCache(blockSize, cacheCapacity));
+	}
+
+	/**
+	 * Validates the parameters of a private block cache before creating it
+	 */
+	private static PageCache privateCache(int blockSize, int cacheCapacity)
+	{
+		if (blockSize <= 0)
+			throw new IllegalArgumentException("Block size must be positive");
+		if (cacheCapacity <= 0)
+			throw new IllegalArgumentException("Cache capacity must be positive");
+
+		return new PageCache((long) blockSize * cacheCapacity, blockSize);
+	}
+
+	/**
+	 * Opens the file in buffered mode, its blocks being cached in a (possibly shared) page cache, 
+	 * e.g. PageCache.getShared(). The block size is the cache's page size.
+	 * @param path file to open
+	 * @param truncate whether to empty the file
+	 * @param cache cache in which the blocks of the file are kept
+	 * @throws IOException
+	 */
+	public FileIOStream(File path, boolean truncate, PageCache cache) throws IOException
+	{
+		this(path, truncate);
+
+		_blockSize = cache.getPageSize();
+		_blocks = cache;
+		_owner = cache.register();
+		_blockLoader = new PageCache.PageLoader() {
+			@Override
+			public byte[] load(long index) throws IOException {
+				return readBlock(index);
+			}
+		};
+		_writeBuffer = new byte[_blockSize];
+		_length = _file.length();
+		_coalescingOutputStream = new CoalescingOutputStream();
+	}
+
+	/**
+	 * @return whether the stream was opened in buffered mode
+	 */
+	public boolean isBuffered()
+	{
+		return _blockSize > 0;
+	}
+
+	/**
+	 * @return whether the input streams have their own cursor (concurrent or buffered mode),
+	 * so that the stream can be read by several threads
+	 */
 	@Override
-	public int getPosition() {
+	public boolean supportsConcurrentReads()
+	{
+		return _concurrent || isBuffered();
+	}
+
+	/**
+	 * Returns the block of given index, reading it from the file if it isn't cached.
+	 * The last block of the file may be shorter than the block size: it isn't cached, as appending would change it.
+	 */
+	private byte[] getBlock(long index) throws IOException
+	{
+		return _blocks.getPage(_owner, index, _blockLoader);
+	}
+
+	private byte[] readBlock(long index) throws IOException
+	{
+		long start = index * _blockSize;
+		byte[] block = new byte[(int) Math.max(0, Math.min(_blockSize, _length - start))];
+		ByteBuffer buffer = ByteBuffer.wrap(block);
+		while (buffer.hasRemaining())
+		{
+			if (_channel.read(buffer, start + buffer.position()) < 0)
+				throw new IOException("Unexpected end of file");
+		}
+		return block;
+	}
+
+	private void flushWrites() throws IOException
+	{
+		if (_writeCount == 0)
+			return;
+
+		_file.seek(_length);
+		_file.write(_writeBuffer, 0, _writeCount);
+		_length += _writeCount;
+		_writeCount = 0;
+	}
+
+	@Override
+	public long getPosition() {
+		if (isBuffered() || (_concurrent && _readPosition))
+			return _position;
+
 		try {
-			return (int) _file.getFilePointer();
+			return _file.getFilePointer();
 		} catch (IOException e) {
 			return -1;
 		}
 	}
 
 	@Override
-	public InputStream getInputStreamAt(int pos) {
+	public InputStream getInputStreamAt(long pos) {
 		return getInputStreamAt(pos, E_SeekOrigin.Begin);
 	}
 
 	@Override
-	public InputStream getInputStreamAt(int pos, E_SeekOrigin seekDir) {
+	public InputStream getInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		if (isBuffered())
+			return getBlockInputStreamAt(pos, seekDir);
+
+		if (_concurrent)
+			return getPositionalInputStreamAt(pos, seekDir);
+
 		try {
 			switch(seekDir)
 			{
@@ -167,11 +569,64 @@ public class FileIOStream implements IIOStream {
 		}
 	}
 
+	private InputStream getBlockInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		try {
+			// pending writes have to be visible to the readers
+			flushWrites();
+
+			long position = 0;
+			switch(seekDir)
+			{
+			case Begin:
+				position = pos;
+				break;
+
+			case End:
+				position = _length + pos;
+				break;
+			}
+
+			_position = position;
+			return new BlockInputStream(position);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private InputStream getPositionalInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		try {
+			long position = 0;
+			switch(seekDir)
+			{
+			case Begin:
+				position = pos;
+				break;
+
+			case End:
+				position = _channel.size() + pos;
+				break;
+			}
+
+			_position = position;
+			_readPosition = true;
+			return new PositionalInputStream(position);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
 	@Override
 	public OutputStream getOutputStream() {
+		if (isBuffered())
+		{
+			_position = _length + _writeCount;
+			return _coalescingOutputStream;
+		}
+
 		try {
 			// go to end
 			_file.seek(_file.length());
+			_readPosition = false;
 			return _innerOutputStream;
 		} catch (IOException e) {
 			return null;
@@ -180,6 +635,12 @@ public class FileIOStream implements IIOStream {
 
 	@Override
 	public void close() throws IOException {
+		HeaderCache.invalidateShared(this);
+		if (isBuffered())
+		{
+			flushWrites();
+			_blocks.invalidate(_owner);
+		}
 		_file.close();
 	}
 
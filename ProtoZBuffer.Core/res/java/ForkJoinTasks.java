@@ -0,0 +1,107 @@
+﻿package %NAMESPACE%;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs independent tasks with fork-join, e.g. the builds of sibling subtrees.
+ * The tasks are split in halves until each one runs alone, so that idle workers can steal them.
+ * Called from a fork-join worker, the tasks run in the worker's pool, otherwise in the shared pool.
+ */
+public final class ForkJoinTasks {
+
+	public interface ITask {
+		void run() throws IOException;
+	}
+
+	private static volatile ForkJoinPool _pool = null;
+
+	private ForkJoinTasks() {
+	}
+
+	/**
+	 * @return the pool used when not called from a fork-join worker: one worker per processor by default
+	 */
+	public static ForkJoinPool getPool() {
+		ForkJoinPool pool = _pool;
+		if (pool == null) {
+			synchronized (ForkJoinTasks.class) {
+				if (_pool == null)
+					_pool = new ForkJoinPool();
+				pool = _pool;
+			}
+		}
+		return pool;
+	}
+
+	public static void setPool(ForkJoinPool pool) {
+		_pool = pool;
+	}
+
+	/**
+	 * Runs all the tasks, and returns once they are all done
+	 * @param tasks the tasks to run
+	 * @throws IOException the first IOException thrown by a task
+	 */
+	public static void invokeAll(List<? extends ITask> tasks) throws IOException {
+		if (tasks.isEmpty())
+			return;
+
+		RangeAction action = new RangeAction(tasks, 0, tasks.size());
+		try {
+			if (ForkJoinTask.inForkJoinPool())
+				action.invoke();
+			else
+				getPool().invoke(action);
+		} catch (RuntimeException e) {
+			// the pool may rethrow a copy of the exception: look for the IOException in the causes
+			for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+				if (cause instanceof IOException)
+					throw (IOException) cause;
+			}
+			throw e;
+		}
+	}
+
+	private static class RangeAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<? extends ITask> _tasks;
+		private final int _from;
+		private final int _to;
+
+		RangeAction(List<? extends ITask> tasks, int from, int to) {
+			_tasks = tasks;
+			_from = from;
+			_to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (_to - _from == 1) {
+				try {
+					_tasks.get(_from).run();
+				} catch (IOException e) {
+					throw new TaskException(e);
+				}
+				return;
+			}
+
+			int middle = (_from + _to) >>> 1;
+			invokeAll(new RangeAction(_tasks, _from, middle), new RangeAction(_tasks, middle, _to));
+		}
+	}
+
+	public static class TaskException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		public TaskException(Throwable cause) {
+			super(cause);
+		}
+	}
+}
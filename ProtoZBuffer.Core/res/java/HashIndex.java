@@ -0,0 +1,193 @@
+﻿package %NAMESPACE%;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+/**
+ * Open-addressing hash table stored in the content stream, mapping the hashes of the keys
+ * to the positions of the items in the indexed list.
+ * Layout: fixed32 capacity, then capacity slots made of a fixed32 hash and a fixed32 position plus one
+ * (0 for an empty slot). Collisions are resolved by linear probing, and the table is at most half full,
+ * so that a lookup usually reads a single run of slots.
+ */
+public final class HashIndex {
+
+	private static final int HEADER_SIZE = 4;
+	private static final int SLOT_SIZE = 8;
+
+	// slots read at once when probing
+	private static final int SLOTS_PER_READ = 4;
+
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	private final IIOStream _content;
+	private final long _pos;
+	private final int _capacity;
+
+	private HashIndex(IIOStream content, long pos, int capacity) {
+		_content = content;
+		_pos = pos;
+		_capacity = capacity;
+	}
+
+	/**
+	 * Spreads the bits of a hash code, so that close keys don't fill consecutive slots
+	 */
+	public static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		return hash;
+	}
+
+	/**
+	 * Writes the table of a list of items at the end of content
+	 * @param content the content stream
+	 * @param hashes mixed hash of the key of each item of the list
+	 * @return the position of the table in content
+	 * @throws IOException
+	 */
+	public static long write(IIOStream content, int[] hashes) throws IOException {
+		int capacity = Math.max(1, hashes.length * 2);
+		int[] slots = new int[capacity * 2];
+		for (int i = 0; i < hashes.length; i++) {
+			int slot = slotOf(hashes[i], capacity);
+			while (slots[slot * 2 + 1] != 0)
+				slot = (slot + 1) % capacity;
+
+			slots[slot * 2] = hashes[i];
+			slots[slot * 2 + 1] = i + 1;
+		}
+
+		// Note: sibling subtrees may be built in parallel: the position and the write go together
+		synchronized (content) {
+			OutputStream output = content.getOutputStream();
+			long pos = content.getPosition();
+
+			CodedOutputStream codedStream = CodedOutputStream.newInstance(output);
+			codedStream.writeFixed32NoTag(capacity);
+			for (int value : slots)
+				codedStream.writeFixed32NoTag(value);
+			codedStream.flush();
+			return pos;
+		}
+	}
+
+	/**
+	 * Copies the table written at pos in content at the end of output, with bounded reads:
+	 * it holds no position, so its bytes don't change.
+	 * content and output may be the same stream: each chunk is read from a fresh input stream,
+	 * since getOutputStream() moves the cursor of the streams that share one between both modes.
+	 * @return the position of the copy in output
+	 * @throws IOException
+	 */
+	public static long copy(IIOStream content, long pos, IIOStream output) throws IOException {
+		synchronized (output) {
+			byte[] header = new byte[HEADER_SIZE];
+			if (read(content.getInputStreamAt(pos), header, HEADER_SIZE) < HEADER_SIZE)
+				throw new EOFException("Truncated hash table at position " + pos);
+			long size = HEADER_SIZE + (long) CodedInputStream.newInstance(header).readFixed32() * SLOT_SIZE;
+
+			OutputStream out = output.getOutputStream();
+			long copyPos = output.getPosition();
+			out.write(header);
+
+			byte[] buffer = new byte[(int) Math.min(size - HEADER_SIZE, COPY_BUFFER_SIZE)];
+			for (long done = HEADER_SIZE; done < size; ) {
+				int read = read(content.getInputStreamAt(pos + done), buffer, (int) Math.min(size - done, buffer.length));
+				if (read <= 0)
+					throw new EOFException("Truncated hash table at position " + pos);
+
+				out = output.getOutputStream();
+				out.write(buffer, 0, read);
+				done += read;
+			}
+			return copyPos;
+		}
+	}
+
+	/**
+	 * Opens the table written at pos in content
+	 * @throws IOException
+	 */
+	public static HashIndex open(IIOStream content, long pos) throws IOException {
+		CodedInputStream input = CodedInputStream.newInstance(content.getInputStreamAt(pos));
+		return new HashIndex(content, pos, input.readFixed32());
+	}
+
+	/**
+	 * @param hash mixed hash of the wanted key
+	 * @return the positions in the indexed list of the items whose key has this hash, in probing order.
+	 * Their keys still have to be compared with the wanted one.
+	 * @throws IOException
+	 */
+	public int[] find(int hash) throws IOException {
+		int[] candidates = new int[1];
+		int count = 0;
+
+		int slot = slotOf(hash, _capacity);
+		int probed = 0;
+		while (probed < _capacity) {
+			// a read doesn't wrap around the end of the table
+			int slots = Math.min(SLOTS_PER_READ, Math.min(_capacity - slot, _capacity - probed));
+			CodedInputStream input = CodedInputStream.newInstance(_content.getInputStreamAt(_pos + HEADER_SIZE + (long) slot * SLOT_SIZE));
+			for (int i = 0; i < slots; i++) {
+				int slotHash = input.readFixed32();
+				int item = input.readFixed32();
+				if (item == 0)
+					return Arrays.copyOf(candidates, count);
+
+				if (slotHash == hash) {
+					if (count == candidates.length)
+						candidates = Arrays.copyOf(candidates, count * 2);
+					candidates[count++] = item - 1;
+				}
+			}
+
+			probed += slots;
+			slot = (slot + slots) % _capacity;
+		}
+		return Arrays.copyOf(candidates, count);
+	}
+
+	/**
+	 * Reads the hashes stored in the table, so that the table of an edited list can be written again
+	 * without decoding its untouched items
+	 * @param count number of items of the indexed list when the table was written
+	 * @return the mixed hash of each item, by position in the list
+	 * @throws IOException
+	 */
+	public int[] hashes(int count) throws IOException {
+		int[] hashes = new int[count];
+		CodedInputStream input = CodedInputStream.newInstance(_content.getInputStreamAt(_pos + HEADER_SIZE));
+		input.setSizeLimit(Integer.MAX_VALUE);
+		for (int slot = 0; slot < _capacity; slot++) {
+			int hash = input.readFixed32();
+			int item = input.readFixed32();
+			if (item > 0 && item <= count)
+				hashes[item - 1] = hash;
+		}
+		return hashes;
+	}
+
+	private static int read(InputStream input, byte[] buffer, int length) throws IOException {
+		int total = 0;
+		while (total < length) {
+			int read = input.read(buffer, total, length - total);
+			if (read < 0)
+				break;
+			total += read;
+		}
+		return total;
+	}
+
+	private static int slotOf(int hash, int capacity) {
+		return (hash & Integer.MAX_VALUE) % capacity;
+	}
+}
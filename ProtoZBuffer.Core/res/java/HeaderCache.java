@@ -0,0 +1,203 @@
+﻿package %NAMESPACE%;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * LRU cache of decoded headers, keyed by (stream, position in the stream) and bounded by the
+ * serialized size of the headers it holds. It is shared by all the generated message types:
+ * a position of a stream always holds the same header.
+ * The streams are only weakly referenced, through a numeric owner identifier per stream, and their
+ * headers are removed from the shared cache when they are closed.
+ * The cache is optional: parseFrom only uses it once it is installed with setShared().
+ */
+public class HeaderCache {
+
+	public static final long DEFAULT_BUDGET = 16L * 1024 * 1024;
+
+	private static volatile HeaderCache _shared;
+
+	private static final class HeaderKey
+	{
+		private final long _owner;
+		private final long _pos;
+
+		public HeaderKey(long owner, long pos)
+		{
+			_owner = owner;
+			_pos = pos;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (!(other instanceof HeaderKey))
+				return false;
+
+			HeaderKey that = (HeaderKey) other;
+			return _owner == that._owner && _pos == that._pos;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			int hashCode = 17;
+			hashCode = 31 * hashCode + (int) (_owner ^ (_owner >>> 32));
+			hashCode = 31 * hashCode + (int) (_pos ^ (_pos >>> 32));
+			return hashCode;
+		}
+	}
+
+	private static final class Entry
+	{
+		private final Object _header;
+		private final int _size;
+
+		public Entry(Object header, int size)
+		{
+			_header = header;
+			_size = size;
+		}
+	}
+
+	private final long _budget;
+	private final LinkedHashMap<HeaderKey, Entry> _headers = new LinkedHashMap<HeaderKey, Entry>(16, 0.75f, true);
+	private final WeakHashMap<IIOStream, Long> _owners = new WeakHashMap<IIOStream, Long>(); // not pinned by the cache
+	private long _nextOwner = 0;
+	private long _size = 0;
+	private long _hits = 0;
+	private long _misses = 0;
+	private long _evictions = 0;
+
+	/**
+	 * @param budget maximum cumulated serialized size of the cached headers, in bytes
+	 */
+	public HeaderCache(long budget)
+	{
+		if (budget <= 0)
+			throw new IllegalArgumentException("Budget must be positive");
+
+		_budget = budget;
+	}
+
+	/**
+	 * @return the cache used by parseFrom, or null if headers aren't cached
+	 */
+	public static HeaderCache getShared()
+	{
+		return _shared;
+	}
+
+	/**
+	 * Installs the cache used by parseFrom
+	 * @param cache the cache, or null to stop caching headers
+	 */
+	public static void setShared(HeaderCache cache)
+	{
+		_shared = cache;
+	}
+
+	/**
+	 * Removes the headers read from a stream from the shared cache, if any: called by the streams when they are closed
+	 * @param stream the stream
+	 */
+	public static void invalidateShared(IIOStream stream)
+	{
+		HeaderCache cache = _shared;
+		if (cache != null)
+			cache.invalidate(stream);
+	}
+
+	public long getBudget() { return _budget; }
+
+	public synchronized long getSize() { return _size; }
+	public synchronized long getHits() { return _hits; }
+	public synchronized long getMisses() { return _misses; }
+	public synchronized long getEvictions() { return _evictions; }
+
+	/**
+	 * @param stream stream the header was read from
+	 * @param pos position of the header in the stream
+	 * @return the decoded header, or null if it isn't cached
+	 */
+	public synchronized Object get(IIOStream stream, long pos)
+	{
+		Long owner = _owners.get(stream);
+		Entry entry = owner != null ? _headers.get(new HeaderKey(owner, pos)) : null;
+		if (entry == null)
+		{
+			_misses++;
+			return null;
+		}
+
+		_hits++;
+		return entry._header;
+	}
+
+	/**
+	 * @param stream stream the header was read from
+	 * @param pos position of the header in the stream
+	 * @param header the decoded header
+	 * @param size serialized size of the header, used to account for the memory it takes
+	 */
+	public synchronized void put(IIOStream stream, long pos, Object header, int size)
+	{
+		Long owner = _owners.get(stream);
+		if (owner == null)
+		{
+			owner = _nextOwner++;
+			_owners.put(stream, owner);
+		}
+
+		Entry previous = _headers.put(new HeaderKey(owner, pos), new Entry(header, size));
+		if (previous != null)
+			_size -= previous._size;
+		_size += size;
+
+		Iterator<Entry> it = _headers.values().iterator();
+		while (_size > _budget && it.hasNext())
+		{
+			_size -= it.next()._size;
+			it.remove();
+			_evictions++;
+		}
+	}
+
+	/**
+	 * Removes all the headers read from a stream, e.g. when it is closed
+	 * @param stream the stream
+	 */
+	public synchronized void invalidate(IIOStream stream)
+	{
+		Long owner = _owners.remove(stream);
+		if (owner == null)
+			return;
+
+		Iterator<Map.Entry<HeaderKey, Entry>> it = _headers.entrySet().iterator();
+		while (it.hasNext())
+		{
+			Map.Entry<HeaderKey, Entry> entry = it.next();
+			if (entry.getKey()._owner == owner)
+			{
+				_size -= entry.getValue()._size;
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Empties the cache and resets its counters
+	 */
+	public synchronized void clear()
+	{
+		_headers.clear();
+		_owners.clear();
+		_size = 0;
+		_hits = 0;
+		_misses = 0;
+		_evictions = 0;
+	}
+
+}
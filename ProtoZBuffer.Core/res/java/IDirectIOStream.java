@@ -0,0 +1,19 @@
+﻿package %NAMESPACE%;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stream whose content is held in memory buffers, that can be read in place:
+ * headers are then decoded straight from the buffers (see DirectParser), without any input stream.
+ */
+public interface IDirectIOStream extends IIOStream {
+
+	/**
+	 * Exposes the content at absolute position pos without copying it.
+	 * @param pos byte offset relative to the beginning of the stream
+	 * @return a view positioned at pos, limited to the end of the content or of the buffer holding pos,
+	 * or null if pos isn't held in memory. The view must only be read.
+	 */
+	public ByteBuffer getBufferAt(long pos);
+
+}
@@ -14,5 +14,6 @@ public interface IFormat
 
     <T> void formatField(StringBuilder bd, String title, T field);
     <T> void formatField(StringBuilder bd, String title, List<T> field);
+    <T> void formatField(StringBuilder bd, String title, Iterable<T> field);
 
 }
\ No newline at end of file
@@ -6,6 +6,9 @@ import java.io.OutputStream;
 
 /**
  * Interface used to access a stream in both read and write mode.
+ * Implementations whose input streams have their own cursor (ByteArrayIOStream, MappedIOStream, 
+ * FileIOStream in buffered or concurrent mode...) can be read by several threads at once:
+ * they tell it through supportsConcurrentReads().
  */
 public interface IIOStream {
 
@@ -22,7 +25,7 @@ public interface IIOStream {
 	 * The current position within the stream. 
 	 * @return the current position within the stream
 	 */
-	public int getPosition();
+	public long getPosition();
 	
 	/**
 	 * Closes the stream, in both read and write mode.
@@ -35,7 +38,7 @@ public interface IIOStream {
 	 * @param pos byte offset relative to the beginning of the stream
 	 * @return stream in read mode
 	 */
-	public InputStream getInputStreamAt(int pos);
+	public InputStream getInputStreamAt(long pos);
 
 	/**
 	 * Position the stream at absolute position pos, either from its beginning or its end (based on origin), 
@@ -44,12 +47,19 @@ public interface IIOStream {
 	 * @param origin reference point used to obtain the new position
 	 * @return stream in read mode
 	 */
-	public InputStream getInputStreamAt(int pos, E_SeekOrigin origin);
+	public InputStream getInputStreamAt(long pos, E_SeekOrigin origin);
 
 	/**
 	 * Position the stream at its end, and return it in write mode
 	 * @return stream in write mode
 	 */
 	public OutputStream getOutputStream();
+
+	/**
+	 * Whether the input streams have their own cursor, so that several threads can read at once.
+	 * Wrappers tell the one of the stream they read from, unless they read it with its lock held.
+	 * @return true if the stream can be read by several threads
+	 */
+	public boolean supportsConcurrentReads();
 	
 }
@@ -0,0 +1,15 @@
+﻿package %NAMESPACE%;
+
+/**
+ * Receives the counters of a Metrics
+ */
+public interface IMetricsListener
+{
+	/**
+	 * @param name
+	 *            name of the counter
+	 * @param value
+	 *            its current value
+	 */
+	void onMetric(String name, long value);
+}
@@ -21,6 +21,17 @@ public interface IStretchableArray<T> extends Iterable<T>
      */
     T get(int index);
 
+    /**
+     * sets an item, unless the index is already holding one
+     *
+     * @param index
+     *            index
+     * @param value
+     *            value
+     * @return the item held at index after the call
+     */
+    T setIfAbsent(int index, T value);
+
     /**
      * @return size of the collection
      */
@@ -0,0 +1,72 @@
+﻿package %NAMESPACE%;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator over the children of a repeated field, by index: it splits on ranges of consecutive indexes,
+ * and each child is decoded by the function given, e.g. peek...(index), when the range reaches it.
+ * The halves of a range can be scanned by separate threads if the content stream supports concurrent reads.
+ *
+ * @param <T>
+ *            type of the children
+ */
+public class IndexSpliterator<T> implements Spliterator<T> {
+
+	private final IntFunction<T> _items;
+	private int _from;
+	private final int _to;
+
+	/**
+	 * @param items decodes the child of given index
+	 * @param from first index (inclusive)
+	 * @param to last index (exclusive)
+	 */
+	public IndexSpliterator(IntFunction<T> items, int from, int to) {
+		_items = items;
+		_from = from;
+		_to = to;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (_from >= _to)
+			return false;
+
+		action.accept(_items.apply(_from++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		int to = _to;
+		for (int i = _from; i < to; i++)
+			action.accept(_items.apply(i));
+		_from = to;
+	}
+
+	/**
+	 * @return the first half of the remaining indexes, this one keeping the second half, or null if only one is left
+	 */
+	@Override
+	public Spliterator<T> trySplit() {
+		int middle = (_from + _to) >>> 1;
+		if (middle <= _from)
+			return null;
+
+		Spliterator<T> first = new IndexSpliterator<T>(_items, _from, middle);
+		_from = middle;
+		return first;
+	}
+
+	@Override
+	public long estimateSize() {
+		return _to - _from;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+	}
+}
@@ -5,6 +5,9 @@ import java.util.ArrayList;
 import java.util.Iterator;
 
 /**
+ * Cache of the decoded children of a built object.
+ * It is synchronized, so that a built document can be decoded by several threads.
+ *
  * @param <T>
  *            parameter
  */
@@ -21,7 +24,7 @@ public class LazyArray<T> implements IStretchableArray<T>
      *            item value
      */
     @Override
-    public void set(int index, T value)
+    public synchronized void set(int index, T value)
     {
         while (content.size() <= index)
             content.add(new SoftReference<T>(null));
@@ -37,7 +40,7 @@ public class LazyArray<T> implements IStretchableArray<T>
      * @return the item or null
      */
     @Override
-    public T get(int index)
+    public synchronized T get(int index)
     {
         if (index < content.size())
             return content.get(index).get();
@@ -46,19 +49,30 @@ public class LazyArray<T> implements IStretchableArray<T>
     }
 
     @Override
-    public int size()
+    public synchronized T setIfAbsent(int index, T value)
+    {
+        T current = get(index);
+        if (current != null)
+            return current;
+
+        set(index, value);
+        return value;
+    }
+
+    @Override
+    public synchronized int size()
     {
         return content.size();
     }
 
     @Override
-    public void add(T item)
+    public synchronized void add(T item)
     {
         content.add(new SoftReference<T>(item));
     }
 
     @Override
-    public void clear()
+    public synchronized void clear()
     {
         content.clear();
     }
@@ -66,7 +80,13 @@ public class LazyArray<T> implements IStretchableArray<T>
     @Override
     public Iterator<T> iterator()
     {
-        return Extensions.map(content, new IMapper<SoftReference<T>, T>()
+        ArrayList<SoftReference<T>> snapshot;
+        synchronized (this)
+        {
+            snapshot = new ArrayList<SoftReference<T>>(content);
+        }
+
+        return Extensions.map(snapshot, new IMapper<SoftReference<T>, T>()
         {
 
             @Override
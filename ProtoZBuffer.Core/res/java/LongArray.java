@@ -0,0 +1,59 @@
+﻿package %NAMESPACE%;
+
+import java.util.Arrays;
+
+/**
+ * growable array of primitive longs: 8 bytes per item, without boxing.
+ */
+public class LongArray
+{
+    private long[] content;
+    private int size = 0;
+
+    public LongArray()
+    {
+        this(16);
+    }
+
+    /**
+     * @param initialCapacity
+     *            number of items before the first growth
+     */
+    public LongArray(int initialCapacity)
+    {
+        content = new long[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * gets an item
+     *
+     * @param index
+     *            the index
+     * @return the item
+     */
+    public long get(int index)
+    {
+        if (index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return content[index];
+    }
+
+    public void add(long item)
+    {
+        if (size == content.length)
+            content = Arrays.copyOf(content, content.length * 2);
+
+        content[size++] = item;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public void clear()
+    {
+        size = 0;
+    }
+}
@@ -0,0 +1,323 @@
+﻿package %NAMESPACE%;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * File based stream whose read mode is served from memory mapped segments of the file.
+ * Reading a header doesn't involve any system call once its pages are in the page cache.
+ * Writes are appended through the file channel, and the mapping is extended on the next read.
+ * Each input stream has its own cursor, so that the stream can be read by several threads
+ * (writes still have to be done by a single thread, at a cursor that the reads don't move).
+ * Headers can also be decoded in place (see IDirectIOStream).
+ */
+public class MappedIOStream implements IDirectIOStream {
+
+	/**
+	 * Size of a mapped segment: a single MappedByteBuffer can't address more than 2GB
+	 */
+	private static final long SEGMENT_SIZE = 1L << 30;
+
+	/**
+	 * Mapped segments and mapped length, published together: a reader never sees the segments
+	 * of one mapping with the length of another
+	 */
+	private static final class Mapping
+	{
+		private final MappedByteBuffer[] _segments;
+		private final long _length;
+
+		public Mapping(MappedByteBuffer[] segments, long length)
+		{
+			_segments = segments;
+			_length = length;
+		}
+	}
+
+	private static final Mapping EMPTY = new Mapping(new MappedByteBuffer[0], 0);
+
+	private RandomAccessFile _file;
+	private FileChannel _channel;
+	private volatile Mapping _mapping = EMPTY;
+	private volatile boolean _dirty = true; // whether the file may have grown since it was mapped
+	private volatile long _writePosition; // where MappedOutputStream appends: the input streams have their own cursors
+	private MappedOutputStream _innerOutputStream;
+
+	private static class MappedInputStream extends InputStream
+	{
+		private final MappedByteBuffer[] _segments;
+		private final long _limit;
+		private long _pos;
+		private long _mark;
+		private ByteBuffer _current = null;
+		private int _currentIndex = -1;
+
+		public MappedInputStream(MappedByteBuffer[] segments, long pos, long limit)
+		{
+			_segments = segments;
+			_pos = pos;
+			_mark = pos;
+			_limit = limit;
+		}
+
+		/**
+		 * Positions the view of the segment containing _pos
+		 * @return number of bytes readable from the current segment, or 0 at the end of the stream
+		 */
+		private int prepare()
+		{
+			if (_pos >= _limit)
+				return 0;
+
+			int index = (int) (_pos / SEGMENT_SIZE);
+			if (index != _currentIndex)
+			{
+				_current = _segments[index].duplicate();
+				_currentIndex = index;
+			}
+			_current.position((int) (_pos % SEGMENT_SIZE));
+			return (int) Math.min(_current.remaining(), _limit - _pos);
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			if (prepare() == 0)
+				return -1;
+
+			_pos++;
+			return _current.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (len == 0)
+				return 0;
+
+			int read = 0;
+			while (read < len)
+			{
+				int available = prepare();
+				if (available == 0)
+					break;
+
+				int chunk = Math.min(available, len - read);
+				_current.get(b, off + read, chunk);
+				_pos += chunk;
+				read += chunk;
+			}
+			return read == 0 ? -1 : read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException
+		{
+			long skipped = Math.max(0, Math.min(n, _limit - _pos));
+			_pos += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException
+		{
+			return (int) Math.min(Integer.MAX_VALUE, _limit - _pos);
+		}
+
+		@Override
+		public boolean markSupported()
+		{
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readlimit)
+		{
+			_mark = _pos;
+		}
+
+		@Override
+		public synchronized void reset() throws IOException
+		{
+			_pos = _mark;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			// NOP: we should close the file only at IO stream level
+		}
+	}
+
+	private class MappedOutputStream extends OutputStream
+	{
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+			while (buffer.hasRemaining())
+				_writePosition += _channel.write(buffer, _writePosition);
+			_dirty = true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// NOP: we should close the file only at IO stream level
+		}
+
+		@Override
+		public void flush() throws IOException {
+			// NOP: the channel writes through to the file
+		}
+	}
+
+	public MappedIOStream(String path) throws IOException
+	{
+		this(path, false);
+	}
+
+	public MappedIOStream(File path) throws IOException
+	{
+		this(path, false);
+	}
+
+	public MappedIOStream(String path, boolean truncate) throws IOException
+	{
+		this(new File(path), truncate);
+	}
+
+	public MappedIOStream(File path, boolean truncate) throws IOException
+	{
+		_file = new RandomAccessFile(path, "rw");
+		if (truncate)
+			_file.setLength(0);
+		_channel = _file.getChannel();
+		_writePosition = _channel.size();
+		_innerOutputStream = new MappedOutputStream();
+	}
+
+	/**
+	 * Maps the part of the file which has been appended since the last mapping.
+	 * Segments that were already fully mapped are kept as is.
+	 * @throws IOException
+	 */
+	private synchronized void remap() throws IOException
+	{
+		if (!_dirty)
+			return;
+
+		_dirty = false;
+		Mapping mapping = _mapping;
+		long length = _channel.size();
+		if (length == mapping._length)
+			return;
+
+		int count = (int) ((length + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+		MappedByteBuffer[] segments = new MappedByteBuffer[count];
+
+		// the last segment may have been partially mapped: map it again
+		int kept = (int) (mapping._length / SEGMENT_SIZE);
+		System.arraycopy(mapping._segments, 0, segments, 0, Math.min(kept, count));
+
+		for (int i = kept; i < count; i++)
+		{
+			long start = i * SEGMENT_SIZE;
+			long size = Math.min(SEGMENT_SIZE, length - start);
+			segments[i] = _channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+		}
+
+		_mapping = new Mapping(segments, length);
+	}
+
+	/**
+	 * @return the write cursor, as ByteArrayIOStream does: reads don't move it
+	 */
+	@Override
+	public long getPosition() {
+		return _writePosition;
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos) {
+		return getInputStreamAt(pos, E_SeekOrigin.Begin);
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		try {
+			if (_dirty)
+				remap();
+
+			Mapping mapping = _mapping;
+			long position = 0;
+			switch(seekDir)
+			{
+			case Begin:
+				position = pos;
+				break;
+
+			case End:
+				position = mapping._length + pos;
+				break;
+			}
+
+			return new MappedInputStream(mapping._segments, position, mapping._length);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public ByteBuffer getBufferAt(long pos) {
+		try {
+			if (_dirty)
+				remap();
+		} catch (IOException e) {
+			return null;
+		}
+
+		Mapping mapping = _mapping;
+		if (pos < 0 || pos >= mapping._length)
+			return null;
+
+		// a header spanning two segments isn't held by a single buffer: the view stops at the end of the segment
+		ByteBuffer view = mapping._segments[(int) (pos / SEGMENT_SIZE)].duplicate();
+		view.position((int) (pos % SEGMENT_SIZE));
+		return view;
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		try {
+			// go to end
+			_writePosition = _channel.size();
+			return _innerOutputStream;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean supportsConcurrentReads() {
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		HeaderCache.invalidateShared(this);
+		_mapping = EMPTY;
+		_dirty = false;
+		_file.close();
+	}
+
+}
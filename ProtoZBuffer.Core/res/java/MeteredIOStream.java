@@ -0,0 +1,131 @@
+﻿package %NAMESPACE%;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Counts the seeks and the bytes read and written of any IIOStream into a Metrics.
+ * Streams that aren't wrapped aren't measured, and cost nothing more.
+ * The buffers of a direct inner stream are exposed as well: DirectParser counts the bytes it decodes from them.
+ */
+public class MeteredIOStream implements IDirectIOStream {
+
+	private final IIOStream _inner;
+	private final Metrics _metrics;
+
+	private class MeteredInputStream extends FilterInputStream
+	{
+		public MeteredInputStream(InputStream input)
+		{
+			super(input);
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			int b = super.read();
+			if (b >= 0)
+				_metrics.countRead(1);
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			int count = super.read(b, off, len);
+			if (count > 0)
+				_metrics.countRead(count);
+			return count;
+		}
+	}
+
+	private class MeteredOutputStream extends FilterOutputStream
+	{
+		public MeteredOutputStream(OutputStream output)
+		{
+			super(output);
+		}
+
+		@Override
+		public void write(int b) throws IOException
+		{
+			out.write(b);
+			_metrics.countWritten(1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException
+		{
+			out.write(b, off, len);
+			_metrics.countWritten(len);
+		}
+	}
+
+	public MeteredIOStream(IIOStream inner)
+	{
+		this(inner, Metrics.getShared());
+	}
+
+	public MeteredIOStream(IIOStream inner, Metrics metrics)
+	{
+		_inner = inner;
+		_metrics = metrics;
+	}
+
+	@Override
+	public long getPosition() {
+		return _inner.getPosition();
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos) {
+		return getInputStreamAt(pos, E_SeekOrigin.Begin);
+	}
+
+	@Override
+	public InputStream getInputStreamAt(long pos, E_SeekOrigin seekDir) {
+		InputStream input = _inner.getInputStreamAt(pos, seekDir);
+		if (input == null)
+			return null;
+
+		_metrics.countSeek();
+		return new MeteredInputStream(input);
+	}
+
+	@Override
+	public ByteBuffer getBufferAt(long pos) {
+		if (!(_inner instanceof IDirectIOStream))
+			return null;
+
+		return ((IDirectIOStream) _inner).getBufferAt(pos);
+	}
+
+	/**
+	 * Counts a read done in place from a buffer returned by getBufferAt(), as a seek and its bytes
+	 * @param bytes number of bytes read
+	 */
+	public void countDirectRead(long bytes) {
+		_metrics.countSeek();
+		_metrics.countRead(bytes);
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		return new MeteredOutputStream(_inner.getOutputStream());
+	}
+
+	@Override
+	public boolean supportsConcurrentReads() {
+		return _inner.supportsConcurrentReads();
+	}
+
+	@Override
+	public void close() throws IOException {
+		HeaderCache.invalidateShared(this);
+		_inner.close();
+	}
+}
@@ -0,0 +1,155 @@
+﻿package %NAMESPACE%;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the work done to read documents: seeks and bytes of the streams wrapped in a MeteredIOStream,
+ * and headers decoded per message type, references resolved and cache hits and misses of the generated code.
+ * The generated code counts in the shared instance only when the JVM runs with -Dprotozbuffer.metrics=true:
+ * otherwise its checks of ENABLED are compiled away. Can be updated by several threads.
+ */
+public class Metrics {
+
+	public static final boolean ENABLED = Boolean.getBoolean("protozbuffer.metrics");
+
+	public static final String SEEKS = "io.seeks";
+	public static final String BYTES_READ = "io.bytesRead";
+	public static final String BYTES_WRITTEN = "io.bytesWritten";
+	public static final String HEADERS = "headers.";
+	public static final String REFERENCES = "references.resolved";
+	public static final String REFERENCE_DEPTH = "references.depth";
+	public static final String REFERENCE_MAX_DEPTH = "references.maxDepth";
+	public static final String CACHE = "cache.";
+
+	/**
+	 * Caches whose hits and misses are counted
+	 */
+	public enum E_Cache
+	{
+		Header, // the shared HeaderCache
+		Reference, // the ReferenceCache of a root
+		Lazy // the decoded children of a built object
+	}
+
+	private static final Metrics _shared = new Metrics();
+
+	private final AtomicLong _seeks = new AtomicLong();
+	private final AtomicLong _bytesRead = new AtomicLong();
+	private final AtomicLong _bytesWritten = new AtomicLong();
+	private final ConcurrentMap<String, AtomicLong> _headers = new ConcurrentHashMap<String, AtomicLong>();
+	private final AtomicLong _references = new AtomicLong();
+	private final AtomicLong _referenceDepth = new AtomicLong();
+	private final AtomicLong _referenceMaxDepth = new AtomicLong();
+	private final AtomicLong[] _hits = newCounters(E_Cache.values().length);
+	private final AtomicLong[] _misses = newCounters(E_Cache.values().length);
+
+	private static AtomicLong[] newCounters(int count) {
+		AtomicLong[] counters = new AtomicLong[count];
+		for (int i = 0; i < count; i++)
+			counters[i] = new AtomicLong();
+		return counters;
+	}
+
+	/**
+	 * @return the instance the generated code counts in when ENABLED
+	 */
+	public static Metrics getShared() {
+		return _shared;
+	}
+
+	public void countSeek() {
+		_seeks.incrementAndGet();
+	}
+
+	public void countRead(long bytes) {
+		_bytesRead.addAndGet(bytes);
+	}
+
+	public void countWritten(long bytes) {
+		_bytesWritten.addAndGet(bytes);
+	}
+
+	/**
+	 * @param type name of the message type whose header was decoded from the content stream
+	 */
+	public void countHeader(String type) {
+		AtomicLong counter = _headers.get(type);
+		if (counter == null) {
+			AtomicLong added = new AtomicLong();
+			counter = _headers.putIfAbsent(type, added);
+			if (counter == null)
+				counter = added;
+		}
+		counter.incrementAndGet();
+	}
+
+	/**
+	 * @param depth number of coordinates of the path of the resolved reference
+	 */
+	public void countReference(int depth) {
+		_references.incrementAndGet();
+		_referenceDepth.addAndGet(depth);
+
+		long current = _referenceMaxDepth.get();
+		while (depth > current && !_referenceMaxDepth.compareAndSet(current, depth))
+			current = _referenceMaxDepth.get();
+	}
+
+	public void countHit(E_Cache cache) {
+		_hits[cache.ordinal()].incrementAndGet();
+	}
+
+	public void countMiss(E_Cache cache) {
+		_misses[cache.ordinal()].incrementAndGet();
+	}
+
+	/**
+	 * @return the current value of every counter, by name: the constants of this class,
+	 * HEADERS followed by a message type, and CACHE followed by a cache and ".hits" or ".misses"
+	 */
+	public Map<String, Long> snapshot() {
+		Map<String, Long> snapshot = new TreeMap<String, Long>();
+		snapshot.put(SEEKS, _seeks.get());
+		snapshot.put(BYTES_READ, _bytesRead.get());
+		snapshot.put(BYTES_WRITTEN, _bytesWritten.get());
+		for (Map.Entry<String, AtomicLong> entry : _headers.entrySet())
+			snapshot.put(HEADERS + entry.getKey(), entry.getValue().get());
+		snapshot.put(REFERENCES, _references.get());
+		snapshot.put(REFERENCE_DEPTH, _referenceDepth.get());
+		snapshot.put(REFERENCE_MAX_DEPTH, _referenceMaxDepth.get());
+		for (E_Cache cache : E_Cache.values()) {
+			snapshot.put(CACHE + cache.name().toLowerCase() + ".hits", _hits[cache.ordinal()].get());
+			snapshot.put(CACHE + cache.name().toLowerCase() + ".misses", _misses[cache.ordinal()].get());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Reports the current value of every counter to a listener, e.g. to feed a monitoring system
+	 */
+	public void export(IMetricsListener listener) {
+		for (Map.Entry<String, Long> entry : snapshot().entrySet())
+			listener.onMetric(entry.getKey(), entry.getValue());
+	}
+
+	/**
+	 * Sets all the counters back to 0
+	 */
+	public void reset() {
+		_seeks.set(0);
+		_bytesRead.set(0);
+		_bytesWritten.set(0);
+		_headers.clear();
+		_references.set(0);
+		_referenceDepth.set(0);
+		_referenceMaxDepth.set(0);
+		for (E_Cache cache : E_Cache.values()) {
+			_hits[cache.ordinal()].set(0);
+			_misses[cache.ordinal()].set(0);
+		}
+	}
+}
@@ -0,0 +1,200 @@
+﻿package %NAMESPACE%;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of fixed size pages read from IIOStreams, bounded by a memory budget in bytes.
+ * A single cache can be shared by all the streams opened in the process (see getShared()),
+ * so that hot headers stay in memory across documents while the total memory stays bounded.
+ * Pages are keyed by (stream, page index). Only full pages are kept: since streams are only 
+ * ever appended to, a full page can't become stale.
+ */
+public class PageCache {
+
+	public static final int DEFAULT_PAGE_SIZE = 64 * 1024;
+	public static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+	private static PageCache _shared;
+
+	/**
+	 * Loads a page of a stream
+	 */
+	public interface PageLoader
+	{
+		/**
+		 * @param index index of the page in the stream
+		 * @return content of the page: shorter than the page size if it is the last one of the stream
+		 * @throws IOException
+		 */
+		byte[] load(long index) throws IOException;
+	}
+
+	private static final class PageKey
+	{
+		private final long _owner;
+		private final long _index;
+
+		public PageKey(long owner, long index)
+		{
+			_owner = owner;
+			_index = index;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (!(other instanceof PageKey))
+				return false;
+
+			PageKey that = (PageKey) other;
+			return _owner == that._owner && _index == that._index;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			int hashCode = 17;
+			hashCode = 31 * hashCode + (int) (_owner ^ (_owner >>> 32));
+			hashCode = 31 * hashCode + (int) (_index ^ (_index >>> 32));
+			return hashCode;
+		}
+	}
+
+	private final long _budget;
+	private final int _pageSize;
+	private final LinkedHashMap<PageKey, byte[]> _pages = new LinkedHashMap<PageKey, byte[]>(16, 0.75f, true);
+	private long _size = 0;
+	private long _nextOwner = 0;
+	private long _hits = 0;
+	private long _misses = 0;
+	private long _evictions = 0;
+
+	/**
+	 * @param budget maximum number of bytes held by the cache
+	 * @param pageSize size of a page in bytes
+	 */
+	public PageCache(long budget, int pageSize)
+	{
+		if (budget <= 0 || pageSize <= 0)
+			throw new IllegalArgumentException("Budget and page size must be positive");
+
+		_budget = budget;
+		_pageSize = pageSize;
+	}
+
+	/**
+	 * @return the process wide cache, created with the default budget and page size on first use
+	 */
+	public static synchronized PageCache getShared()
+	{
+		if (_shared == null)
+			_shared = new PageCache(DEFAULT_BUDGET, DEFAULT_PAGE_SIZE);
+		return _shared;
+	}
+
+	/**
+	 * Replaces the process wide cache. Streams already using the previous one keep using it.
+	 * @param cache the new process wide cache
+	 */
+	public static synchronized void setShared(PageCache cache)
+	{
+		_shared = cache;
+	}
+
+	public long getBudget() { return _budget; }
+	public int getPageSize() { return _pageSize; }
+
+	public synchronized long getSize() { return _size; }
+	public synchronized long getHits() { return _hits; }
+	public synchronized long getMisses() { return _misses; }
+	public synchronized long getEvictions() { return _evictions; }
+
+	/**
+	 * @return a new identifier, used by a stream to key its pages
+	 */
+	public synchronized long register()
+	{
+		return _nextOwner++;
+	}
+
+	/**
+	 * Returns a page, loading it if it isn't cached.
+	 * The loading is done outside of the cache lock, so a slow read doesn't block the other streams.
+	 * @param owner identifier of the stream, as returned by register()
+	 * @param index index of the page
+	 * @param loader used to read the page on a miss
+	 * @return content of the page
+	 * @throws IOException
+	 */
+	public byte[] getPage(long owner, long index, PageLoader loader) throws IOException
+	{
+		PageKey key = new PageKey(owner, index);
+		synchronized (this)
+		{
+			byte[] page = _pages.get(key);
+			if (page != null)
+			{
+				_hits++;
+				return page;
+			}
+			_misses++;
+		}
+
+		byte[] page = loader.load(index);
+		if (page.length != _pageSize)
+			return page;
+
+		synchronized (this)
+		{
+			if (_pages.put(key, page) == null)
+				_size += page.length;
+			evict();
+		}
+		return page;
+	}
+
+	/**
+	 * Removes all the pages of a stream, e.g. when it is closed
+	 * @param owner identifier of the stream, as returned by register()
+	 */
+	public synchronized void invalidate(long owner)
+	{
+		Iterator<Map.Entry<PageKey, byte[]>> it = _pages.entrySet().iterator();
+		while (it.hasNext())
+		{
+			Map.Entry<PageKey, byte[]> entry = it.next();
+			if (entry.getKey()._owner == owner)
+			{
+				_size -= entry.getValue().length;
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Empties the cache and resets its counters
+	 */
+	public synchronized void clear()
+	{
+		_pages.clear();
+		_size = 0;
+		_hits = 0;
+		_misses = 0;
+		_evictions = 0;
+	}
+
+	private void evict()
+	{
+		Iterator<byte[]> it = _pages.values().iterator();
+		while (_size > _budget && it.hasNext())
+		{
+			_size -= it.next().length;
+			it.remove();
+			_evictions++;
+		}
+	}
+
+}
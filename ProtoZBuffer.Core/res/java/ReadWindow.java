@@ -0,0 +1,139 @@
+﻿package %NAMESPACE%;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the content stream by sequential windows, to decode many delimited headers with few reads.
+ * The positions to read are known beforehand and requested in increasing order: when the requested
+ * header isn't in the current window, a single read covers it and the following positions, as long as
+ * they are at most maxGap bytes apart and the read stays under maxSize bytes. Sparse positions are
+ * thus read separately, without the bytes between them.
+ */
+public class ReadWindow {
+
+	public static final int DEFAULT_SIZE = 256 * 1024;
+	public static final int DEFAULT_GAP = 16 * 1024;
+
+	// bytes read after the last position of a window, for its header: a bigger one is read again
+	private static final int TAIL_SIZE = 4 * 1024;
+
+	private final IIOStream _stream;
+	private final long[] _positions;
+	private final int _maxSize;
+	private final int _maxGap;
+	private int _next = 0;
+	private byte[] _bytes = new byte[0];
+	private long _start = 0;
+	private int _length = 0;
+	private int _reads = 0;
+
+	/**
+	 * @param stream the content stream
+	 * @param positions positions of the headers that will be read, in increasing order
+	 */
+	public ReadWindow(IIOStream stream, long[] positions) {
+		this(stream, positions, DEFAULT_SIZE, DEFAULT_GAP);
+	}
+
+	/**
+	 * @param stream the content stream
+	 * @param positions positions of the headers that will be read, in increasing order
+	 * @param maxSize maximum number of bytes read at once
+	 * @param maxGap distance between two positions above which they are read separately
+	 */
+	public ReadWindow(IIOStream stream, long[] positions, int maxSize, int maxGap) {
+		_stream = stream;
+		_positions = positions;
+		_maxSize = maxSize;
+		_maxGap = maxGap;
+	}
+
+	/**
+	 * @param pos position of a delimited message (varint size followed by the message)
+	 * @return an input stream holding the whole delimited message, from pos
+	 * @throws IOException
+	 */
+	public InputStream getDelimitedInputStreamAt(long pos) throws IOException {
+		int length = delimitedLength(pos);
+		if (length < 0 || !contains(pos, length)) {
+			load(pos, Math.max(spanFrom(pos), length));
+			length = delimitedLength(pos);
+
+			// bigger than its window
+			if (length > _length)
+				load(pos, length);
+		}
+
+		if (length < 0 || !contains(pos, length))
+			throw new EOFException("Truncated message at position " + pos);
+
+		return new ByteArrayInputStream(_bytes, (int) (pos - _start), length);
+	}
+
+	/**
+	 * @return number of reads of the content stream so far
+	 */
+	public int getReads() {
+		return _reads;
+	}
+
+	/**
+	 * @return the number of bytes to read from pos: up to the last of the following positions
+	 * that can be read at once
+	 */
+	private int spanFrom(long pos) {
+		while (_next < _positions.length && _positions[_next] < pos)
+			_next++;
+
+		long end = pos;
+		for (int i = _next; i < _positions.length; i++) {
+			long next = _positions[i];
+			if (next - end > _maxGap || next + TAIL_SIZE - pos > _maxSize)
+				break;
+			end = Math.max(end, next);
+		}
+		return (int) (end - pos) + TAIL_SIZE;
+	}
+
+	private boolean contains(long pos, int length) {
+		return pos >= _start && pos + length <= _start + _length;
+	}
+
+	/**
+	 * @return the length of the delimited message at pos, varint included, or -1 if the varint isn't in the window
+	 */
+	private int delimitedLength(long pos) {
+		int size = 0;
+		for (int shift = 0, i = 0; shift < 32; shift += 7, i++) {
+			if (!contains(pos, i + 1))
+				return -1;
+
+			byte b = _bytes[(int) (pos - _start) + i];
+			size |= (b & 0x7F) << shift;
+			if (b >= 0)
+				return i + 1 + size;
+		}
+		return -1;
+	}
+
+	private void load(long pos, int size) throws IOException {
+		if (_bytes.length < size)
+			_bytes = new byte[size];
+
+		InputStream input = _stream.getInputStreamAt(pos);
+		int length = 0;
+		while (length < size) {
+			int read = input.read(_bytes, length, size - length);
+			if (read < 0)
+				break;
+			length += read;
+		}
+
+		_start = pos;
+		_length = length;
+		_reads++;
+	}
+}
@@ -0,0 +1,126 @@
+﻿package %NAMESPACE%;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LRU cache of resolved references, held by the root of a document and keyed by the coordinates
+ * of the referenced object. The root empties it when it is flushed.
+ */
+public class ReferenceCache {
+
+	public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+	private static final class CoordinateKey
+	{
+		private final int[] _coordinates;
+		private final int _hashCode;
+
+		public CoordinateKey(List<Integer> coordinates)
+		{
+			_coordinates = new int[coordinates.size()];
+			for (int i = 0; i < _coordinates.length; i++)
+				_coordinates[i] = coordinates.get(i);
+			_hashCode = Arrays.hashCode(_coordinates);
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			return other instanceof CoordinateKey && Arrays.equals(_coordinates, ((CoordinateKey) other)._coordinates);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return _hashCode;
+		}
+	}
+
+	private final LinkedHashMap<CoordinateKey, Object> _resolved;
+	private long _hits = 0;
+	private long _misses = 0;
+
+	public ReferenceCache()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity maximum number of resolved references kept
+	 */
+	public ReferenceCache(final int capacity)
+	{
+		_resolved = new LinkedHashMap<CoordinateKey, Object>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CoordinateKey, Object> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	public synchronized long getHits() { return _hits; }
+	public synchronized long getMisses() { return _misses; }
+
+	/**
+	 * @param coordinates coordinates of the referenced object
+	 * @return the resolved object, or null if it isn't cached
+	 */
+	public synchronized Object get(List<Integer> coordinates)
+	{
+		Object resolved = _resolved.get(new CoordinateKey(coordinates));
+		if (resolved == null)
+			_misses++;
+		else
+			_hits++;
+		return resolved;
+	}
+
+	/**
+	 * @param coordinates coordinates of the referenced object
+	 * @param resolved the resolved object
+	 */
+	public synchronized void put(List<Integer> coordinates, Object resolved)
+	{
+		_resolved.put(new CoordinateKey(coordinates), resolved);
+	}
+
+	public synchronized void clear()
+	{
+		_resolved.clear();
+	}
+
+	/**
+	 * Order in which to resolve a batch of references: sorted by coordinates, so that 
+	 * references sharing a path are resolved one after the other
+	 * @param coordinates coordinates of the references
+	 * @return indexes in coordinates, in resolution order
+	 */
+	public static Integer[] resolutionOrder(final List<? extends List<Integer>> coordinates)
+	{
+		Integer[] order = new Integer[coordinates.size()];
+		for (int i = 0; i < order.length; i++)
+			order[i] = i;
+
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer o1, Integer o2) {
+				List<Integer> left = coordinates.get(o1);
+				List<Integer> right = coordinates.get(o2);
+				int n = Math.min(left.size(), right.size());
+				for (int i = 0; i < n; i++)
+				{
+					int cmp = left.get(i).compareTo(right.get(i));
+					if (cmp != 0)
+						return cmp;
+				}
+				return left.size() - right.size();
+			}
+		});
+		return order;
+	}
+
+}
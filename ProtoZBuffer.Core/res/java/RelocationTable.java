@@ -0,0 +1,133 @@
+﻿package %NAMESPACE%;
+
+/**
+ * Positions in the output of the headers copied by writeDelimitedTo(), by their position in the content:
+ * an open-addressing table of primitive longs (16 bytes per slot, at most half full), growing up to a
+ * maximum number of entries. Once full, the following copies aren't recorded and the references to them
+ * keep their coordinates only, so that the memory taken by a copy doesn't grow with the document.
+ */
+public class RelocationTable
+{
+    public static final int DEFAULT_MAX_ENTRIES = 256 * 1024;
+
+    private static final int INITIAL_SLOTS = 16;
+
+    private static volatile int _defaultMaxEntries = DEFAULT_MAX_ENTRIES;
+
+    private final int _maxEntries;
+    private long[] _keys = new long[INITIAL_SLOTS]; // position in the content plus one, 0 for an empty slot
+    private long[] _values = new long[INITIAL_SLOTS];
+    private int _count = 0;
+
+    public RelocationTable()
+    {
+        this(_defaultMaxEntries);
+    }
+
+    /**
+     * @param maxEntries
+     *            maximum number of recorded copies
+     */
+    public RelocationTable(int maxEntries)
+    {
+        if (maxEntries < 0)
+            throw new IllegalArgumentException("Maximum number of entries can't be negative");
+
+        _maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the maximum number of entries of the tables created from now on by writeDelimitedTo()
+     */
+    public static int getDefaultMaxEntries()
+    {
+        return _defaultMaxEntries;
+    }
+
+    /**
+     * Sets the maximum number of entries of the tables created from now on by writeDelimitedTo()
+     *
+     * @param maxEntries
+     *            maximum number of recorded copies, 0 to copy all the references with their coordinates only
+     */
+    public static void setDefaultMaxEntries(int maxEntries)
+    {
+        if (maxEntries < 0)
+            throw new IllegalArgumentException("Maximum number of entries can't be negative");
+
+        _defaultMaxEntries = maxEntries;
+    }
+
+    /**
+     * records a copy, unless the table is full
+     *
+     * @param positionInContent
+     *            position of the header in the content
+     * @param positionInOutput
+     *            position of its copy in the output
+     */
+    public void put(long positionInContent, long positionInOutput)
+    {
+        int slot = find(positionInContent);
+        if (_keys[slot] == 0)
+        {
+            if (_count == _maxEntries)
+                return;
+
+            if ((_count + 1) * 2 > _keys.length)
+            {
+                grow();
+                slot = find(positionInContent);
+            }
+            _keys[slot] = positionInContent + 1;
+            _count++;
+        }
+        _values[slot] = positionInOutput;
+    }
+
+    /**
+     * @param positionInContent
+     *            position of a header in the content
+     * @return the position of its copy in the output, or -1 if it isn't recorded
+     */
+    public long get(long positionInContent)
+    {
+        int slot = find(positionInContent);
+        return _keys[slot] != 0 ? _values[slot] : -1;
+    }
+
+    public int size()
+    {
+        return _count;
+    }
+
+    /**
+     * @return the slot holding positionInContent, or the empty slot ending its probe sequence
+     */
+    private int find(long positionInContent)
+    {
+        long key = positionInContent + 1;
+        int mask = _keys.length - 1;
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (_keys[slot] != 0 && _keys[slot] != key)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private void grow()
+    {
+        long[] keys = _keys;
+        long[] values = _values;
+        _keys = new long[keys.length * 2];
+        _values = new long[keys.length * 2];
+        for (int i = 0; i < keys.length; i++)
+        {
+            if (keys[i] == 0)
+                continue;
+
+            int slot = find(keys[i] - 1);
+            _keys[slot] = keys[i];
+            _values[slot] = values[i];
+        }
+    }
+}
@@ -32,6 +32,17 @@ public class StretchableArray<T> implements IStretchableArray<T>
         content.set(index, value);
     }
 
+    @Override
+    public T setIfAbsent(int index, T value)
+    {
+        T current = get(index);
+        if (current != null)
+            return current;
+
+        set(index, value);
+        return value;
+    }
+
     /**
      * gets an item or null
      *
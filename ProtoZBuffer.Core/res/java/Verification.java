@@ -0,0 +1,52 @@
+﻿package %NAMESPACE%;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Result of the verification of a document: the number of headers decoded,
+ * and the lowest position of a header that couldn't be decoded. Can be updated by several threads.
+ */
+public class Verification {
+
+	private final AtomicLong _headers = new AtomicLong();
+	private final AtomicLong _firstBadPosition = new AtomicLong(Long.MAX_VALUE);
+
+	public void countHeader() {
+		_headers.incrementAndGet();
+	}
+
+	/**
+	 * @param pos position of a header that can't be decoded: kept if it is lower than the ones reported so far
+	 */
+	public void reportBad(long pos) {
+		long current = _firstBadPosition.get();
+		while (pos < current && !_firstBadPosition.compareAndSet(current, pos))
+			current = _firstBadPosition.get();
+	}
+
+	/**
+	 * @return the number of headers decoded
+	 */
+	public long getHeaderCount() {
+		return _headers.get();
+	}
+
+	/**
+	 * @return the lowest position of a header that can't be decoded, or -1
+	 */
+	public long getFirstBadPosition() {
+		long pos = _firstBadPosition.get();
+		return pos == Long.MAX_VALUE ? -1 : pos;
+	}
+
+	public boolean isValid() {
+		return getFirstBadPosition() < 0;
+	}
+
+	@Override
+	public String toString() {
+		return isValid()
+			? getHeaderCount() + " headers verified"
+			: "Bad header at position " + getFirstBadPosition() + " (" + getHeaderCount() + " headers verified)";
+	}
+}
@@ -1,6 +1,7 @@
 ﻿using System.IO;
 using NUnit.Framework;
 using ProtoZBuffer.Core;
+using ProtoZBuffer.Core.Generators;
 
 namespace ProtoZBuffer.Tests
 {
@@ -184,6 +185,89 @@ message FileHeader
     required string filename= 3;
 }
 
+message LocalMessageDescriptor
+{
+    repeated int32 coordinate = 1 [packed=true];
+}
+";
+            Assert.That(foo, Is.Not.Null);
+            var writer = new StringWriter();
+            ProtoGenerator.Generate(foo, writer, "bar");
+            Assert.That(writer.ToString().RemoveCarriageReturn(), Is.EqualTo(result.RemoveCarriageReturn()));
+        }
+
+        [Test]
+        public void IndexWithKeys()
+        {
+            var foo = ProtozbuffLoader.Load(new StringReader(@"<?xml version=""1.0"" encoding=""utf-8"" ?>
+<protozbuff xmlns=""http://tempuri.org/protoZ.xsd"">
+  <message name=""Folder"" description=""Document definition"">
+    <field id=""1"" name=""name"" type=""referenceMessage"" messageType=""File""
+           description=""Folder Name."" modifier=""repeated"" />
+    <index id=""2"" name=""myIndex"" forField=""1"" sortBy=""size"" keysId=""3"" />
+  </message>
+  <message name=""File"" description=""File desc"">
+     <field id=""3"" name=""size"" type=""uint32"" modifier=""required"" />
+  </message>
+</protozbuff>"));
+
+            const string result = @"package bar;
+
+message FolderHeader
+{
+  //repeated FileHeader name= 1;
+    repeated LocalMessageDescriptor name= 1;
+  //repeated FileHeader myIndex= 2;
+    repeated LocalMessageDescriptor myIndex= 2;
+    repeated uint32 myIndexKeys= 3 [packed=true];
+}
+
+message FileHeader
+{
+    required uint32 size= 3;
+}
+
+message LocalMessageDescriptor
+{
+    repeated int32 coordinate = 1 [packed=true];
+}
+";
+            Assert.That(foo, Is.Not.Null);
+            var writer = new StringWriter();
+            ProtoGenerator.Generate(foo, writer, "bar");
+            Assert.That(writer.ToString().RemoveCarriageReturn(), Is.EqualTo(result.RemoveCarriageReturn()));
+        }
+
+        [Test]
+        public void HashIndex()
+        {
+            var foo = ProtozbuffLoader.Load(new StringReader(@"<?xml version=""1.0"" encoding=""utf-8"" ?>
+<protozbuff xmlns=""http://tempuri.org/protoZ.xsd"">
+  <message name=""Folder"" description=""Document definition"">
+    <field id=""1"" name=""name"" type=""referenceMessage"" messageType=""File""
+           description=""Folder Name."" modifier=""repeated"" />
+    <index id=""2"" name=""myIndex"" forField=""1"" sortBy=""filename"" kind=""hash"" />
+  </message>
+  <message name=""File"" description=""File desc"">
+     <field id=""3"" name=""filename"" type=""string"" modifier=""required"" />
+  </message>
+</protozbuff>"));
+
+            const string result = @"package bar;
+
+message FolderHeader
+{
+  //repeated FileHeader name= 1;
+    repeated LocalMessageDescriptor name= 1;
+  //hash table of name by filename
+    optional uint64 myIndex= 2; // position of the table in the content
+}
+
+message FileHeader
+{
+    required string filename= 3;
+}
+
 message LocalMessageDescriptor
 {
     repeated int32 coordinate = 1 [packed=true];
@@ -214,7 +298,7 @@ message LocalMessageDescriptor
 message FolderHeader
 {
   //required FileHeader name= 1;
-    required uint32 name= 1;
+    required uint64 name= 1;
 }
 
 message FileHeader
@@ -232,5 +316,136 @@ message LocalMessageDescriptor
             ProtoGenerator.Generate(foo, writer, "bar");
             Assert.That(writer.ToString().RemoveCarriageReturn(), Is.EqualTo(result.RemoveCarriageReturn()));
         }
+
+        [Test]
+        public void OffsetReference()
+        {
+            var foo = ProtozbuffLoader.Load(new StringReader(@"<?xml version=""1.0"" encoding=""utf-8"" ?>
+<protozbuff xmlns=""http://tempuri.org/protoZ.xsd"">
+  <message name=""Folder"" description=""Document definition"">
+    <field id=""1"" name=""files"" type=""nestedMessage"" messageType=""File""
+           description=""Files."" modifier=""repeated"" />
+    <field id=""2"" name=""main"" type=""referenceMessage"" messageType=""File""
+           description=""Main file."" modifier=""optional"" referenceEncoding=""offset"" />
+  </message>
+  <message name=""File"" description=""File desc"">
+     <field id=""3"" name=""filename"" type=""string"" modifier=""required"" />
+  </message>
+</protozbuff>"));
+
+            const string result = @"package bar;
+
+message FolderHeader
+{
+  //repeated FileHeader files= 1;
+    repeated uint64 files= 1 [packed=true];
+  //optional FileHeader main= 2;
+    optional LocalMessageDescriptor main= 2;
+}
+
+message FileHeader
+{
+    required string filename= 3;
+}
+
+message LocalMessageDescriptor
+{
+    repeated int32 coordinate = 1 [packed=true];
+    optional uint64 offset = 2; // position of the referenced message in the content, when known at build time
+}
+";
+            Assert.That(foo, Is.Not.Null);
+            var writer = new StringWriter();
+            ProtoGenerator.Generate(foo, writer, "bar");
+            Assert.That(writer.ToString().RemoveCarriageReturn(), Is.EqualTo(result.RemoveCarriageReturn()));
+        }
+
+        private class JavaCodeGenerator : JavaGenerator
+        {
+            public bool Generate(protozbuffType p)
+            {
+                return GenerateLazyImplementation(p);
+            }
+        }
+
+        [Test]
+        public void JavaReferenceSettersCompareTheRootOfTheirArgument()
+        {
+            var foo = ProtozbuffLoader.Load(new StringReader(@"<?xml version=""1.0"" encoding=""utf-8"" ?>
+<protozbuff xmlns=""http://tempuri.org/protoZ.xsd"">
+  <message name=""Folder"" description=""Document definition"">
+    <field id=""1"" name=""files"" type=""nestedMessage"" messageType=""File""
+           description=""Files."" modifier=""repeated"" />
+    <field id=""2"" name=""main"" type=""referenceMessage"" messageType=""File""
+           description=""Main file."" modifier=""optional"" />
+    <field id=""3"" name=""opened"" type=""referenceMessage"" messageType=""File""
+           description=""Opened files."" modifier=""repeated"" />
+  </message>
+  <message name=""File"" description=""File desc"">
+     <field id=""4"" name=""filename"" type=""string"" modifier=""required"" />
+  </message>
+</protozbuff>"));
+
+            var folder = Path.Combine(Path.GetTempPath(), Path.GetRandomFileName());
+            try
+            {
+                var generator = new JavaCodeGenerator { OutputFolder = folder, Namespace = "bar", ProtoZFile = "foo.xml" };
+                Assert.That(generator.Generate(foo), Is.True);
+
+                // the root has no _root field: the setters of its references go through getRoot()
+                var code = File.ReadAllText(Path.Combine(folder, "bar", "generated", "AbstractFolder.java"));
+                Assert.That(code, Does.Contain("if (getRoot() != value.getRoot())"));
+                Assert.That(code, Does.Contain("if (getRoot() != item.getRoot())"));
+            }
+            finally
+            {
+                Directory.Delete(folder, true);
+            }
+        }
+
+        [Test]
+        public void JavaBuildAfterEditLocatesTheOffsetsToTheEditedObjectsAgain()
+        {
+            var foo = ProtozbuffLoader.Load(new StringReader(@"<?xml version=""1.0"" encoding=""utf-8"" ?>
+<protozbuff xmlns=""http://tempuri.org/protoZ.xsd"">
+  <message name=""Folder"" description=""Document definition"">
+    <field id=""1"" name=""files"" type=""nestedMessage"" messageType=""File""
+           description=""Files."" modifier=""repeated"" />
+    <field id=""2"" name=""groups"" type=""nestedMessage"" messageType=""Group""
+           description=""Groups of files."" modifier=""repeated"" />
+  </message>
+  <message name=""File"" description=""File desc"">
+     <field id=""3"" name=""filename"" type=""string"" modifier=""required"" />
+  </message>
+  <message name=""Group"" description=""Group desc"">
+     <field id=""4"" name=""main"" type=""referenceMessage"" messageType=""File""
+            modifier=""optional"" referenceEncoding=""offset"" />
+  </message>
+</protozbuff>"));
+
+            var folder = Path.Combine(Path.GetTempPath(), Path.GetRandomFileName());
+            try
+            {
+                var generator = new JavaCodeGenerator { OutputFolder = folder, Namespace = "bar", ProtoZFile = "foo.xml" };
+                Assert.That(generator.Generate(foo), Is.True);
+
+                // an edited target leaves its previous position to the root...
+                var file = File.ReadAllText(Path.Combine(folder, "bar", "generated", "AbstractFile.java"));
+                Assert.That(file, Does.Contain("keepReplaced(_positionInContent);"));
+
+                // ...whose build edits the holders of an offset to it
+                var group = File.ReadAllText(Path.Combine(folder, "bar", "generated", "AbstractGroup.java"));
+                Assert.That(group, Does.Contain("stale |= header.hasMain() && header.getMain().hasOffset() && replaced.contains(header.getMain().getOffset());"));
+
+                var root = File.ReadAllText(Path.Combine(folder, "bar", "generated", "AbstractFolder.java"));
+                Assert.That(root, Does.Contain("repointOffsets(_replaced);"));
+                Assert.That(root, Does.Contain("getGroups(i).repointOffsets(replaced);"));
+                Assert.That(root, Does.Not.Contain("getFiles(i).repointOffsets(replaced);"));
+            }
+            finally
+            {
+                Directory.Delete(folder, true);
+            }
+        }
     }
 }